@@ -0,0 +1,65 @@
+package com.efrota.recruitingprocess.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
+import com.efrota.recruitingprocess.model.dto.JobOfferDTO;
+import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+
+/**
+ * Benchmarks for {@link EntityDTOConverter#convertToDTO}.
+ *
+ * @author edmundofrota
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityDTOConverterBenchmark {
+
+	@State(Scope.Thread)
+	public static class Entities {
+		JobOffer offer;
+		JobApplication application;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			offer = new JobOffer(1, "benchmark offer", new Date(), 42);
+
+			application = new JobApplication();
+			application.setId(1);
+			application.setJobOffer(offer);
+			application.setCandidateEmail("candidate@benchmark.com");
+			application.setResumeText("Benchmark resume: java, spring, hibernate, sql, rest.");
+			application.setJobApplicationStatusEnum(JobApplicationStatusEnum.INVITED);
+		}
+	}
+
+	@Benchmark
+	public JobApplicationDTO convertApplicationToDTO(Entities entities) {
+		return EntityDTOConverter.convertToDTO(entities.application);
+	}
+
+	@Benchmark
+	public JobOfferDTO convertOfferToDTO(Entities entities) {
+		return EntityDTOConverter.convertToDTO(entities.offer);
+	}
+}
@@ -0,0 +1,151 @@
+package com.efrota.recruitingprocess.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.efrota.recruitingprocess.RecruitingProcessApplication;
+import com.efrota.recruitingprocess.config.ExecutionModeEnvironmentPostProcessor;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+/**
+ * Load comparison of the <code>platform</code> and <code>virtual</code>
+ * execution modes (see {@link ExecutionModeEnvironmentPostProcessor}).
+ *
+ * Each trial boots the application with its web server on a random port and
+ * 1000 JMH threads, one per client, look up applications by candidate email
+ * over HTTP, so that every request holds a thread during a blocking JDBC
+ * call. The <code>virtual</code> mode requires the build for Java 21, so
+ * Maven and the benchmark must run on a Java 21 JDK. The amount of clients
+ * can be overridden with <code>-t</code>.
+ *
+ * @author edmundofrota
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(1000)
+@Fork(1)
+public class ExecutionModeLoadBenchmark {
+
+	private static final String LOOKUP_URL = "http://localhost:%d/recruiting-process/api/applications/?candidateEmail=%s";
+	private static final String APPLICATION_JSON = "application/json";
+
+	@State(Scope.Benchmark)
+	public static class WebServerState {
+
+		@Param({ "platform", "virtual" })
+		public String executionMode;
+
+		@Param({ "10000" })
+		public int applications;
+
+		private ConfigurableApplicationContext context;
+		private int port;
+		private final List<String> emails = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			context = new SpringApplicationBuilder(RecruitingProcessApplication.class)
+					.initializers(ctx -> ctx.getBeanFactory().registerSingleton(
+							SeededDatabaseState.TestConfigurationExcludeFilter.class.getName(),
+							new SeededDatabaseState.TestConfigurationExcludeFilter()))
+					.run(
+							"--execution.mode=" + executionMode,
+							"--server.port=0",
+							"--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+							"--spring.devtools.restart.enabled=false",
+							"--spring.jpa.open-in-view=false",
+							"--logging.level.root=WARN");
+
+			port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+			seed(context.getBean(JobOfferService.class), context.getBean(JobApplicationService.class));
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			context.close();
+		}
+
+		private void seed(JobOfferService jobOfferService, JobApplicationService jobApplicationService) {
+			JobOffer offer = new JobOffer();
+			offer.setTitle("load offer");
+			jobOfferService.create(offer);
+
+			List<JobApplication> batch = new ArrayList<>(JobApplicationConstants.MAX_BATCH_SIZE);
+
+			for (int i = 0; i < applications; i++) {
+				JobOffer jobOffer = new JobOffer();
+				jobOffer.setTitle(offer.getTitle());
+
+				JobApplication application = new JobApplication();
+				application.setJobOffer(jobOffer);
+				application.setCandidateEmail(String.format("load-%d@benchmark.com", i));
+				application.setResumeText("Load resume.");
+				batch.add(application);
+				emails.add(application.getCandidateEmail());
+
+				if (batch.size() == JobApplicationConstants.MAX_BATCH_SIZE) {
+					jobApplicationService.createAll(batch);
+					batch.clear();
+				}
+			}
+
+			if (!batch.isEmpty()) {
+				jobApplicationService.createAll(batch);
+			}
+		}
+
+		String randomLookupUrl() {
+			return String.format(LOOKUP_URL, port, emails.get(ThreadLocalRandom.current().nextInt(emails.size())));
+		}
+	}
+
+	@Benchmark
+	public int findByCandidateEmail(WebServerState server) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) URI.create(server.randomLookupUrl()).toURL().openConnection();
+		connection.setRequestProperty("Accept", APPLICATION_JSON);
+		connection.setRequestProperty("Content-Type", APPLICATION_JSON);
+
+		int status = connection.getResponseCode();
+
+		try (InputStream body = connection.getInputStream()) {
+			byte[] buffer = new byte[8192];
+			while (body.read(buffer) != -1) {
+				// drain the response so that the connection is kept alive
+			}
+		}
+
+		return status;
+	}
+}
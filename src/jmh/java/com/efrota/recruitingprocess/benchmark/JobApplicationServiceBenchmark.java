@@ -0,0 +1,134 @@
+package com.efrota.recruitingprocess.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.JobApplicationServiceImpl;
+
+/**
+ * Benchmarks for {@link JobApplicationServiceImpl#create},
+ * {@link JobApplicationServiceImpl#createAll} and every branch of
+ * {@link JobApplicationServiceImpl#update}.
+ *
+ * Applications used by the transition benchmarks are inserted before each
+ * invocation (outside of the measurement) with the status the transition
+ * requires.
+ *
+ * @author edmundofrota
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobApplicationServiceBenchmark {
+
+	private static final int BATCH_SIZE = 1000;
+
+	@State(Scope.Thread)
+	public static class AppliedCandidate {
+		String[] application;
+
+		@Setup(Level.Invocation)
+		public void setUp(SeededDatabaseState database) {
+			application = database.insertApplication(JobApplicationStatusEnum.APPLIED);
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class InvitedCandidate {
+		String[] application;
+
+		@Setup(Level.Invocation)
+		public void setUp(SeededDatabaseState database) {
+			application = database.insertApplication(JobApplicationStatusEnum.INVITED);
+		}
+	}
+
+	@Benchmark
+	public JobApplication create(SeededDatabaseState database) {
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail(database.nextEmail());
+		application.setResumeText("Benchmark resume.");
+
+		return database.jobApplicationService.create(application, database.randomOfferTitle());
+	}
+
+	/**
+	 * Batch ingestion, scored per application so that it compares directly
+	 * with {@link #create}.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public List<JobApplicationBatchResultEnum> createAll(SeededDatabaseState database) {
+		List<JobApplication> applications = new ArrayList<>(BATCH_SIZE);
+
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			JobOffer offer = new JobOffer();
+			offer.setTitle(database.randomOfferTitle());
+
+			JobApplication application = new JobApplication();
+			application.setJobOffer(offer);
+			application.setCandidateEmail(database.nextEmail());
+			application.setResumeText("Benchmark resume.");
+			applications.add(application);
+		}
+
+		return database.jobApplicationService.createAll(applications);
+	}
+
+	@Benchmark
+	public void updateAppliedToInvited(SeededDatabaseState database, AppliedCandidate candidate) {
+		database.jobApplicationService.update(JobApplicationStatusEnum.INVITED, candidate.application[0],
+				candidate.application[1]);
+	}
+
+	@Benchmark
+	public void updateAppliedToRejected(SeededDatabaseState database, AppliedCandidate candidate) {
+		database.jobApplicationService.update(JobApplicationStatusEnum.REJECTED, candidate.application[0],
+				candidate.application[1]);
+	}
+
+	@Benchmark
+	public void updateInvitedToRejected(SeededDatabaseState database, InvitedCandidate candidate) {
+		database.jobApplicationService.update(JobApplicationStatusEnum.REJECTED, candidate.application[0],
+				candidate.application[1]);
+	}
+
+	@Benchmark
+	public void updateInvitedToHired(SeededDatabaseState database, InvitedCandidate candidate) {
+		database.jobApplicationService.update(JobApplicationStatusEnum.HIRED, candidate.application[0],
+				candidate.application[1]);
+	}
+
+	@Benchmark
+	public boolean updateBackToApplied(SeededDatabaseState database, InvitedCandidate candidate) {
+		try {
+			database.jobApplicationService.update(JobApplicationStatusEnum.APPLIED, candidate.application[0],
+					candidate.application[1]);
+			return true;
+		} catch (ServiceValidationException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.efrota.recruitingprocess.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.JobOfferServiceImpl;
+
+/**
+ * Benchmarks for {@link JobOfferServiceImpl#findAll}.
+ *
+ * @author edmundofrota
+ *
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobOfferServiceBenchmark {
+
+	@Benchmark
+	public List<JobOffer> findAll(SeededDatabaseState database) {
+		return database.jobOfferService.findAll();
+	}
+}
@@ -0,0 +1,167 @@
+package com.efrota.recruitingprocess.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.efrota.recruitingprocess.RecruitingProcessApplication;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+/**
+ * JMH {@link State} booting the application context (without web server)
+ * against an in-memory H2 instance seeded with <code>applications</code>
+ * rows spread over <code>offers</code> offers.
+ *
+ * Sizes can be overridden from the command line, e.g.
+ * <code>-p applications=1000,1000000 -p offers=50</code>.
+ *
+ * @author edmundofrota
+ *
+ */
+@State(Scope.Benchmark)
+public class SeededDatabaseState {
+
+	/**
+	 * Keeps the test configurations that share the benchmark classpath out of
+	 * the component scan of {@link RecruitingProcessApplication}.
+	 */
+	static class TestConfigurationExcludeFilter extends TypeExcludeFilter {
+
+		@Override
+		public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+			return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+		}
+	}
+
+	private static final int SEED_BATCH_SIZE = 10_000;
+	private static final String RESUME_TEXT = "Seeded resume: java, spring, hibernate, sql, rest.";
+
+	private static final String INSERT_APPLICATION = "insert into application "
+			+ "(id, job_offer_id, candidate_email, resume_text, status, version) "
+			+ "values (next value for application_sequence, ?, ?, ?, ?, 0)";
+
+	@Param({ "1000", "10000", "100000", "1000000" })
+	public int applications;
+
+	@Param({ "100" })
+	public int offers;
+
+	private ConfigurableApplicationContext context;
+	private JdbcTemplate jdbcTemplate;
+
+	JobApplicationService jobApplicationService;
+	JobOfferService jobOfferService;
+
+	private final List<JobOffer> seededOffers = new ArrayList<>();
+	private final AtomicLong emailSequence = new AtomicLong();
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(RecruitingProcessApplication.class)
+				.web(WebApplicationType.NONE)
+				.initializers(ctx -> ctx.getBeanFactory().registerSingleton(
+						TestConfigurationExcludeFilter.class.getName(), new TestConfigurationExcludeFilter()))
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+						"spring.devtools.restart.enabled=false",
+						"spring.jpa.open-in-view=false",
+						"logging.level.root=WARN")
+				.run();
+
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+		jobApplicationService = context.getBean(JobApplicationService.class);
+		jobOfferService = context.getBean(JobOfferService.class);
+
+		seedOffers();
+		seedApplications();
+		jobOfferService.reconcileApplicationAmount();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Title of a random seeded offer.
+	 *
+	 * @return offer title.
+	 */
+	String randomOfferTitle() {
+		return seededOffers.get(ThreadLocalRandom.current().nextInt(seededOffers.size())).getTitle();
+	}
+
+	/**
+	 * Email never used before in this trial.
+	 *
+	 * @return candidate email.
+	 */
+	String nextEmail() {
+		return String.format("bench-%d@benchmark.com", emailSequence.incrementAndGet());
+	}
+
+	/**
+	 * Insert a single application with the given status straight through JDBC,
+	 * so that the row is ready before the measured call. The application
+	 * amount of the offer is left to the reconciliation.
+	 *
+	 * @param status
+	 *            status of the new application.
+	 * @return {offer title, candidate email} of the inserted row.
+	 */
+	String[] insertApplication(JobApplicationStatusEnum status) {
+		JobOffer offer = seededOffers.get(ThreadLocalRandom.current().nextInt(seededOffers.size()));
+		String email = nextEmail();
+
+		jdbcTemplate.update(INSERT_APPLICATION, offer.getId(), email, RESUME_TEXT, status.name());
+
+		return new String[] { offer.getTitle(), email };
+	}
+
+	private void seedOffers() {
+		for (int i = 0; i < offers; i++) {
+			JobOffer offer = new JobOffer();
+			offer.setTitle(String.format("benchmark offer %d", i));
+			seededOffers.add(jobOfferService.create(offer));
+		}
+	}
+
+	private void seedApplications() {
+		JobApplicationStatusEnum[] statuses = JobApplicationStatusEnum.values();
+		List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+
+		for (int i = 0; i < applications; i++) {
+			JobOffer offer = seededOffers.get(i % seededOffers.size());
+			batch.add(new Object[] { offer.getId(), String.format("seed-%d@benchmark.com", i), RESUME_TEXT,
+					statuses[i % statuses.length].name() });
+
+			if (batch.size() == SEED_BATCH_SIZE) {
+				jdbcTemplate.batchUpdate(INSERT_APPLICATION, batch);
+				batch.clear();
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_APPLICATION, batch);
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package com.efrota.recruitingprocess.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import com.efrota.recruitingprocess.RecruitingProcessApplication;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+/**
+ * Load generator reproducing a hiring-day spike on a single machine.
+ *
+ * Boots the application on a random port against an in-memory H2 instance,
+ * seeds the offers and their applications, then starts the clients over the
+ * ramp up. Each client sends a request of the traffic mix as soon as the
+ * previous one is answered (closed loop), to an offer chosen by popularity.
+ * Progress is printed on every report interval, and the run summary and one
+ * latency histogram file per operation at the end.
+ *
+ * Since clients wait for each response, queueing delays slow the clients
+ * down instead of showing up as latency: compare throughput between runs,
+ * and the latency of runs with the same throughput.
+ *
+ * @author edmundofrota
+ *
+ */
+public class HiringDaySpike {
+
+	/**
+	 * Keeps the test configurations that share the load test classpath out of
+	 * the component scan of {@link RecruitingProcessApplication}.
+	 */
+	static class TestConfigurationExcludeFilter extends TypeExcludeFilter {
+
+		@Override
+		public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+			return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+		}
+	}
+
+	private static final String SUMMARY_HEADER = String.format("%-45s %9s %9s %8s %8s %8s %8s %9s  %s",
+			"endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "statuses");
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.parse(args);
+
+		// keep one idle connection per client instead of the default 5
+		System.setProperty("http.maxConnections", String.valueOf(settings.clients));
+
+		System.out.println("Hiring-day spike: " + settings);
+
+		ConfigurableApplicationContext context = boot(settings);
+		try {
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+
+			TrafficGenerator.OfferState[] offers = seed(settings, context.getBean(JobOfferService.class),
+					context.getBean(JobApplicationService.class));
+
+			run(settings, new TrafficGenerator("http://localhost:" + port + contextPath, offers, settings));
+		} finally {
+			context.close();
+		}
+	}
+
+	private static ConfigurableApplicationContext boot(LoadTestSettings settings) {
+		// devtools would restart the application in another thread, read before any argument
+		System.setProperty("spring.devtools.restart.enabled", "false");
+
+		List<String> args = new ArrayList<>();
+		args.add("--server.port=0");
+		args.add("--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+		args.add("--logging.level.root=WARN");
+		args.addAll(settings.applicationArgs);
+
+		return new SpringApplicationBuilder(RecruitingProcessApplication.class)
+				.initializers(ctx -> ctx.getBeanFactory().registerSingleton(
+						TestConfigurationExcludeFilter.class.getName(), new TestConfigurationExcludeFilter()))
+				.run(args.toArray(new String[0]));
+	}
+
+	private static TrafficGenerator.OfferState[] seed(LoadTestSettings settings, JobOfferService jobOfferService,
+			JobApplicationService jobApplicationService) {
+		long start = System.nanoTime();
+		TrafficGenerator.OfferState[] offers = new TrafficGenerator.OfferState[settings.offers];
+		List<JobApplication> batch = new ArrayList<>(JobApplicationConstants.MAX_BATCH_SIZE);
+
+		for (int i = 0; i < settings.offers; i++) {
+			JobOffer offer = new JobOffer();
+			offer.setTitle(String.format("hiring day offer %d", i));
+			jobOfferService.create(offer);
+			offers[i] = new TrafficGenerator.OfferState(i, offer.getTitle());
+
+			for (int j = 0; j < settings.applicationsPerOffer; j++) {
+				JobOffer jobOffer = new JobOffer();
+				jobOffer.setTitle(offer.getTitle());
+
+				JobApplication application = new JobApplication();
+				application.setJobOffer(jobOffer);
+				application.setCandidateEmail(TrafficGenerator.seedEmail(i, j));
+				application.setResumeText("Seeded resume.");
+				batch.add(application);
+				offers[i].applied.add(application.getCandidateEmail());
+
+				if (batch.size() == JobApplicationConstants.MAX_BATCH_SIZE) {
+					jobApplicationService.createAll(batch);
+					batch.clear();
+				}
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			jobApplicationService.createAll(batch);
+		}
+
+		System.out.println(String.format("Seeded %d offers and %d applications in %d ms.", settings.offers,
+				settings.offers * settings.applicationsPerOffer,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+
+		return offers;
+	}
+
+	private static void run(LoadTestSettings settings, TrafficGenerator traffic)
+			throws InterruptedException, IOException {
+		Map<Operation, OperationStats> stats = traffic.getStats();
+		AtomicInteger activeClients = new AtomicInteger();
+
+		long rampUpNanos = TimeUnit.SECONDS.toNanos(settings.rampUp);
+		long start = System.nanoTime();
+		long end = start + rampUpNanos + TimeUnit.SECONDS.toNanos(settings.duration);
+
+		ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+		reporter.scheduleAtFixedRate(() -> report(stats, activeClients.get(), start, settings.reportInterval),
+				settings.reportInterval, settings.reportInterval, TimeUnit.SECONDS);
+
+		ExecutorService clients = Executors.newFixedThreadPool(settings.clients);
+		for (int i = 0; i < settings.clients; i++) {
+			long startAt = start + rampUpNanos * i / settings.clients;
+
+			clients.execute(() -> {
+				sleepUntil(startAt);
+				activeClients.incrementAndGet();
+
+				while (System.nanoTime() < end) {
+					traffic.sendNext();
+				}
+
+				activeClients.decrementAndGet();
+			});
+		}
+
+		clients.shutdown();
+		clients.awaitTermination(settings.rampUp + settings.duration + 60L, TimeUnit.SECONDS);
+		reporter.shutdown();
+		reporter.awaitTermination(1, TimeUnit.MINUTES);
+
+		double seconds = (System.nanoTime() - start) / 1e9;
+		stats.values().forEach(OperationStats::closeInterval);
+
+		File output = new File(settings.output);
+		output.mkdirs();
+
+		System.out.println();
+		System.out.println(String.format("Run of %.1f s with %d clients:", seconds, settings.clients));
+		System.out.println(SUMMARY_HEADER);
+		for (OperationStats operationStats : stats.values()) {
+			System.out.println(operationStats.summary(seconds));
+			operationStats.writeHistogram(output.getPath());
+		}
+		System.out.println(String.format("Latency histograms written to %s.", output.getAbsolutePath()));
+	}
+
+	private static void report(Map<Operation, OperationStats> stats, int activeClients, long start,
+			int reportInterval) {
+		StringBuilder operations = new StringBuilder();
+		long total = 0;
+
+		for (OperationStats operationStats : stats.values()) {
+			Histogram interval = operationStats.closeInterval();
+			total += interval.getTotalCount();
+			operations.append(String.format(" | %s %.0f/s p99=%.1fms", operationStats.getOperation().getKey(),
+					(double) interval.getTotalCount() / reportInterval,
+					OperationStats.millis(interval.getValueAtPercentile(99))));
+		}
+
+		System.out.println(String.format("[%4ds] clients=%d %.0f req/s%s",
+				TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), activeClients,
+				(double) total / reportInterval, operations));
+	}
+
+	private static void sleepUntil(long nanoTime) {
+		long remaining = nanoTime - System.nanoTime();
+
+		if (remaining > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(remaining);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
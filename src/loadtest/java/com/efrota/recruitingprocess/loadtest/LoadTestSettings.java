@@ -0,0 +1,136 @@
+package com.efrota.recruitingprocess.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, parsed from <code>key=value</code> arguments.
+ * Arguments starting with <code>--</code> are passed to the application, e.g.
+ * <code>--execution.mode=virtual</code>.
+ *
+ * @author edmundofrota
+ *
+ */
+public class LoadTestSettings {
+
+	private static final String DEFAULT_MIX = "create:30,duplicate:10,transition:20,pollApplications:25,pollOffer:15";
+
+	/**
+	 * Offers created before the run.
+	 */
+	final int offers;
+	/**
+	 * Applications created for each offer before the run, the pool of emails
+	 * used by duplicate creates.
+	 */
+	final int applicationsPerOffer;
+	/**
+	 * Concurrent clients, each one sending a request as soon as the previous
+	 * one is answered.
+	 */
+	final int clients;
+	/**
+	 * Seconds over which the clients are started, evenly.
+	 */
+	final int rampUp;
+	/**
+	 * Seconds of traffic after the ramp up.
+	 */
+	final int duration;
+	/**
+	 * Exponent of the Zipf distribution of the offer popularity, 0 for an
+	 * uniform one.
+	 */
+	final double skew;
+	/**
+	 * Seconds between two progress lines.
+	 */
+	final int reportInterval;
+	/**
+	 * Directory of the latency histogram files.
+	 */
+	final String output;
+	/**
+	 * Weight of each operation in the traffic.
+	 */
+	final Map<Operation, Integer> mix;
+	/**
+	 * Arguments passed to the application.
+	 */
+	final List<String> applicationArgs;
+
+	private LoadTestSettings(Map<String, String> values, List<String> applicationArgs) {
+		this.offers = Integer.parseInt(values.getOrDefault("offers", "200"));
+		this.applicationsPerOffer = Integer.parseInt(values.getOrDefault("applicationsPerOffer", "50"));
+		this.clients = Integer.parseInt(values.getOrDefault("clients", "500"));
+		this.rampUp = Integer.parseInt(values.getOrDefault("rampUp", "10"));
+		this.duration = Integer.parseInt(values.getOrDefault("duration", "60"));
+		this.skew = Double.parseDouble(values.getOrDefault("skew", "1.1"));
+		this.reportInterval = Integer.parseInt(values.getOrDefault("reportInterval", "5"));
+		this.output = values.getOrDefault("output", "target/loadtest");
+		this.mix = parseMix(values.getOrDefault("mix", DEFAULT_MIX));
+		this.applicationArgs = applicationArgs;
+
+		if (offers < 1 || applicationsPerOffer < 1 || clients < 1 || duration < 1 || reportInterval < 1) {
+			throw new IllegalArgumentException(
+					"offers, applicationsPerOffer, clients, duration and reportInterval must be positive.");
+		}
+	}
+
+	/**
+	 * Parse the command line arguments.
+	 *
+	 * @param args
+	 *            <code>key=value</code> settings and <code>--</code>
+	 *            application arguments.
+	 * @return parsed settings, defaults for the missing ones.
+	 */
+	public static LoadTestSettings parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		List<String> applicationArgs = new ArrayList<>();
+
+		for (String arg : args) {
+			if (arg.startsWith("--")) {
+				applicationArgs.add(arg);
+				continue;
+			}
+
+			int separator = arg.indexOf('=');
+			if (separator < 1) {
+				throw new IllegalArgumentException(String.format("Argument %s is not key=value.", arg));
+			}
+
+			values.put(arg.substring(0, separator), arg.substring(separator + 1));
+		}
+
+		return new LoadTestSettings(values, applicationArgs);
+	}
+
+	private static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+		for (String entry : mix.split(",")) {
+			String[] keyWeight = entry.trim().split(":");
+			if (keyWeight.length != 2) {
+				throw new IllegalArgumentException(String.format("Mix entry %s is not operation:weight.", entry));
+			}
+
+			weights.put(Operation.fromKey(keyWeight[0]), Integer.parseInt(keyWeight[1]));
+		}
+
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("Traffic mix must have a positive weight.");
+		}
+
+		return weights;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("offers=%d applicationsPerOffer=%d clients=%d rampUp=%ds duration=%ds skew=%.2f mix=%s %s",
+				offers, applicationsPerOffer, clients, rampUp, duration, skew, mix, applicationArgs);
+	}
+}
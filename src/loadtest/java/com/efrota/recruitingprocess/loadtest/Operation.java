@@ -0,0 +1,59 @@
+package com.efrota.recruitingprocess.loadtest;
+
+/**
+ * Kinds of request sent by the load generator, each one reported on its own.
+ *
+ * @author edmundofrota
+ *
+ */
+public enum Operation {
+
+	CREATE("create", "POST /api/applications/"),
+	DUPLICATE("duplicate", "POST /api/applications/ (duplicate email)"),
+	TRANSITION("transition", "PUT /api/applications/"),
+	POLL_APPLICATIONS("pollApplications", "GET /api/applications/{offer}"),
+	POLL_OFFER("pollOffer", "GET /api/offers/{offer}");
+
+	private final String key;
+	private final String endpoint;
+
+	Operation(String key, String endpoint) {
+		this.key = key;
+		this.endpoint = endpoint;
+	}
+
+	/**
+	 * Name of the operation in the traffic mix setting.
+	 *
+	 * @return mix key.
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * Endpoint hit by the operation.
+	 *
+	 * @return method and path.
+	 */
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	/**
+	 * Find an operation by its mix key.
+	 *
+	 * @param key
+	 *            mix key.
+	 * @return the {@link Operation}.
+	 */
+	public static Operation fromKey(String key) {
+		for (Operation operation : values()) {
+			if (operation.key.equals(key)) {
+				return operation;
+			}
+		}
+
+		throw new IllegalArgumentException(String.format("Unknown operation %s in the traffic mix.", key));
+	}
+}
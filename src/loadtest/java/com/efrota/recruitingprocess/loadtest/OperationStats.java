@@ -0,0 +1,111 @@
+package com.efrota.recruitingprocess.loadtest;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency histogram and response statuses of one {@link Operation}.
+ *
+ * Latencies are recorded in microseconds into a {@link Recorder}, so that
+ * clients never block each other, and moved into the run histogram on every
+ * progress report.
+ *
+ * @author edmundofrota
+ *
+ */
+public class OperationStats {
+
+	private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	/**
+	 * Status recorded for requests that got no response.
+	 */
+	static final int NO_RESPONSE = 0;
+
+	private final Operation operation;
+	private final Recorder recorder = new Recorder(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+	private final Histogram total = new Histogram(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+	private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+	private Histogram interval;
+
+	public OperationStats(Operation operation) {
+		this.operation = operation;
+	}
+
+	/**
+	 * Record a request.
+	 *
+	 * @param status
+	 *            HTTP status, {@link #NO_RESPONSE} if the request failed.
+	 * @param nanos
+	 *            latency.
+	 */
+	public void record(int status, long nanos) {
+		recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_LATENCY_MICROS));
+		statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * Close the current interval, adding it to the run histogram.
+	 *
+	 * @return histogram of the requests recorded since the previous call.
+	 */
+	synchronized Histogram closeInterval() {
+		interval = recorder.getIntervalHistogram(interval);
+		total.add(interval);
+		return interval;
+	}
+
+	/**
+	 * One line summary of the run.
+	 *
+	 * @param seconds
+	 *            measured seconds.
+	 * @return summary of throughput, latency percentiles and statuses.
+	 */
+	synchronized String summary(double seconds) {
+		Map<Integer, Long> counts = new TreeMap<>();
+		statuses.forEach((status, count) -> counts.put(status, count.sum()));
+
+		return String.format("%-45s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f  %s", operation.getEndpoint(),
+				total.getTotalCount(), total.getTotalCount() / seconds, millis(total.getValueAtPercentile(50)),
+				millis(total.getValueAtPercentile(90)), millis(total.getValueAtPercentile(99)),
+				millis(total.getValueAtPercentile(99.9)), millis(total.getMaxValue()), counts);
+	}
+
+	/**
+	 * Write the percentile distribution of the run, in the
+	 * <code>.hgrm</code> format of HdrHistogram, with latencies in
+	 * milliseconds.
+	 *
+	 * @param directory
+	 *            output directory.
+	 * @throws IOException
+	 *             if the file cannot be written.
+	 */
+	synchronized void writeHistogram(String directory) throws IOException {
+		try (PrintStream out = new PrintStream(new FileOutputStream(
+				String.format("%s/%s.hgrm", directory, operation.getKey())))) {
+			total.outputPercentileDistribution(out, 1000.0);
+		}
+	}
+
+	static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	Operation getOperation() {
+		return operation;
+	}
+}
@@ -0,0 +1,219 @@
+package com.efrota.recruitingprocess.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+
+/**
+ * Sends the requests of the traffic mix, choosing offers by popularity.
+ *
+ * Each offer keeps the emails of its applications waiting for an invitation
+ * and for a decision, so that transitions mostly move existing applications
+ * forward, like recruiters do on a hiring day.
+ *
+ * @author edmundofrota
+ *
+ */
+public class TrafficGenerator {
+
+	private static final String JSON = "application/json";
+	private static final byte[] NO_BODY = new byte[0];
+
+	/**
+	 * Applications of an offer, by stage.
+	 */
+	static class OfferState {
+		final String title;
+		final String encodedTitle;
+		final int index;
+		final AtomicLong emailSequence = new AtomicLong();
+		final Queue<String> applied = new ConcurrentLinkedQueue<>();
+		final Queue<String> invited = new ConcurrentLinkedQueue<>();
+
+		OfferState(int index, String title) {
+			this.index = index;
+			this.title = title;
+			this.encodedTitle = encode(title).replace("+", "%20");
+		}
+	}
+
+	private final String baseUrl;
+	private final OfferState[] offers;
+	private final int applicationsPerOffer;
+	private final WeightedSampler offerSampler;
+	private final Operation[] operations;
+	private final WeightedSampler operationSampler;
+	private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+	public TrafficGenerator(String baseUrl, OfferState[] offers, LoadTestSettings settings) {
+		this.baseUrl = baseUrl;
+		this.offers = offers;
+		this.applicationsPerOffer = settings.applicationsPerOffer;
+		this.offerSampler = WeightedSampler.zipf(offers.length, settings.skew);
+		this.operations = settings.mix.keySet().toArray(new Operation[0]);
+		this.operationSampler = new WeightedSampler(
+				settings.mix.values().stream().mapToDouble(Integer::doubleValue).toArray());
+
+		for (Operation operation : Operation.values()) {
+			stats.put(operation, new OperationStats(operation));
+		}
+	}
+
+	/**
+	 * Email of a seeded application.
+	 *
+	 * @param offerIndex
+	 *            index of the offer.
+	 * @param sequence
+	 *            sequence of the application in the offer.
+	 * @return candidate email.
+	 */
+	static String seedEmail(int offerIndex, int sequence) {
+		return String.format("seed-%d-%d@loadtest.com", offerIndex, sequence);
+	}
+
+	Map<Operation, OperationStats> getStats() {
+		return stats;
+	}
+
+	/**
+	 * Send one request of the mix and record it.
+	 */
+	public void sendNext() {
+		Operation operation = operations[operationSampler.next()];
+		OfferState offer = offers[offerSampler.next()];
+
+		long start = System.nanoTime();
+		int status;
+		try {
+			status = send(operation, offer);
+		} catch (IOException e) {
+			status = OperationStats.NO_RESPONSE;
+		}
+
+		stats.get(operation).record(status, System.nanoTime() - start);
+	}
+
+	private int send(Operation operation, OfferState offer) throws IOException {
+		switch (operation) {
+			case CREATE:
+				return create(offer);
+			case DUPLICATE:
+				return apply(offer, seedEmail(offer.index, ThreadLocalRandom.current().nextInt(applicationsPerOffer)));
+			case TRANSITION:
+				return transition(offer);
+			case POLL_APPLICATIONS:
+				return request("GET", "/api/applications/" + offer.encodedTitle + "?size=100", NO_BODY);
+			case POLL_OFFER:
+				return request("GET", "/api/offers/" + offer.encodedTitle, NO_BODY);
+			default:
+				throw new IllegalStateException(operation.name());
+		}
+	}
+
+	private int create(OfferState offer) throws IOException {
+		String email = String.format("load-%d-%d@loadtest.com", offer.index, offer.emailSequence.incrementAndGet());
+		int status = apply(offer, email);
+
+		if (status == 201) {
+			offer.applied.add(email);
+		}
+
+		return status;
+	}
+
+	private int apply(OfferState offer, String email) throws IOException {
+		return request("POST", "/api/applications/", String.format(
+				"{\"jobOffer\": \"%s\", \"candidateEmail\": \"%s\", \"resumeText\": \"Load test resume.\"}",
+				offer.title, email).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Move an application forward: decide on an invited candidate half of the
+	 * time, invite an applied one otherwise.
+	 */
+	private int transition(OfferState offer) throws IOException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+
+		String email = random.nextBoolean() ? offer.invited.poll() : null;
+		if (email != null) {
+			return updateStatus(offer, email,
+					random.nextBoolean() ? JobApplicationStatusEnum.HIRED : JobApplicationStatusEnum.REJECTED);
+		}
+
+		email = offer.applied.poll();
+		if (email == null) {
+			// nothing left to move: the request is answered with a validation error
+			email = seedEmail(offer.index, random.nextInt(applicationsPerOffer));
+		}
+
+		int status = updateStatus(offer, email, JobApplicationStatusEnum.INVITED);
+		if (status == 200) {
+			offer.invited.add(email);
+		}
+
+		return status;
+	}
+
+	private int updateStatus(OfferState offer, String email, JobApplicationStatusEnum status) throws IOException {
+		return request("PUT", "/api/applications/",
+				String.format("{\"jobOffer\": \"%s\", \"candidateEmail\": \"%s\", \"status\": \"%s\"}", offer.title,
+						email, status).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private int request(String method, String path, byte[] body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) URI.create(baseUrl + path).toURL().openConnection();
+		connection.setRequestMethod(method);
+		connection.setRequestProperty("Accept", JSON);
+		connection.setRequestProperty("Content-Type", JSON);
+
+		if (body.length > 0) {
+			connection.setDoOutput(true);
+			connection.setFixedLengthStreamingMode(body.length);
+			try (OutputStream out = connection.getOutputStream()) {
+				out.write(body);
+			}
+		}
+
+		int status = connection.getResponseCode();
+		drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+
+		return status;
+	}
+
+	/**
+	 * Read the whole response, so that the connection is kept alive.
+	 */
+	private static void drain(InputStream body) throws IOException {
+		if (body == null) {
+			return;
+		}
+
+		try (InputStream in = body) {
+			byte[] buffer = new byte[8192];
+			while (in.read(buffer) != -1) {
+				// discard
+			}
+		}
+	}
+
+	private static String encode(String value) {
+		try {
+			return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.efrota.recruitingprocess.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples indexes in proportion to fixed weights, through a binary search on
+ * the cumulative weights.
+ *
+ * @author edmundofrota
+ *
+ */
+public class WeightedSampler {
+
+	private final double[] cumulative;
+
+	public WeightedSampler(double[] weights) {
+		cumulative = new double[weights.length];
+
+		double sum = 0;
+		for (int i = 0; i < weights.length; i++) {
+			sum += weights[i];
+			cumulative[i] = sum;
+		}
+	}
+
+	/**
+	 * Zipf distribution over <code>size</code> ranks: rank <code>k</code>
+	 * (from 1) has weight <code>1 / k^skew</code>.
+	 *
+	 * @param size
+	 *            amount of ranks.
+	 * @param skew
+	 *            exponent, 0 for a uniform distribution.
+	 * @return sampler of ranks, from 0.
+	 */
+	public static WeightedSampler zipf(int size, double skew) {
+		double[] weights = new double[size];
+		for (int k = 0; k < size; k++) {
+			weights[k] = 1 / Math.pow(k + 1, skew);
+		}
+
+		return new WeightedSampler(weights);
+	}
+
+	/**
+	 * Sample an index.
+	 *
+	 * @return index, from 0.
+	 */
+	public int next() {
+		double target = ThreadLocalRandom.current().nextDouble(cumulative[cumulative.length - 1]);
+		int index = Arrays.binarySearch(cumulative, target);
+
+		// insertion point of the first cumulative weight greater than target
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+}
@@ -0,0 +1,46 @@
+package com.efrota.recruitingprocess.config;
+
+import java.util.Collections;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+import com.efrota.recruitingprocess.utils.VirtualThreadUtils;
+
+/**
+ * {@link EnvironmentPostProcessor} mapping <code>execution.mode=virtual</code>
+ * onto <code>spring.threads.virtual.enabled</code>.
+ * 
+ * Spring Boot then handles every request on a new virtual thread instead of
+ * the Tomcat worker pool, and runs the application task executor (the
+ * asynchronous MVC requests) and the scheduled jobs on virtual threads too.
+ * The reactive reads and the search index rebuild keep their bounded pools,
+ * on virtual threads, see {@link VirtualThreadUtils#newThreadFactory}.
+ * Requires the build for Java 21, the startup fails otherwise.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class ExecutionModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	private static final String PROPERTY_SOURCE_NAME = "executionMode";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		if (!ExecutionConstants.VIRTUAL.equals(environment.getProperty(ExecutionConstants.MODE_PROPERTY))) {
+			return;
+		}
+
+		if (!VirtualThreadUtils.isSupported()) {
+			throw new IllegalStateException(String.format(
+					"%s=%s requires the build for Java 21, running on %s.", ExecutionConstants.MODE_PROPERTY,
+					ExecutionConstants.VIRTUAL, System.getProperty("java.version")));
+		}
+
+		environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME,
+				Collections.singletonMap(ExecutionConstants.VIRTUAL_THREADS_PROPERTY, "true")));
+	}
+}
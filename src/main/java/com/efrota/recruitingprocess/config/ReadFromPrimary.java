@@ -0,0 +1,24 @@
+package com.efrota.recruitingprocess.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose result must not come from a lagging
+ * replica: the reads backing an <code>ETag</code> built from the in-memory
+ * version stamps, and the reads loaded into in-memory models. The
+ * transactions opened during the call run on the primary, see
+ * {@link ReadFromPrimaryAspect}.
+ *
+ * @author edmundofrota
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadFromPrimary {
+
+}
@@ -0,0 +1,43 @@
+package com.efrota.recruitingprocess.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+
+/**
+ * {@link Aspect} sending to the primary the transactions of the methods
+ * annotated with {@link ReadFromPrimary}.
+ *
+ * Runs before the transaction interceptor, so that the route is known when
+ * the transaction begins. A method joining a transaction routed to the
+ * replica stays on it.
+ *
+ * @author edmundofrota
+ *
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = DataSourceConstants.REPLICA_URL)
+public class ReadFromPrimaryAspect {
+
+	@Autowired
+	private ReplicaLagGuard replicaLagGuard;
+
+	@Around("@annotation(com.efrota.recruitingprocess.config.ReadFromPrimary)")
+	public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+		replicaLagGuard.beginPrimaryRead();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			replicaLagGuard.endPrimaryRead();
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.efrota.recruitingprocess.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import jakarta.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.efrota.recruitingprocess.controller.handler.ReplicaLagCookieAdvice;
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write routing between the primary database, configured by
+ * <code>spring.datasource</code>, and a read replica, configured by
+ * <code>datasource.replica</code>. Enabled when
+ * <code>datasource.replica.url</code> is defined.
+ * 
+ * Transactions flagged read-only run on the replica, unless the client wrote
+ * less than <code>datasource.replica.max-lag</code> milliseconds ago; all the
+ * others, and the statements outside of a transaction, run on the primary.
+ * Both pools report their metrics under their own pool name,
+ * <code>primary</code> and <code>replica</code>. Transactions on the replica
+ * do not write the second-level and query caches, see
+ * {@link ReadWriteRoutingJpaDialect}. Both pools are closed with the
+ * context.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Configuration
+@ConditionalOnProperty(name = DataSourceConstants.REPLICA_URL)
+public class ReadWriteRoutingConfiguration implements WebMvcConfigurer {
+
+	private Log log = LogFactory.getLog(ReadWriteRoutingConfiguration.class);
+
+	@Autowired
+	private ReplicaLagCookieAdvice replicaLagCookieAdvice;
+
+	private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+	@Bean
+	@Primary
+	public DataSource dataSource(DataSourceProperties properties, Environment environment,
+			MeterRegistry meterRegistry, ReplicaLagGuard replicaLagGuard) {
+		Binder binder = Binder.get(environment);
+
+		HikariDataSource primaryDataSource = createPool("primary", properties, binder, "spring.datasource.hikari",
+				meterRegistry);
+		HikariDataSource replicaDataSource = createPool("replica",
+				binder.bind(DataSourceConstants.REPLICA_PREFIX, DataSourceProperties.class).get(), binder,
+				DataSourceConstants.REPLICA_PREFIX + ".hikari", meterRegistry);
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource);
+		targets.put(ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource);
+
+		ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagGuard);
+		routingDataSource.setTargetDataSources(targets);
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+
+		log.info(String.format("Read-only transactions routed to the replica %s.", replicaDataSource.getJdbcUrl()));
+
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	/**
+	 * Install {@link ReadWriteRoutingJpaDialect} in the entity manager
+	 * factory, from which the transaction manager takes its dialect.
+	 */
+	@Bean
+	public static BeanPostProcessor readWriteRoutingJpaDialectPostProcessor(
+			ObjectProvider<ReplicaLagGuard> replicaLagGuard) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof AbstractEntityManagerFactoryBean) {
+					((AbstractEntityManagerFactoryBean) bean)
+							.setJpaDialect(new ReadWriteRoutingJpaDialect(replicaLagGuard));
+				}
+				return bean;
+			}
+		};
+	}
+
+	/**
+	 * The pools are not beans, as every datasource bean would trigger the
+	 * schema initialization, which needs the routing one. They are closed by
+	 * {@link #closePools()} instead.
+	 */
+	private HikariDataSource createPool(String name, DataSourceProperties properties, Binder binder,
+			String hikariPrefix, MeterRegistry meterRegistry) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		binder.bind(hikariPrefix, Bindable.ofInstance(dataSource));
+		dataSource.setPoolName(name);
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		pools.add(dataSource);
+		return dataSource;
+	}
+
+	/**
+	 * Close the primary and replica pools. The routing datasource is created by
+	 * this configuration, so it and the entity manager factory using it are
+	 * destroyed first.
+	 */
+	@PreDestroy
+	public void closePools() {
+		for (HikariDataSource pool : pools) {
+			pool.close();
+		}
+		pools.clear();
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(replicaLagCookieAdvice);
+	}
+}
@@ -0,0 +1,72 @@
+package com.efrota.recruitingprocess.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.efrota.recruitingprocess.utils.TransactionUtils;
+
+/**
+ * {@link AbstractRoutingDataSource} sending read-only transactions to the
+ * replica and everything else to the primary.
+ * 
+ * The route of a transaction is chosen when it begins by
+ * {@link ReadWriteRoutingJpaDialect}, and bound to it. The target is looked
+ * up when a connection is requested, so this datasource must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager opens the connection before the transaction is
+ * flagged read-only, the proxy defers it to the first statement.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	/**
+	 * Lookup key of the datasources.
+	 */
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+
+	/**
+	 * Key of the {@link Route} bound to the current transaction.
+	 */
+	static final String ROUTE_KEY = ReadWriteRoutingDataSource.class.getName() + ".route";
+
+	private final ReplicaLagGuard replicaLagGuard;
+
+	public ReadWriteRoutingDataSource(ReplicaLagGuard replicaLagGuard) {
+		this.replicaLagGuard = replicaLagGuard;
+	}
+
+	/**
+	 * Whether the current transaction reads the replica. Always
+	 * <code>false</code> without a replica.
+	 * 
+	 * @return <code>true</code> within a transaction routed to the replica.
+	 */
+	public static boolean isReplicaTransaction() {
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				&& TransactionSynchronizationManager.getResource(ROUTE_KEY) == Route.REPLICA;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return Route.PRIMARY;
+		}
+
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			Object route = TransactionSynchronizationManager.getResource(ROUTE_KEY);
+			if (route != null) {
+				return route;
+			}
+
+			return replicaLagGuard.canReadReplica() ? Route.REPLICA : Route.PRIMARY;
+		}
+
+		TransactionUtils.afterCommit(replicaLagGuard::writeCommitted);
+
+		return Route.PRIMARY;
+	}
+}
@@ -0,0 +1,113 @@
+package com.efrota.recruitingprocess.config;
+
+import java.sql.SQLException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.efrota.recruitingprocess.config.ReadWriteRoutingDataSource.Route;
+
+/**
+ * {@link HibernateJpaDialect} choosing the route of every transaction when it
+ * begins, and binding it to the transaction for
+ * {@link ReadWriteRoutingDataSource}.
+ *
+ * Transactions routed to the replica bypass the second-level and query caches
+ * ({@link CacheMode#IGNORE}): the replica may lag behind the writes already
+ * applied to the caches, which would then serve the old rows until they
+ * expire. {@link CacheMode#GET} is not enough, as Hibernate still puts the
+ * results of a query read after a query cache miss.
+ *
+ * @author edmundofrota
+ *
+ */
+public class ReadWriteRoutingJpaDialect extends HibernateJpaDialect {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+
+	public ReadWriteRoutingJpaDialect(ObjectProvider<ReplicaLagGuard> replicaLagGuard) {
+		this.replicaLagGuard = replicaLagGuard;
+	}
+
+	@Override
+	public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+			throws PersistenceException, SQLException {
+		Route route = definition.isReadOnly() && replicaLagGuard.getObject().canReadReplica() ? Route.REPLICA
+				: Route.PRIMARY;
+
+		// a suspended transaction keeps its route until this one is cleaned up
+		Object suspendedRoute = TransactionSynchronizationManager
+				.unbindResourceIfPossible(ReadWriteRoutingDataSource.ROUTE_KEY);
+		TransactionSynchronizationManager.bindResource(ReadWriteRoutingDataSource.ROUTE_KEY, route);
+
+		Session session = getSession(entityManager);
+		CacheMode cacheMode = session.getCacheMode();
+		if (route == Route.REPLICA) {
+			session.setCacheMode(CacheMode.IGNORE);
+		}
+
+		try {
+			return new RoutedTransactionData(super.beginTransaction(entityManager, definition), session, cacheMode,
+					suspendedRoute);
+		} catch (SQLException | RuntimeException e) {
+			restore(session, cacheMode, suspendedRoute);
+			throw e;
+		}
+	}
+
+	@Override
+	public void cleanupTransaction(Object transactionData) {
+		if (!(transactionData instanceof RoutedTransactionData)) {
+			super.cleanupTransaction(transactionData);
+			return;
+		}
+
+		RoutedTransactionData routedData = (RoutedTransactionData) transactionData;
+		try {
+			super.cleanupTransaction(routedData.transactionData);
+		} finally {
+			restore(routedData.session, routedData.cacheMode, routedData.suspendedRoute);
+		}
+	}
+
+	/**
+	 * Restore the cache mode of the session and the route of the suspended
+	 * transaction, if any.
+	 */
+	private static void restore(Session session, CacheMode cacheMode, Object suspendedRoute) {
+		session.setCacheMode(cacheMode);
+		TransactionSynchronizationManager.unbindResourceIfPossible(ReadWriteRoutingDataSource.ROUTE_KEY);
+		if (suspendedRoute != null) {
+			TransactionSynchronizationManager.bindResource(ReadWriteRoutingDataSource.ROUTE_KEY, suspendedRoute);
+		}
+	}
+
+	/**
+	 * Transaction data of {@link HibernateJpaDialect}, with the state to be
+	 * restored on cleanup.
+	 */
+	private static final class RoutedTransactionData {
+
+		private final Object transactionData;
+		private final Session session;
+		private final CacheMode cacheMode;
+		private final Object suspendedRoute;
+
+		private RoutedTransactionData(Object transactionData, Session session, CacheMode cacheMode,
+				Object suspendedRoute) {
+			this.transactionData = transactionData;
+			this.session = session;
+			this.cacheMode = cacheMode;
+			this.suspendedRoute = suspendedRoute;
+		}
+	}
+}
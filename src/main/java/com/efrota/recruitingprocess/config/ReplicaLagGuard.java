@@ -0,0 +1,105 @@
+package com.efrota.recruitingprocess.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+
+/**
+ * Read-your-writes guard of the replica.
+ * 
+ * Remembers, per thread, the moment of the last committed write. Until the
+ * maximum replica lag has passed since then, read-only transactions of the
+ * thread are routed to the primary. Requests restore the moment of the last
+ * write of their client from a cookie, see
+ * {@link com.efrota.recruitingprocess.controller.handler.ReplicaLagCookieAdvice}.
+ * 
+ * The calls annotated with {@link ReadFromPrimary} also read the primary.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+@ConditionalOnProperty(name = DataSourceConstants.REPLICA_URL)
+public class ReplicaLagGuard {
+
+	private final long maxLagMillis;
+	private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+	private final ThreadLocal<Integer> primaryReads = new ThreadLocal<>();
+
+	public ReplicaLagGuard(@Value(DataSourceConstants.REPLICA_MAX_LAG) long maxLagMillis) {
+		this.maxLagMillis = maxLagMillis;
+	}
+
+	/**
+	 * Record a write committed by the current thread.
+	 */
+	public void writeCommitted() {
+		lastWrite.set(System.currentTimeMillis());
+	}
+
+	/**
+	 * Restore the moment of the last write of the client of the current
+	 * thread, or forget it.
+	 * 
+	 * @param lastWriteMillis
+	 *            epoch milliseconds, <code>null</code> if unknown.
+	 */
+	public void restore(Long lastWriteMillis) {
+		if (lastWriteMillis == null) {
+			lastWrite.remove();
+		} else {
+			lastWrite.set(lastWriteMillis);
+		}
+	}
+
+	/**
+	 * Moment of the last write of the current thread, if the replica may still
+	 * lag behind it.
+	 * 
+	 * @return epoch milliseconds or <code>null</code> if the replica can be
+	 *         read.
+	 */
+	public Long getPendingWrite() {
+		Long millis = lastWrite.get();
+
+		return millis != null && System.currentTimeMillis() - millis < maxLagMillis ? millis : null;
+	}
+
+	/**
+	 * Send the read-only transactions of the current thread to the primary,
+	 * until the matching {@link #endPrimaryRead()}. Calls can be nested.
+	 */
+	public void beginPrimaryRead() {
+		Integer depth = primaryReads.get();
+		primaryReads.set(depth == null ? 1 : depth + 1);
+	}
+
+	/**
+	 * End the innermost {@link #beginPrimaryRead()} of the current thread.
+	 */
+	public void endPrimaryRead() {
+		Integer depth = primaryReads.get();
+		if (depth == null || depth <= 1) {
+			primaryReads.remove();
+		} else {
+			primaryReads.set(depth - 1);
+		}
+	}
+
+	/**
+	 * Whether read-only transactions of the current thread can go to the
+	 * replica.
+	 * 
+	 * @return <code>false</code> during the maximum lag after a write, and
+	 *         within a {@link ReadFromPrimary} call.
+	 */
+	public boolean canReadReplica() {
+		return primaryReads.get() == null && getPendingWrite() == null;
+	}
+
+	public long getMaxLagMillis() {
+		return maxLagMillis;
+	}
+}
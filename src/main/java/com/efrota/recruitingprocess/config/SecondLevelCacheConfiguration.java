@@ -0,0 +1,87 @@
+package com.efrota.recruitingprocess.config;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * JCache regions of the Hibernate second-level and query caches, backed by
+ * Caffeine.
+ * 
+ * Every region is created up front, bounded by
+ * <code>second-level-cache.{region}.maximum-size</code> and
+ * <code>second-level-cache.{region}.expire-after-write</code>, and Hibernate
+ * fails to start on a region missing here. The update timestamps region is
+ * never bounded, as evicting it would serve stale query results.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+	private static final List<String> BOUNDED_REGIONS = Arrays.asList(SecondLevelCacheConstants.OFFER_REGION,
+			SecondLevelCacheConstants.APPLICATION_REGION, SecondLevelCacheConstants.OFFER_BY_TITLE_REGION,
+			SecondLevelCacheConstants.APPLICATION_BY_TITLE_EMAIL_REGION,
+			SecondLevelCacheConstants.DEFAULT_QUERY_REGION);
+
+	/**
+	 * Cache manager owned by this application context, under its own URI so
+	 * that several contexts of the same class loader do not share regions.
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManager(Environment environment) {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+		for (String region : BOUNDED_REGIONS) {
+			long maximumSize = environment.getProperty(
+					SecondLevelCacheConstants.PROPERTY_PREFIX + region + ".maximum-size", Long.class,
+					SecondLevelCacheConstants.DEFAULT_MAXIMUM_SIZE);
+			long expireAfterWrite = environment.getProperty(
+					SecondLevelCacheConstants.PROPERTY_PREFIX + region + ".expire-after-write", Long.class,
+					SecondLevelCacheConstants.DEFAULT_EXPIRE_AFTER_WRITE);
+
+			CaffeineConfiguration<Object, Object> configuration = newConfiguration();
+			configuration.setMaximumSize(OptionalLong.of(maximumSize));
+			configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWrite)));
+			cacheManager.createCache(region, configuration);
+		}
+
+		cacheManager.createCache(SecondLevelCacheConstants.UPDATE_TIMESTAMPS_REGION, newConfiguration());
+
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+	}
+
+	/**
+	 * Hibernate caches immutable disassembled states, so entries are stored by
+	 * reference rather than copied on every read and write.
+	 */
+	private static CaffeineConfiguration<Object, Object> newConfiguration() {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStoreByValue(false);
+		configuration.setStatisticsEnabled(true);
+		return configuration;
+	}
+}
@@ -0,0 +1,99 @@
+package com.efrota.recruitingprocess.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.efrota.recruitingprocess.model.dto.CacheRegionStatisticsDTO;
+import com.efrota.recruitingprocess.model.dto.CacheStatisticsDTO;
+import com.efrota.recruitingprocess.service.JobOfferCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * API {@link RestController} containing endpoints to monitor the in-memory
+ * caches.
+ * 
+ * @author edmundofrota
+ *
+ */
+@RestController
+@RequestMapping("/api/caches")
+public class CacheController {
+
+	@Autowired
+	private JobOfferCache jobOfferCache;
+
+	@Autowired
+	private CacheManager hibernateCacheManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private static final String HEADER_ACCEPT = "Accept=application/json";
+
+	/**
+	 * Statistics of the {@link JobOfferCache}.
+	 * 
+	 * @return {@link CacheStatisticsDTO} since the start.
+	 */
+	@GetMapping(path = "/offers", headers = { HEADER_ACCEPT })
+	public @ResponseBody ResponseEntity<CacheStatisticsDTO> findJobOfferCacheStatistics() {
+
+		CacheStats stats = jobOfferCache.stats();
+
+		return new ResponseEntity<>(new CacheStatisticsDTO(jobOfferCache.size(), stats.hitCount(),
+				stats.missCount(), stats.hitRate(), stats.evictionCount()), HttpStatus.OK);
+	}
+
+	/**
+	 * Statistics of every region of the Hibernate second-level and query
+	 * caches. Only the sizes are reported when the Hibernate statistics are
+	 * disabled (<code>hibernate.generate_statistics</code>).
+	 * 
+	 * @return List of {@link CacheRegionStatisticsDTO} since the start, by
+	 *         region name.
+	 */
+	@GetMapping(path = "/regions", headers = { HEADER_ACCEPT })
+	public @ResponseBody ResponseEntity<List<CacheRegionStatisticsDTO>> findSecondLevelCacheStatistics() {
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<CacheRegionStatisticsDTO> regions = new ArrayList<>();
+
+		for (String region : hibernateCacheManager.getCacheNames()) {
+			Cache<?, ?> cache = hibernateCacheManager.getCache(region);
+			long size = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+
+			if (!statistics.isStatisticsEnabled()) {
+				regions.add(new CacheRegionStatisticsDTO(region, size, null, null, null, null));
+				continue;
+			}
+
+			CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+			long hitCount = stats == null ? 0 : stats.getHitCount();
+			long missCount = stats == null ? 0 : stats.getMissCount();
+			long putCount = stats == null ? 0 : stats.getPutCount();
+			long requestCount = hitCount + missCount;
+
+			regions.add(new CacheRegionStatisticsDTO(region, size, hitCount, missCount, putCount,
+					requestCount == 0 ? 1.0 : (double) hitCount / requestCount));
+		}
+
+		regions.sort((first, second) -> first.getRegion().compareTo(second.getRegion()));
+
+		return new ResponseEntity<>(regions, HttpStatus.OK);
+	}
+}
@@ -1,29 +1,57 @@
 package com.efrota.recruitingprocess.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.efrota.recruitingprocess.controller.handler.ResponseDetails;
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobApplicationStatusHistoryConstants;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
+import com.efrota.recruitingprocess.model.dto.JobApplicationBatchDTO;
+import com.efrota.recruitingprocess.model.dto.JobApplicationBatchResultDTO;
 import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
+import com.efrota.recruitingprocess.model.dto.JobApplicationStatusBatchDTO;
+import com.efrota.recruitingprocess.model.dto.JobApplicationStatusHistoryDTO;
+import com.efrota.recruitingprocess.model.dto.JobApplicationTransitionResultDTO;
 import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.admission.ApplyAdmissionControl;
 import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
  * API {@link RestController} containing endpoints to handle
@@ -38,13 +66,25 @@ public class JobApplicationController {
 
 	private static final String HEADER_ACCEPT = "Accept=application/json";
 	private static final String HEADER_CONTENT_TYPE = "Content-Type=application/json";
+	private static final String EXPORT_CONTENT_TYPE = "application/x-ndjson";
 
 	@Autowired
 	private JobApplicationService jobApplicationService;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private JobOfferVersionStamps jobOfferVersionStamps;
+	@Autowired
+	private ApplyAdmissionControl applyAdmissionControl;
+
 	/**
 	 * Create a {@link JobApplication} related to a {@link JobOffer}.
 	 * 
+	 * Answers <code>HttpStatus.TOO_MANY_REQUESTS</code> with a
+	 * <code>Retry-After</code> header, without opening a transaction, when the
+	 * offer or the whole service is over its admitted rate.
+	 * 
 	 * @param jobApplicationDTO
 	 *            DTO containing the data to be stored.
 	 * @return the created application in {@link JobApplicationDTO}
@@ -53,12 +93,134 @@ public class JobApplicationController {
 	public @ResponseBody ResponseEntity<JobApplicationDTO> apply(
 			@Valid @RequestBody JobApplicationDTO jobApplicationDTO) {
 
+		applyAdmissionControl.admit(jobApplicationDTO.getJobOffer());
+
 		JobApplication application = jobApplicationService
 				.create(EntityDTOConverter.convertToEntity(jobApplicationDTO), jobApplicationDTO.getJobOffer());
 
 		return new ResponseEntity<>(EntityDTOConverter.convertToDTO(application), HttpStatus.CREATED);
 	}
 
+	/**
+	 * Create a batch of {@link JobApplication}, each one related to a
+	 * {@link JobOffer}.
+	 * 
+	 * Applications for unknown offers or already existing emails are skipped
+	 * and reported, the others are created.
+	 * 
+	 * @param jobApplicationBatchDTO
+	 *            DTO containing the applications to be stored.
+	 * @return {@link JobApplicationBatchResultDTO} of each application, in the
+	 *         same order.
+	 */
+	@PostMapping(path = "/batch", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobApplicationBatchResultDTO>> applyBatch(
+			@Valid @RequestBody JobApplicationBatchDTO jobApplicationBatchDTO) {
+
+		List<JobApplicationDTO> jobApplicationDTOs = jobApplicationBatchDTO.getApplications();
+		List<JobApplication> jobApplications = new ArrayList<>(jobApplicationDTOs.size());
+
+		for (JobApplicationDTO jobApplicationDTO : jobApplicationDTOs) {
+			JobOffer jobOffer = new JobOffer();
+			jobOffer.setTitle(jobApplicationDTO.getJobOffer());
+
+			JobApplication jobApplication = EntityDTOConverter.convertToEntity(jobApplicationDTO);
+			jobApplication.setJobOffer(jobOffer);
+			jobApplications.add(jobApplication);
+		}
+
+		List<JobApplicationBatchResultEnum> results = jobApplicationService.createAll(jobApplications);
+
+		List<JobApplicationBatchResultDTO> resultDTOs = new ArrayList<>(results.size());
+		for (int i = 0; i < results.size(); i++) {
+			JobApplicationDTO jobApplicationDTO = jobApplicationDTOs.get(i);
+			resultDTOs.add(new JobApplicationBatchResultDTO(jobApplicationDTO.getJobOffer(),
+					jobApplicationDTO.getCandidateEmail(), results.get(i)));
+		}
+
+		return new ResponseEntity<>(resultDTOs, HttpStatus.OK);
+	}
+
+	/**
+	 * Find a page of {@link JobApplication} of a candidate across all
+	 * {@link JobOffer}, ordered by creation.
+	 * 
+	 * When there are more applications, the cursor of the next page is
+	 * returned in the <code>X-Next-Cursor</code> header.
+	 * 
+	 * @param candidateEmail
+	 *            application email.
+	 * @param resume
+	 *            <code>false</code> to leave the resumes out, they can then be
+	 *            read one application at a time (optional).
+	 * @param size
+	 *            max amount of applications in the page (optional).
+	 * @param cursor
+	 *            cursor returned by the previous page (optional).
+	 * @return {@link JobApplicationDTO} filtered by email.
+	 */
+	@GetMapping(path = "/", params = "candidateEmail", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobApplicationDTO>> findAllJobApplicationByCandidateEmail(
+			@RequestParam String candidateEmail, @RequestParam(defaultValue = "true") boolean resume,
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String cursor) {
+
+		int pageSize = PaginationUtils.resolvePageSize(size);
+
+		List<JobApplicationProjection> jobApplications = jobApplicationService.findByCandidateEmail(candidateEmail,
+				resume, PaginationUtils.decodeCursor(cursor), pageSize);
+
+		ResponseEntity<List<JobApplicationDTO>> responseEntity;
+
+		if (!jobApplications.isEmpty()) {
+			ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+
+			String nextCursor = PaginationUtils.nextCursor(jobApplications, pageSize, JobApplicationProjection::getId);
+			if (nextCursor != null) {
+				response.header(PaginationConstants.NEXT_CURSOR_HEADER, nextCursor);
+			}
+
+			responseEntity = response.body(jobApplications.stream()
+					.map(EntityDTOConverter::convertToDTO).collect(Collectors.toList()));
+		} else {
+			responseEntity = new ResponseEntity<>(HttpStatus.NO_CONTENT);
+		}
+
+		return responseEntity;
+	}
+
+	/**
+	 * Export every {@link JobApplication} of a {@link JobOffer} as
+	 * newline-delimited JSON, one {@link JobApplicationDTO} per line.
+	 * 
+	 * Rows are streamed from the database straight to the response, so the
+	 * memory used does not depend on the amount of applications.
+	 * 
+	 * @param offerTitle
+	 *            {@link JobOffer} title
+	 * @return {@link StreamingResponseBody} writing the applications.
+	 */
+	@GetMapping(path = "/{offerTitle}/export", produces = EXPORT_CONTENT_TYPE)
+	public ResponseEntity<StreamingResponseBody> exportJobApplicationByJobOffer(@PathVariable String offerTitle) {
+		StreamingResponseBody body = outputStream -> {
+			ObjectWriter writer = objectMapper.writerFor(JobApplicationDTO.class);
+
+			try {
+				jobApplicationService.exportByJobOfferTitle(offerTitle, jobApplication -> {
+					try {
+						outputStream.write(writer.writeValueAsBytes(EntityDTOConverter.convertToDTO(jobApplication)));
+						outputStream.write('\n');
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		};
+
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(EXPORT_CONTENT_TYPE)).body(body);
+	}
+
 	/**
 	 * Find a {@link JobApplication} based on offer title and candidate email.
 	 * 
@@ -87,23 +249,57 @@ public class JobApplicationController {
 	}
 
 	/**
-	 * Find a list of {@link JobApplication} based on offer title.
+	 * Find a page of {@link JobApplication} based on offer title, ordered by
+	 * creation.
+	 * 
+	 * When there are more applications, the cursor of the next page is
+	 * returned in the <code>X-Next-Cursor</code> header. Answers
+	 * <code>HttpStatus.NOT_MODIFIED</code> without reading the applications
+	 * when the <code>If-None-Match</code> header matches the version stamp of
+	 * the offer.
 	 * 
 	 * @param offerTitle
 	 *            {@link JobOffer} title.
+	 * @param status
+	 *            {@link JobApplicationStatusEnum} used as filter (optional).
+	 * @param resume
+	 *            <code>false</code> to leave the resumes out, they can then be
+	 *            read one application at a time (optional).
+	 * @param size
+	 *            max amount of applications in the page (optional).
+	 * @param cursor
+	 *            cursor returned by the previous page (optional).
+	 * @param request
+	 *            current request, holding the conditional headers.
 	 * @return {@link JobApplicationDTO} filtered by offer title.
 	 */
 	@GetMapping(path = "/{offerTitle}", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
 	public @ResponseBody ResponseEntity<List<JobApplicationDTO>> findAllJobApplicationByJobOffer(
-			@PathVariable String offerTitle) {
+			@PathVariable String offerTitle, @RequestParam(required = false) JobApplicationStatusEnum status,
+			@RequestParam(defaultValue = "true") boolean resume, @RequestParam(required = false) Integer size,
+			@RequestParam(required = false) String cursor, WebRequest request) {
+
+		if (request.checkNotModified(jobOfferVersionStamps.etag(offerTitle))) {
+			return null;
+		}
 
-		List<JobApplication> jobApplications = jobApplicationService.findByJobOfferTitle(offerTitle);
+		int pageSize = PaginationUtils.resolvePageSize(size);
+
+		List<JobApplicationProjection> jobApplications = jobApplicationService.findByJobOfferTitle(offerTitle,
+				status, resume, PaginationUtils.decodeCursor(cursor), pageSize);
 
 		ResponseEntity<List<JobApplicationDTO>> responseEntity;
 
 		if (!jobApplications.isEmpty()) {
-			responseEntity = new ResponseEntity<>(jobApplications.stream()
-					.map(appl -> EntityDTOConverter.convertToDTO(appl)).collect(Collectors.toList()), HttpStatus.OK);
+			ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+
+			String nextCursor = PaginationUtils.nextCursor(jobApplications, pageSize, JobApplicationProjection::getId);
+			if (nextCursor != null) {
+				response.header(PaginationConstants.NEXT_CURSOR_HEADER, nextCursor);
+			}
+
+			responseEntity = response.body(jobApplications.stream()
+					.map(EntityDTOConverter::convertToDTO).collect(Collectors.toList()));
 		} else {
 			responseEntity = new ResponseEntity<>(HttpStatus.NO_CONTENT);
 		}
@@ -111,20 +307,81 @@ public class JobApplicationController {
 		return responseEntity;
 	}
 
+	/**
+	 * Find the status transitions of a {@link JobApplication} in a period,
+	 * oldest first.
+	 * 
+	 * @param offerTitle
+	 *            {@link JobOffer} title.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email.
+	 * @param from
+	 *            start of the period (ISO date-time, inclusive), from the
+	 *            beginning if not passed.
+	 * @param to
+	 *            end of the period (ISO date-time, inclusive), up to now if
+	 *            not passed.
+	 * @return list of {@link JobApplicationStatusHistoryDTO}
+	 */
+	@GetMapping(path = "/{offerTitle}/{candidateEmail}/history", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobApplicationStatusHistoryDTO>> findJobApplicationStatusHistory(
+			@PathVariable String offerTitle, @PathVariable String candidateEmail,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Date from,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Date to) {
+
+		List<JobApplicationStatusHistory> history = jobApplicationService.findStatusHistory(offerTitle,
+				candidateEmail, from != null ? from : new Date(0L), to != null ? to : new Date());
+
+		return new ResponseEntity<>(history.stream().map(EntityDTOConverter::convertToDTO)
+				.collect(Collectors.toList()), HttpStatus.OK);
+	}
+
+	/**
+	 * Find the status a {@link JobApplication} had at a moment, through the
+	 * last transition up to it.
+	 * 
+	 * @param offerTitle
+	 *            {@link JobOffer} title.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email.
+	 * @param asOf
+	 *            moment (ISO date-time).
+	 * @return the {@link JobApplicationStatusHistoryDTO} in effect, or no
+	 *         content if the application did not exist yet.
+	 */
+	@GetMapping(path = "/{offerTitle}/{candidateEmail}/history", params = "asOf", 
+			headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<JobApplicationStatusHistoryDTO> findJobApplicationStatusAsOf(
+			@PathVariable String offerTitle, @PathVariable String candidateEmail,
+			@RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) Date asOf) {
+
+		JobApplicationStatusHistory history = jobApplicationService.findStatusAsOf(offerTitle, candidateEmail, asOf);
+
+		if (history == null) {
+			return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+		}
+
+		return new ResponseEntity<>(EntityDTOConverter.convertToDTO(history), HttpStatus.OK);
+	}
+
 	/**
 	 * Update a {@link JobApplication} based on offer title and application
 	 * email.
 	 * 
 	 * @param jobApplicationDTO
 	 *            {@link JobApplicationDTO} containing the data to be updated.
+	 * @param actor
+	 *            who changes the status, recorded in the status history.
 	 * @return message of the update result.
 	 */
 	@PutMapping(path = "/", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
 	public @ResponseBody ResponseEntity<ResponseDetails> updateCandidateStatus(
-			@Valid @RequestBody JobApplicationDTO jobApplicationDTO, WebRequest request) {
+			@Valid @RequestBody JobApplicationDTO jobApplicationDTO,
+			@RequestHeader(name = JobApplicationStatusHistoryConstants.ACTOR_HEADER, required = false) String actor,
+			WebRequest request) {
 
 		jobApplicationService.update(jobApplicationDTO.getStatus(), jobApplicationDTO.getJobOffer(),
-				jobApplicationDTO.getCandidateEmail());
+				jobApplicationDTO.getCandidateEmail(), actor);
 
 		String message = String.format("Candidate %s changed status to %s for the offer %s.",
 				jobApplicationDTO.getJobOffer(), jobApplicationDTO.getStatus(), jobApplicationDTO.getCandidateEmail());
@@ -132,4 +389,33 @@ public class JobApplicationController {
 		return new ResponseEntity<>(new ResponseDetails(message, request.getDescription(false)), HttpStatus.OK);
 	}
 
+	/**
+	 * Update the status of many {@link JobApplication} of the same offer.
+	 * 
+	 * Applications not found or whose current status does not allow the
+	 * transition are left untouched and reported, the others are updated.
+	 * 
+	 * @param jobApplicationStatusBatchDTO
+	 *            {@link JobApplicationStatusBatchDTO} containing the offer,
+	 *            the new status and the candidate emails.
+	 * @param actor
+	 *            who changes the statuses, recorded in the status history.
+	 * @return {@link JobApplicationTransitionResultDTO} of each distinct email,
+	 *         in the passed order.
+	 */
+	@PutMapping(path = "/batch", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobApplicationTransitionResultDTO>> updateCandidatesStatus(
+			@Valid @RequestBody JobApplicationStatusBatchDTO jobApplicationStatusBatchDTO,
+			@RequestHeader(name = JobApplicationStatusHistoryConstants.ACTOR_HEADER, required = false) String actor) {
+
+		Map<String, JobApplicationTransitionResultEnum> results = jobApplicationService.updateAll(
+				jobApplicationStatusBatchDTO.getStatus(), jobApplicationStatusBatchDTO.getJobOffer(),
+				jobApplicationStatusBatchDTO.getCandidateEmails(), actor);
+
+		List<JobApplicationTransitionResultDTO> resultDTOs = new ArrayList<>(results.size());
+		results.forEach((email, result) -> resultDTOs.add(new JobApplicationTransitionResultDTO(email, result)));
+
+		return new ResponseEntity<>(resultDTOs, HttpStatus.OK);
+	}
+
 }
@@ -0,0 +1,68 @@
+package com.efrota.recruitingprocess.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.dto.JobApplicationSearchResultDTO;
+import com.efrota.recruitingprocess.service.search.JobApplicationSearchService;
+
+/**
+ * API {@link RestController} containing endpoints to search
+ * {@link JobApplication} by resume text.
+ * 
+ * @author edmundofrota
+ *
+ */
+@RestController
+@RequestMapping("/api/search")
+public class JobApplicationSearchController {
+
+	private static final String HEADER_ACCEPT = "Accept=application/json";
+	private static final String HEADER_CONTENT_TYPE = "Content-Type=application/json";
+
+	@Autowired
+	private JobApplicationSearchService jobApplicationSearchService;
+
+	/**
+	 * Find the applications whose resume best matches the keywords and phrase.
+	 * 
+	 * @param keywords
+	 *            free text of keywords, any of them matches (optional).
+	 * @param phrase
+	 *            terms that must appear next to each other (optional).
+	 * @param offerTitle
+	 *            offer title to filter on (optional).
+	 * @param size
+	 *            max amount of results (optional).
+	 * @return List of {@link JobApplicationSearchResultDTO} ordered by
+	 *         descending relevance.
+	 */
+	@GetMapping(path = "/applications", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobApplicationSearchResultDTO>> searchJobApplications(
+			@RequestParam(required = false) String keywords, @RequestParam(required = false) String phrase,
+			@RequestParam(required = false) String offerTitle, @RequestParam(required = false) Integer size) {
+
+		Map<JobApplication, Double> results = jobApplicationSearchService.search(keywords, phrase, offerTitle,
+				size);
+
+		List<JobApplicationSearchResultDTO> resultDTOs = results.entrySet().stream()
+				.map(result -> new JobApplicationSearchResultDTO(result.getKey().getJobOffer().getTitle(),
+						result.getKey().getCandidateEmail(), result.getKey().getJobApplicationStatusEnum(),
+						result.getValue()))
+				.collect(Collectors.toList());
+
+		return new ResponseEntity<>(resultDTOs, HttpStatus.OK);
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.efrota.recruitingprocess.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
+import com.efrota.recruitingprocess.model.dto.JobOfferStatusCountDTO;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
+
+/**
+ * API {@link RestController} containing endpoints to count the applications of
+ * the {@link JobOffer} per {@link JobApplicationStatusEnum}.
+ * 
+ * @author edmundofrota
+ *
+ */
+@RestController
+@RequestMapping("/api/statuses")
+public class JobApplicationStatusController {
+
+	private static final String HEADER_ACCEPT = "Accept=application/json";
+	private static final String HEADER_CONTENT_TYPE = "Content-Type=application/json";
+
+	@Autowired
+	private JobApplicationService jobApplicationService;
+
+	/**
+	 * Count the applications of a {@link JobOffer} per status.
+	 * 
+	 * @param offerTitle
+	 *            {@link JobOffer} title.
+	 * @return {@link JobOfferStatusCountDTO} of the offer.
+	 */
+	@GetMapping(path = "/{offerTitle}", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<JobOfferStatusCountDTO> countJobApplicationByJobOffer(
+			@PathVariable String offerTitle) {
+
+		Map<JobApplicationStatusEnum, Long> counts = jobApplicationService.countByStatus(offerTitle);
+
+		return new ResponseEntity<>(new JobOfferStatusCountDTO(offerTitle, counts), HttpStatus.OK);
+	}
+
+	/**
+	 * Count the applications per status of a page of {@link JobOffer}, ordered
+	 * by creation.
+	 * 
+	 * When there are more offers, the cursor of the next page is returned in
+	 * the <code>X-Next-Cursor</code> header.
+	 * 
+	 * @param size
+	 *            max amount of offers in the page (optional).
+	 * @param cursor
+	 *            cursor returned by the previous page (optional).
+	 * @return List of {@link JobOfferStatusCountDTO}
+	 */
+	@GetMapping(path = "/", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
+	public @ResponseBody ResponseEntity<List<JobOfferStatusCountDTO>> countAllJobApplications(
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String cursor) {
+
+		int pageSize = PaginationUtils.resolvePageSize(size);
+
+		Map<JobOffer, Map<JobApplicationStatusEnum, Long>> counts = jobApplicationService
+				.countByStatus(PaginationUtils.decodeCursor(cursor), pageSize);
+
+		List<JobOfferStatusCountDTO> countDTOs = counts.entrySet().stream()
+				.map(entry -> new JobOfferStatusCountDTO(entry.getKey().getTitle(), entry.getValue()))
+				.collect(Collectors.toList());
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+
+		String nextCursor = PaginationUtils.nextCursor(new ArrayList<>(counts.keySet()), pageSize, JobOffer::getId);
+		if (nextCursor != null) {
+			response.header(PaginationConstants.NEXT_CURSOR_HEADER, nextCursor);
+		}
+
+		return response.body(countDTOs);
+	}
+}
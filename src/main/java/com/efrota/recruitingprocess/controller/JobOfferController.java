@@ -3,7 +3,7 @@ package com.efrota.recruitingprocess.controller;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -15,14 +15,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.efrota.recruitingprocess.exception.NotFoundException;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
 import com.efrota.recruitingprocess.model.dto.JobOfferDTO;
+import com.efrota.recruitingprocess.model.dto.JobOfferSummaryDTO;
 import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
 import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
 
 /**
  * API {@link RestController} containing endpoints to handle {@link JobOffer}.
@@ -38,6 +45,8 @@ public class JobOfferController {
 
 	@Autowired
 	private JobOfferService jobOfferService;
+	@Autowired
+	private JobOfferVersionStamps jobOfferVersionStamps;
 
 	private static final String HEADER_ACCEPT = "Accept=application/json";
 	private static final String HEADER_CONTENT_TYPE = "Content-Type=application/json";
@@ -58,39 +67,78 @@ public class JobOfferController {
 	}
 
 	/**
-	 * Find a {@linkJobOffer} based on the title.
+	 * Find the summary of a {@link JobOffer} based on the title, with the
+	 * amount of applications per status and the last activity.
+	 * 
+	 * Answers <code>HttpStatus.NOT_MODIFIED</code> without reading the offer
+	 * when the <code>If-None-Match</code> header matches its version stamp.
 	 * 
 	 * @param offerTitle
 	 *            unique title.
-	 * @return {@link JobOfferDTO} filtered by the title.
+	 * @param request
+	 *            current request, holding the conditional headers.
+	 * @return {@link JobOfferSummaryDTO} filtered by the title.
 	 */
 	@GetMapping(path = "/{offerTitle}", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
-	public @ResponseBody ResponseEntity<JobOfferDTO> findSingleJobOffer(@PathVariable String offerTitle) {
+	public @ResponseBody ResponseEntity<JobOfferSummaryDTO> findSingleJobOffer(@PathVariable String offerTitle,
+			WebRequest request) {
+
+		if (request.checkNotModified(jobOfferVersionStamps.etag(offerTitle))) {
+			return null;
+		}
 
-		JobOffer offer = jobOfferService.findByTitle(offerTitle);
+		JobOfferSummary summary = jobOfferService.findSummaryByTitle(offerTitle);
 
-		if (offer == null) {
+		if (summary == null) {
 			String message = String.format("Offer %s could not be found.", offerTitle);
 			log.warn(message);
 			throw new NotFoundException(message);
 		}
 
-		return new ResponseEntity<>(EntityDTOConverter.convertToDTO(offer), HttpStatus.OK);
+		return new ResponseEntity<>(EntityDTOConverter.convertToDTO(summary), HttpStatus.OK);
 	}
 
 	/**
-	 * Find all {@link JobOffer}.
+	 * Find a page of {@link JobOffer} summaries, ordered by creation, served
+	 * from memory.
+	 * 
+	 * When there are more offers, the cursor of the next page is returned in
+	 * the <code>X-Next-Cursor</code> header. Answers
+	 * <code>HttpStatus.NOT_MODIFIED</code> without reading the offers when the
+	 * <code>If-None-Match</code> header matches the global version stamp.
 	 * 
-	 * @return List of offers in {@link JobOfferDTO}
+	 * @param size
+	 *            max amount of offers in the page (optional).
+	 * @param cursor
+	 *            cursor returned by the previous page (optional).
+	 * @param request
+	 *            current request, holding the conditional headers.
+	 * @return List of offers in {@link JobOfferSummaryDTO}
 	 */
 	@GetMapping(path = "/", headers = { HEADER_ACCEPT, HEADER_CONTENT_TYPE })
-	public @ResponseBody ResponseEntity<List<JobOfferDTO>> findAllJobOffers() {
+	public @ResponseBody ResponseEntity<List<JobOfferSummaryDTO>> findAllJobOffers(
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String cursor,
+			WebRequest request) {
 
-		List<JobOffer> jobOffers = jobOfferService.findAll();
+		if (request.checkNotModified(jobOfferVersionStamps.etagAll())) {
+			return null;
+		}
 
-		List<JobOfferDTO> jobOfferDTOs = jobOffers.stream()
-				.map(offer -> EntityDTOConverter.convertToDTO(offer)).collect(Collectors.toList());
+		int pageSize = PaginationUtils.resolvePageSize(size);
+
+		List<JobOfferSummary> summaries = jobOfferService.findAllSummaries(PaginationUtils.decodeCursor(cursor),
+				pageSize);
+
+		List<JobOfferSummaryDTO> jobOfferDTOs = summaries.stream()
+				.map(summary -> EntityDTOConverter.convertToDTO(summary)).collect(Collectors.toList());
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+
+		String nextCursor = PaginationUtils.nextCursor(summaries, pageSize, JobOfferSummary::getId);
+		if (nextCursor != null) {
+			response.header(PaginationConstants.NEXT_CURSOR_HEADER, nextCursor);
+		}
 
-		return new ResponseEntity<>(jobOfferDTOs, HttpStatus.OK);
+		return response.body(jobOfferDTOs);
 	}
 }
@@ -0,0 +1,87 @@
+package com.efrota.recruitingprocess.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.ReactiveConstants;
+import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
+import com.efrota.recruitingprocess.model.dto.JobOfferDTO;
+import com.efrota.recruitingprocess.service.reactive.ReactiveReadService;
+import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * API {@link RestController} containing non-blocking variants of the read
+ * endpoints of {@link JobOffer} and {@link JobApplication}.
+ * 
+ * Requests are completed asynchronously, releasing the container thread while
+ * the database is read. Lists are streamed one JSON document per line, each
+ * page being read as the client consumes the previous one.
+ * 
+ * @author edmundofrota
+ *
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveReadController {
+
+	private static final String HEADER_ACCEPT = "Accept=application/json";
+
+	@Autowired
+	private ReactiveReadService reactiveReadService;
+
+	/**
+	 * Find a {@link JobOffer} based on the title.
+	 * 
+	 * @param offerTitle
+	 *            unique title.
+	 * @return {@link JobOfferDTO} filtered by the title.
+	 */
+	@GetMapping(path = "/offers/{offerTitle}", headers = HEADER_ACCEPT)
+	public Mono<JobOfferDTO> findSingleJobOffer(@PathVariable String offerTitle) {
+		return reactiveReadService.findJobOfferByTitle(offerTitle).map(EntityDTOConverter::convertToDTO);
+	}
+
+	/**
+	 * Stream all {@link JobOffer}, ordered by creation.
+	 * 
+	 * @return offers in {@link JobOfferDTO}
+	 */
+	@GetMapping(path = "/offers/", produces = ReactiveConstants.STREAM_CONTENT_TYPE)
+	public Flux<JobOfferDTO> findAllJobOffers() {
+		return reactiveReadService.findAllJobOffers().map(EntityDTOConverter::convertToDTO);
+	}
+
+	/**
+	 * Stream the {@link JobApplication} of a {@link JobOffer}, ordered by
+	 * creation.
+	 * 
+	 * The offer is found before the stream starts, since the status of the
+	 * response is sent with its first line.
+	 * 
+	 * @param offerTitle
+	 *            {@link JobOffer} title.
+	 * @param status
+	 *            {@link JobApplicationStatusEnum} used as filter (optional).
+	 * @return {@link JobApplicationDTO} filtered by offer title.
+	 */
+	@GetMapping(path = "/applications/{offerTitle}", produces = ReactiveConstants.STREAM_CONTENT_TYPE)
+	public Mono<ResponseEntity<Flux<JobApplicationDTO>>> findAllJobApplicationByJobOffer(
+			@PathVariable String offerTitle, @RequestParam(required = false) JobApplicationStatusEnum status) {
+		return reactiveReadService.findJobOfferByTitle(offerTitle)
+				.map(jobOffer -> ResponseEntity.ok(reactiveReadService
+						.findJobApplicationByJobOfferTitle(offerTitle, status)
+						.map(EntityDTOConverter::convertToDTO)));
+	}
+
+}
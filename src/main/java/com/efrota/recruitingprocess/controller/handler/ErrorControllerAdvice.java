@@ -1,19 +1,28 @@
 package com.efrota.recruitingprocess.controller.handler;
 
-import javax.persistence.PersistenceException;
+import jakarta.persistence.PersistenceException;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+
+import com.efrota.recruitingprocess.exception.TooManyRequestsException;
 
 /**
- * Responsible for handle controller exceptions for response type
- * <code>HttpStatus.INTERNAL_SERVER_ERROR</code>.
+ * Responsible for handle controller exceptions for response types
+ * <code>HttpStatus.INTERNAL_SERVER_ERROR</code>,
+ * <code>HttpStatus.CONFLICT</code> and
+ * <code>HttpStatus.TOO_MANY_REQUESTS</code>.
  * 
  * List of exceptions handled by: {@link PersistenceException}
  * {@link NullPointerException} {@link DataIntegrityViolationException}
+ * {@link OptimisticLockingFailureException} {@link TooManyRequestsException}
  * 
  * @author edmundofrota
  *
@@ -27,4 +36,25 @@ public class ErrorControllerAdvice {
 		// empty
 	}
 
+	/**
+	 * The resource was changed by a concurrent request, the client can read it
+	 * again and retry.
+	 */
+	@ResponseStatus(HttpStatus.CONFLICT)
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public void handleConflict() {
+		// empty
+	}
+
+	/**
+	 * The request was shed by the admission control, the client can retry
+	 * after the delay of the <code>Retry-After</code> header.
+	 */
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ResponseDetails> handleTooManyRequests(TooManyRequestsException e, WebRequest request) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(new ResponseDetails(e.getMessage(), request.getDescription(false)));
+	}
+
 }
@@ -0,0 +1,92 @@
+package com.efrota.recruitingprocess.controller.handler;
+
+import java.time.Duration;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.WebUtils;
+
+import com.efrota.recruitingprocess.config.ReplicaLagGuard;
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+
+/**
+ * Carries the {@link ReplicaLagGuard} of a client across its requests, which
+ * run on different threads.
+ * 
+ * Before a request is handled, the moment of the last write of the client is
+ * restored from the <code>recruiting-last-write</code> cookie. When the
+ * replica may still lag behind a write, the cookie is sent back with the
+ * response, expiring with the lag.
+ * 
+ * @author edmundofrota
+ *
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = DataSourceConstants.REPLICA_URL)
+public class ReplicaLagCookieAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+	private final ReplicaLagGuard replicaLagGuard;
+
+	public ReplicaLagCookieAdvice(ReplicaLagGuard replicaLagGuard) {
+		this.replicaLagGuard = replicaLagGuard;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		Cookie cookie = WebUtils.getCookie(request, DataSourceConstants.LAST_WRITE_COOKIE);
+
+		Long lastWrite = null;
+		if (cookie != null) {
+			try {
+				lastWrite = Long.valueOf(cookie.getValue());
+			} catch (NumberFormatException e) {
+				// ignored, as if there was no cookie
+			}
+		}
+
+		replicaLagGuard.restore(lastWrite);
+
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		replicaLagGuard.restore(null);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		Long pendingWrite = replicaLagGuard.getPendingWrite();
+
+		if (pendingWrite != null) {
+			long remainingMillis = replicaLagGuard.getMaxLagMillis() - (System.currentTimeMillis() - pendingWrite);
+			response.getHeaders().add(HttpHeaders.SET_COOKIE,
+					ResponseCookie.from(DataSourceConstants.LAST_WRITE_COOKIE, String.valueOf(pendingWrite))
+							.maxAge(Duration.ofMillis(remainingMillis).plusSeconds(1).getSeconds())
+							.path("/").httpOnly(true).build().toString());
+		}
+
+		return body;
+	}
+}
@@ -0,0 +1,14 @@
+package com.efrota.recruitingprocess.enums;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * Outcome of each {@link JobApplication} of a batch ingestion.
+ * 
+ * @author edmundofrota
+ *
+ */
+public enum JobApplicationBatchResultEnum {
+
+	CREATED, DUPLICATE, UNKNOWN_OFFER;
+}
@@ -0,0 +1,14 @@
+package com.efrota.recruitingprocess.enums;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * Outcome of each {@link JobApplication} of a bulk status transition.
+ * 
+ * @author edmundofrota
+ *
+ */
+public enum JobApplicationTransitionResultEnum {
+
+	UPDATED, NOT_FOUND, INVALID_TRANSITION;
+}
@@ -0,0 +1,14 @@
+package com.efrota.recruitingprocess.enums;
+
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * Delivery status of a {@link Notification}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public enum NotificationStatusEnum {
+
+	PENDING, SENT, FAILED;
+}
@@ -0,0 +1,24 @@
+package com.efrota.recruitingprocess.exception;
+
+/**
+ * Custom {@link RuntimeException} to reject requests over the admitted rate
+ * with <code>HttpStatus.TOO_MANY_REQUESTS</code> and a
+ * <code>Retry-After</code> header.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class TooManyRequestsException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
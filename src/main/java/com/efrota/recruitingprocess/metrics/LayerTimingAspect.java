@@ -0,0 +1,173 @@
+package com.efrota.recruitingprocess.metrics;
+
+import java.io.IOException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@link Aspect} timing every call to the controllers, services and
+ * repositories of offers and applications.
+ * 
+ * Calls are recorded in the <code>recruiting.method</code> timer, tagged by
+ * layer, class, method and thrown exception. Histogram buckets are
+ * configured in <code>application.properties</code>.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+
+	private static final String CONTROLLER = "controller";
+	private static final String SERVICE = "service";
+	private static final String REPOSITORY = "repository";
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Around("execution(public * com.efrota.recruitingprocess.controller.JobOfferController.*(..)) "
+			+ "|| execution(public * com.efrota.recruitingprocess.controller.JobApplicationController.*(..))")
+	public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, CONTROLLER, joinPoint.getTarget().getClass().getSimpleName());
+	}
+
+	@Around("execution(public * com.efrota.recruitingprocess.service.JobOfferServiceImpl.*(..)) "
+			+ "|| execution(public * com.efrota.recruitingprocess.service.JobApplicationServiceImpl.*(..))")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, SERVICE, joinPoint.getTarget().getClass().getSimpleName());
+	}
+
+	@Around("execution(* com.efrota.recruitingprocess.repository.JobOfferRepository+.*(..))")
+	public Object timeJobOfferRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, REPOSITORY, "JobOfferRepository");
+	}
+
+	@Around("execution(* com.efrota.recruitingprocess.repository.JobApplicationRepository+.*(..))")
+	public Object timeJobApplicationRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return time(joinPoint, REPOSITORY, "JobApplicationRepository");
+	}
+
+	/**
+	 * Run the intercepted method, recording its duration.
+	 * 
+	 * Business exceptions thrown by the services are also counted, as they
+	 * are the outcome returned to the client. A
+	 * {@link StreamingResponseBody} returned by a controller is recorded
+	 * once it is written, since the method only builds it.
+	 * 
+	 * @param joinPoint
+	 *            intercepted call.
+	 * @param layer
+	 *            layer of the intercepted class.
+	 * @param className
+	 *            name of the intercepted class.
+	 * @return result of the intercepted method.
+	 * @throws Throwable
+	 *             exception thrown by the intercepted method.
+	 */
+	private Object time(ProceedingJoinPoint joinPoint, String layer, String className) throws Throwable {
+		String methodName = joinPoint.getSignature().getName();
+		String exception = MetricsConstants.NO_EXCEPTION;
+		Timer.Sample sample = Timer.start(meterRegistry);
+		boolean streaming = false;
+
+		try {
+			Object result = joinPoint.proceed();
+
+			if (CONTROLLER.equals(layer) && result instanceof ResponseEntity
+					&& ((ResponseEntity<?>) result).getBody() instanceof StreamingResponseBody) {
+				streaming = true;
+				return timeStreaming((ResponseEntity<?>) result, sample, layer, className, methodName);
+			}
+
+			return result;
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+
+			if (SERVICE.equals(layer)
+					&& (e instanceof NotFoundException || e instanceof ServiceValidationException)) {
+				meterRegistry.counter(MetricsConstants.SERVICE_EXCEPTION_COUNTER, MetricsConstants.TAG_CLASS,
+						className, MetricsConstants.TAG_METHOD, methodName, MetricsConstants.TAG_EXCEPTION,
+						exception).increment();
+			}
+
+			throw e;
+		} finally {
+			if (!streaming) {
+				stop(sample, layer, className, methodName, exception);
+			}
+		}
+	}
+
+	/**
+	 * Wrap the {@link StreamingResponseBody} of a response, so that the call
+	 * is recorded when the body is completely written, tagged with the
+	 * exception thrown while writing.
+	 * 
+	 * @param response
+	 *            response returned by the controller.
+	 * @param sample
+	 *            sample started with the call.
+	 * @param layer
+	 *            layer of the intercepted class.
+	 * @param className
+	 *            name of the intercepted class.
+	 * @param methodName
+	 *            name of the intercepted method.
+	 * @return same response, with the wrapped body.
+	 */
+	private ResponseEntity<StreamingResponseBody> timeStreaming(ResponseEntity<?> response, Timer.Sample sample,
+			String layer, String className, String methodName) {
+		StreamingResponseBody body = (StreamingResponseBody) response.getBody();
+
+		StreamingResponseBody timedBody = outputStream -> {
+			String exception = MetricsConstants.NO_EXCEPTION;
+
+			try {
+				body.writeTo(outputStream);
+			} catch (IOException | RuntimeException e) {
+				exception = e.getClass().getSimpleName();
+				throw e;
+			} finally {
+				stop(sample, layer, className, methodName, exception);
+			}
+		};
+
+		return new ResponseEntity<>(timedBody, response.getHeaders(), response.getStatusCode());
+	}
+
+	/**
+	 * Record a call in the <code>recruiting.method</code> timer.
+	 * 
+	 * @param sample
+	 *            sample started with the call.
+	 * @param layer
+	 *            layer of the intercepted class.
+	 * @param className
+	 *            name of the intercepted class.
+	 * @param methodName
+	 *            name of the intercepted method.
+	 * @param exception
+	 *            simple name of the thrown exception, <code>none</code>
+	 *            otherwise.
+	 */
+	private void stop(Timer.Sample sample, String layer, String className, String methodName, String exception) {
+		sample.stop(meterRegistry.timer(MetricsConstants.METHOD_TIMER, MetricsConstants.TAG_LAYER, layer,
+				MetricsConstants.TAG_CLASS, className, MetricsConstants.TAG_METHOD, methodName,
+				MetricsConstants.TAG_EXCEPTION, exception));
+	}
+}
@@ -2,23 +2,34 @@ package com.efrota.recruitingprocess.model;
 
 import java.io.Serializable;
 
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.EnumType;
-import javax.persistence.Enumerated;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
-import javax.persistence.JoinColumn;
-import javax.persistence.ManyToOne;
-import javax.persistence.Table;
-import javax.persistence.UniqueConstraint;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
 
 /**
  * Entity class for job application.
  * 
+ * Cached in the second-level region <code>application</code>, updated on every
+ * write of the entity.
+ * 
  * @author edmundofrota
  *
  */
@@ -26,12 +37,18 @@ import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
 @Table(
 		name = "application", 
 		uniqueConstraints = @UniqueConstraint(
-				name = "uk_offer_email", columnNames = { "job_offer_id", "candidate_email" }))
+				name = "uk_offer_email", columnNames = { "job_offer_id", "candidate_email" }),
+		indexes = {
+				@Index(name = "idx_offer_status", columnList = "job_offer_id, status"),
+				@Index(name = "idx_email_id", columnList = "candidate_email, id") })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConstants.APPLICATION_REGION)
 @SuppressWarnings("serial")
 public class JobApplication implements Serializable {
 
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_sequence")
+	@SequenceGenerator(name = "application_sequence", sequenceName = "application_sequence", 
+			allocationSize = JobApplicationConstants.ID_ALLOCATION_SIZE)
 	private int id;
 
 	@ManyToOne
@@ -48,6 +65,12 @@ public class JobApplication implements Serializable {
 	@Column(name = "status", nullable = false, length = JobApplicationConstants.CANDIDATE_STATUS_LENGTH)
 	private JobApplicationStatusEnum jobApplicationStatusEnum;
 
+	/**
+	 * Optimistic lock, incremented on every update.
+	 */
+	@Version
+	private long version;
+
 	public int getId() {
 		return id;
 	}
@@ -88,4 +111,12 @@ public class JobApplication implements Serializable {
 		this.jobApplicationStatusEnum = jobApplicationStatusEnum;
 	}
 
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
 }
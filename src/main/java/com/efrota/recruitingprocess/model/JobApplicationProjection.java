@@ -0,0 +1,67 @@
+package com.efrota.recruitingprocess.model;
+
+import java.io.Serializable;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+
+/**
+ * Read-only projection of a {@link JobApplication}, built by the list
+ * queries straight from the selected columns.
+ * 
+ * No entity is hydrated nor attached to the persistence context, the offer is
+ * reduced to its title and the resume is only read when requested.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationProjection implements Serializable {
+
+	private final int id;
+
+	private final String jobOfferTitle;
+
+	private final String candidateEmail;
+
+	private final JobApplicationStatusEnum jobApplicationStatusEnum;
+
+	private final String resumeText;
+
+	public JobApplicationProjection(int id, String jobOfferTitle, String candidateEmail,
+			JobApplicationStatusEnum jobApplicationStatusEnum) {
+		this(id, jobOfferTitle, candidateEmail, jobApplicationStatusEnum, null);
+	}
+
+	public JobApplicationProjection(int id, String jobOfferTitle, String candidateEmail,
+			JobApplicationStatusEnum jobApplicationStatusEnum, String resumeText) {
+		this.id = id;
+		this.jobOfferTitle = jobOfferTitle;
+		this.candidateEmail = candidateEmail;
+		this.jobApplicationStatusEnum = jobApplicationStatusEnum;
+		this.resumeText = resumeText;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getJobOfferTitle() {
+		return jobOfferTitle;
+	}
+
+	public String getCandidateEmail() {
+		return candidateEmail;
+	}
+
+	public JobApplicationStatusEnum getJobApplicationStatusEnum() {
+		return jobApplicationStatusEnum;
+	}
+
+	/**
+	 * @return resume or <code>null</code> when it was not selected.
+	 */
+	public String getResumeText() {
+		return resumeText;
+	}
+
+}
@@ -0,0 +1,136 @@
+package com.efrota.recruitingprocess.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.model.constants.JobApplicationStatusHistoryConstants;
+
+/**
+ * Entity class for the status transitions of a {@link JobApplication}.
+ * 
+ * Rows are only inserted, in the same transaction as the transition, and never
+ * updated.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Entity
+@Table(
+		name = "application_status_history", 
+		indexes = @Index(name = "idx_history_application_changed", columnList = "application_id, changed_at"))
+@SuppressWarnings("serial")
+public class JobApplicationStatusHistory implements Serializable {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_status_history_sequence")
+	@SequenceGenerator(name = "application_status_history_sequence", 
+			sequenceName = "application_status_history_sequence", 
+			allocationSize = JobApplicationStatusHistoryConstants.ID_ALLOCATION_SIZE)
+	private int id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "application_id", referencedColumnName = "id", nullable = false, updatable = false)
+	private JobApplication jobApplication;
+
+	/**
+	 * Status before the transition, <code>null</code> when the application is
+	 * created.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "from_status", updatable = false, length = JobApplicationConstants.CANDIDATE_STATUS_LENGTH)
+	private JobApplicationStatusEnum fromStatus;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "to_status", nullable = false, updatable = false, 
+			length = JobApplicationConstants.CANDIDATE_STATUS_LENGTH)
+	private JobApplicationStatusEnum toStatus;
+
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(name = "changed_at", nullable = false, updatable = false)
+	private Date changedAt;
+
+	@Column(name = "actor", nullable = false, updatable = false, 
+			length = JobApplicationStatusHistoryConstants.ACTOR_LENGTH)
+	private String actor;
+
+	public JobApplicationStatusHistory() {
+		super();
+	}
+
+	public JobApplicationStatusHistory(JobApplication jobApplication, JobApplicationStatusEnum fromStatus,
+			JobApplicationStatusEnum toStatus, Date changedAt, String actor) {
+		this();
+		this.jobApplication = jobApplication;
+		this.fromStatus = fromStatus;
+		this.toStatus = toStatus;
+		this.changedAt = changedAt;
+		this.actor = actor;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public JobApplication getJobApplication() {
+		return jobApplication;
+	}
+
+	public void setJobApplication(JobApplication jobApplication) {
+		this.jobApplication = jobApplication;
+	}
+
+	public JobApplicationStatusEnum getFromStatus() {
+		return fromStatus;
+	}
+
+	public void setFromStatus(JobApplicationStatusEnum fromStatus) {
+		this.fromStatus = fromStatus;
+	}
+
+	public JobApplicationStatusEnum getToStatus() {
+		return toStatus;
+	}
+
+	public void setToStatus(JobApplicationStatusEnum toStatus) {
+		this.toStatus = toStatus;
+	}
+
+	public Date getChangedAt() {
+		return changedAt;
+	}
+
+	public void setChangedAt(Date changedAt) {
+		this.changedAt = changedAt;
+	}
+
+	public String getActor() {
+		return actor;
+	}
+
+	public void setActor(String actor) {
+		this.actor = actor;
+	}
+
+}
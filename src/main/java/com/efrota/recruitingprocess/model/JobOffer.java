@@ -4,28 +4,39 @@ import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 
-import javax.persistence.CascadeType;
-import javax.persistence.Column;
-import javax.persistence.Entity;
-import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
-import javax.persistence.OneToMany;
-import javax.persistence.Table;
-import javax.persistence.Temporal;
-import javax.persistence.TemporalType;
-import javax.persistence.Transient;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
 
 /**
  * Entity class for job offer.
  * 
+ * Cached in the second-level region <code>offer</code>, updated on every
+ * write of the entity.
+ * 
  * @author edmundofrota
  *
  */
 @Entity
-@Table(name = "offer")
+@Table(
+		name = "offer", 
+		uniqueConstraints = @UniqueConstraint(name = "uk_offer_title", columnNames = "title"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConstants.OFFER_REGION)
 @SuppressWarnings("serial")
 public class JobOffer implements Serializable {
 
@@ -33,20 +44,27 @@ public class JobOffer implements Serializable {
 	@GeneratedValue
 	private int id;
 
-	@Column(unique = true, nullable = false, length = JobOfferConstants.TITLE_LENGTH)
+	@Column(nullable = false, length = JobOfferConstants.TITLE_LENGTH)
 	private String title;
 
 	@Temporal(TemporalType.DATE)
 	@Column(name = "start_date")
 	private Date startDate;
 
+	/**
+	 * Optimistic lock, incremented on every update.
+	 */
+	@Version
+	private long version;
+
 	@OneToMany(targetEntity = JobApplication.class, mappedBy = "jobOffer", fetch = FetchType.LAZY, orphanRemoval = true, cascade = CascadeType.ALL)
 	private List<JobApplication> jobApplications;
 
 	/**
-	 * Total amount of {@link JobApplication} for this offer.
+	 * Total amount of {@link JobApplication} for this offer, incremented on
+	 * every apply and periodically reconciled with the actual amount.
 	 */
-	@Transient
+	@Column(name = "application_amount", nullable = false)
 	private long applicationAmount;
 
 	public JobOffer() {
@@ -100,4 +118,12 @@ public class JobOffer implements Serializable {
 	public void setApplicationAmount(long applicationAmount) {
 		this.applicationAmount = applicationAmount;
 	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
 }
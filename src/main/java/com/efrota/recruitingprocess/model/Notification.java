@@ -0,0 +1,198 @@
+package com.efrota.recruitingprocess.model;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.NotificationStatusEnum;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
+import com.efrota.recruitingprocess.model.constants.NotificationConstants;
+
+/**
+ * Entity class for the outbox of candidate notifications.
+ * 
+ * A notification is stored in the same transaction as the status change of
+ * the {@link JobApplication} and sent later, out of any request.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Entity
+@Table(
+		name = "notification", 
+		indexes = {
+				@Index(name = "idx_notification_status_next", columnList = "status, next_attempt_at"),
+				@Index(name = "idx_notification_status_sent", columnList = "status, sent_at") })
+@SuppressWarnings("serial")
+public class Notification implements Serializable {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_sequence")
+	@SequenceGenerator(name = "notification_sequence", sequenceName = "notification_sequence", 
+			allocationSize = NotificationConstants.ID_ALLOCATION_SIZE)
+	private int id;
+
+	@Column(name = "candidate_email", nullable = false, length = JobApplicationConstants.CANDIDATE_EMAIL_LENGTH)
+	private String candidateEmail;
+
+	@Column(name = "job_offer_title", nullable = false, length = JobOfferConstants.TITLE_LENGTH)
+	private String jobOfferTitle;
+
+	/**
+	 * Status the candidate is notified about.
+	 */
+	@Enumerated(EnumType.STRING)
+	@Column(name = "application_status", nullable = false, length = JobApplicationConstants.CANDIDATE_STATUS_LENGTH)
+	private JobApplicationStatusEnum jobApplicationStatusEnum;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = NotificationConstants.STATUS_LENGTH)
+	private NotificationStatusEnum notificationStatusEnum;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(name = "created_at", nullable = false)
+	private Date createdAt;
+
+	/**
+	 * Moment from which the notification can be claimed for sending.
+	 */
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(name = "next_attempt_at", nullable = false)
+	private Date nextAttemptAt;
+
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(name = "sent_at")
+	private Date sentAt;
+
+	@Column(name = "last_error", length = NotificationConstants.LAST_ERROR_LENGTH)
+	private String lastError;
+
+	/**
+	 * Optimistic lock, so that two dispatchers cannot claim the same
+	 * notification.
+	 */
+	@Version
+	private long version;
+
+	public Notification() {
+		super();
+	}
+
+	public Notification(String candidateEmail, String jobOfferTitle, JobApplicationStatusEnum jobApplicationStatusEnum,
+			Date createdAt) {
+		this();
+		this.candidateEmail = candidateEmail;
+		this.jobOfferTitle = jobOfferTitle;
+		this.jobApplicationStatusEnum = jobApplicationStatusEnum;
+		this.notificationStatusEnum = NotificationStatusEnum.PENDING;
+		this.createdAt = createdAt;
+		this.nextAttemptAt = createdAt;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public String getCandidateEmail() {
+		return candidateEmail;
+	}
+
+	public void setCandidateEmail(String candidateEmail) {
+		this.candidateEmail = candidateEmail;
+	}
+
+	public String getJobOfferTitle() {
+		return jobOfferTitle;
+	}
+
+	public void setJobOfferTitle(String jobOfferTitle) {
+		this.jobOfferTitle = jobOfferTitle;
+	}
+
+	public JobApplicationStatusEnum getJobApplicationStatusEnum() {
+		return jobApplicationStatusEnum;
+	}
+
+	public void setJobApplicationStatusEnum(JobApplicationStatusEnum jobApplicationStatusEnum) {
+		this.jobApplicationStatusEnum = jobApplicationStatusEnum;
+	}
+
+	public NotificationStatusEnum getNotificationStatusEnum() {
+		return notificationStatusEnum;
+	}
+
+	public void setNotificationStatusEnum(NotificationStatusEnum notificationStatusEnum) {
+		this.notificationStatusEnum = notificationStatusEnum;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		this.attempts = attempts;
+	}
+
+	public Date getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(Date createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public Date getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+
+	public void setNextAttemptAt(Date nextAttemptAt) {
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public Date getSentAt() {
+		return sentAt;
+	}
+
+	public void setSentAt(Date sentAt) {
+		this.sentAt = sentAt;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the admission control
+ * of the applications.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class AdmissionConstants {
+
+	private AdmissionConstants() {
+		// empty
+	}
+
+	/**
+	 * Whether applications are rate limited. Overridable by the property
+	 * <code>admission.enabled</code>.
+	 */
+	public static final String ENABLED = "${admission.enabled:true}";
+	/**
+	 * Applications per second admitted across all offers. Overridable by the
+	 * property <code>admission.global.rate</code>.
+	 */
+	public static final String GLOBAL_RATE = "${admission.global.rate:500}";
+	/**
+	 * Applications admitted at once across all offers after an idle period.
+	 * Overridable by the property <code>admission.global.burst</code>.
+	 */
+	public static final String GLOBAL_BURST = "${admission.global.burst:1000}";
+	/**
+	 * Applications per second admitted for a single offer. Overridable by the
+	 * property <code>admission.offer.rate</code>.
+	 */
+	public static final String OFFER_RATE = "${admission.offer.rate:50}";
+	/**
+	 * Applications admitted at once for a single offer after an idle period.
+	 * Overridable by the property <code>admission.offer.burst</code>.
+	 */
+	public static final String OFFER_BURST = "${admission.offer.burst:100}";
+	/**
+	 * Max amount of offers whose bucket is kept in memory. Overridable by the
+	 * property <code>admission.offer.maximum-buckets</code>.
+	 */
+	public static final String OFFER_MAXIMUM_BUCKETS = "${admission.offer.maximum-buckets:10000}";
+	/**
+	 * Tag value of <code>scope</code> for requests shed by the bucket of their
+	 * offer.
+	 */
+	public static final String SCOPE_OFFER = "offer";
+	/**
+	 * Tag value of <code>scope</code> for requests shed by the global bucket.
+	 */
+	public static final String SCOPE_GLOBAL = "global";
+
+}
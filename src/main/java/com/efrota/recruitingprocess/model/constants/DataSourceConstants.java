@@ -0,0 +1,38 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the read/write
+ * routing of the datasources.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class DataSourceConstants {
+
+	private DataSourceConstants() {
+		// empty
+	}
+
+	/**
+	 * Prefix of the replica datasource properties, bound like
+	 * <code>spring.datasource</code>: <code>url</code>,
+	 * <code>username</code>, <code>password</code> and <code>hikari.*</code>.
+	 */
+	public static final String REPLICA_PREFIX = "datasource.replica";
+	/**
+	 * Property holding the replica URL, routing is enabled when defined.
+	 */
+	public static final String REPLICA_URL = REPLICA_PREFIX + ".url";
+	/**
+	 * Milliseconds after a committed write during which the reads of the same
+	 * client go to the primary, as the replica may not have caught up yet.
+	 * Overridable by the property <code>datasource.replica.max-lag</code>.
+	 */
+	public static final String REPLICA_MAX_LAG = "${datasource.replica.max-lag:1000}";
+	/**
+	 * Cookie carrying the moment of the last write of a client, in epoch
+	 * milliseconds.
+	 */
+	public static final String LAST_WRITE_COOKIE = "recruiting-last-write";
+
+}
@@ -0,0 +1,36 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the execution mode.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class ExecutionConstants {
+
+	private ExecutionConstants() {
+		// empty
+	}
+
+	/**
+	 * Property selecting the execution mode.
+	 */
+	public static final String MODE_PROPERTY = "execution.mode";
+	/**
+	 * Execution mode running requests and background tasks on virtual
+	 * threads.
+	 */
+	public static final String VIRTUAL = "virtual";
+	/**
+	 * Execution mode, <code>platform</code> or <code>virtual</code>.
+	 * Overridable by the property <code>execution.mode</code>.
+	 */
+	public static final String MODE = "${" + MODE_PROPERTY + ":platform}";
+	/**
+	 * Spring Boot property running Tomcat, the application task executor and
+	 * the scheduler on virtual threads, set by the <code>virtual</code>
+	 * execution mode.
+	 */
+	public static final String VIRTUAL_THREADS_PROPERTY = "spring.threads.virtual.enabled";
+
+}
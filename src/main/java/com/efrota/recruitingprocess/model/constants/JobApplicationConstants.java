@@ -26,5 +26,28 @@ public class JobApplicationConstants {
 	 * Field status max length.
 	 */
 	public static final int CANDIDATE_STATUS_LENGTH = 30;
+	/**
+	 * Max amount of applications in a single batch.
+	 */
+	public static final int MAX_BATCH_SIZE = 1000;
+	/**
+	 * Max amount of times a batch is run, when concurrent applies insert some
+	 * of its applications between its duplicate check and its inserts.
+	 */
+	public static final int MAX_BATCH_ATTEMPTS = 3;
+	/**
+	 * Amount of ids reserved per sequence call, so that batched inserts do not
+	 * need a round trip per row.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+	/**
+	 * Name of the unique constraint on offer and email, whose violation is
+	 * reported as a duplicate application.
+	 */
+	public static final String UNIQUE_OFFER_EMAIL = "uk_offer_email";
+	/**
+	 * Rows fetched per database round trip by the export stream.
+	 */
+	public static final int EXPORT_FETCH_SIZE = 500;
 
 }
@@ -0,0 +1,36 @@
+package com.efrota.recruitingprocess.model.constants;
+
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
+
+/**
+ * Non-implementable class to store constants related to
+ * {@link JobApplicationStatusHistory}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class JobApplicationStatusHistoryConstants {
+
+	private JobApplicationStatusHistoryConstants() {
+		// empty
+	}
+
+	/**
+	 * Field actor max length.
+	 */
+	public static final int ACTOR_LENGTH = 100;
+	/**
+	 * Amount of ids reserved per sequence call, so that batched inserts do not
+	 * need a round trip per row.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+	/**
+	 * Request header identifying who changes the status of an application.
+	 */
+	public static final String ACTOR_HEADER = "X-Actor";
+	/**
+	 * Actor recorded when the change does not tell who made it.
+	 */
+	public static final String DEFAULT_ACTOR = "system";
+
+}
@@ -18,5 +18,26 @@ public class JobOfferConstants {
 	 * Field title max length.
 	 */
 	public static final int TITLE_LENGTH = 80;
+	/**
+	 * Name of the unique constraint on title, whose violation is reported as
+	 * an existing offer.
+	 */
+	public static final String UNIQUE_TITLE = "uk_offer_title";
+	/**
+	 * Delay, in milliseconds, between two reconciliations of the application
+	 * amount. Overridable by the property
+	 * <code>offer.application-amount.reconciliation-delay</code>.
+	 */
+	public static final String RECONCILIATION_DELAY = "${offer.application-amount.reconciliation-delay:3600000}";
+	/**
+	 * Max amount of offers kept in the cache. Overridable by the property
+	 * <code>offer.cache.maximum-size</code>.
+	 */
+	public static final String CACHE_MAXIMUM_SIZE = "${offer.cache.maximum-size:10000}";
+	/**
+	 * Seconds an offer stays in the cache after being loaded or updated.
+	 * Overridable by the property <code>offer.cache.expire-after-write</code>.
+	 */
+	public static final String CACHE_EXPIRE_AFTER_WRITE = "${offer.cache.expire-after-write:600}";
 
 }
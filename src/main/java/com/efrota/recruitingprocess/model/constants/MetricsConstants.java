@@ -0,0 +1,72 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the application
+ * metrics.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class MetricsConstants {
+
+	private MetricsConstants() {
+		// empty
+	}
+
+	/**
+	 * Timer of the controller, service and repository methods.
+	 */
+	public static final String METHOD_TIMER = "recruiting.method";
+	/**
+	 * Counter of the {@link com.efrota.recruitingprocess.exception.NotFoundException}
+	 * and {@link com.efrota.recruitingprocess.exception.ServiceValidationException}
+	 * thrown by the services.
+	 */
+	public static final String SERVICE_EXCEPTION_COUNTER = "recruiting.service.exceptions";
+	/**
+	 * Counter of the committed application status transitions.
+	 */
+	public static final String TRANSITION_COUNTER = "recruiting.application.transitions";
+	/**
+	 * Counter of the applications shed by the admission control.
+	 */
+	public static final String ADMISSION_REJECTED_COUNTER = "recruiting.admission.rejected";
+	/**
+	 * Tag value of <code>from</code> for newly created applications.
+	 */
+	public static final String TRANSITION_FROM_NONE = "NONE";
+	/**
+	 * Tag value of <code>exception</code> for methods that returned normally.
+	 */
+	public static final String NO_EXCEPTION = "none";
+
+	/**
+	 * Tag of the layer: controller, service or repository.
+	 */
+	public static final String TAG_LAYER = "layer";
+	/**
+	 * Tag of the instrumented class.
+	 */
+	public static final String TAG_CLASS = "class";
+	/**
+	 * Tag of the instrumented method.
+	 */
+	public static final String TAG_METHOD = "method";
+	/**
+	 * Tag of the exception simple name.
+	 */
+	public static final String TAG_EXCEPTION = "exception";
+	/**
+	 * Tag of the status before a transition.
+	 */
+	public static final String TAG_FROM = "from";
+	/**
+	 * Tag of the status after a transition.
+	 */
+	public static final String TAG_TO = "to";
+	/**
+	 * Tag of the admission bucket that shed a request: offer or global.
+	 */
+	public static final String TAG_SCOPE = "scope";
+
+}
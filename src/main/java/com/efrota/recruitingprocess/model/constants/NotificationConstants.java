@@ -0,0 +1,72 @@
+package com.efrota.recruitingprocess.model.constants;
+
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * Non-implementable class to store constants related to {@link Notification}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class NotificationConstants {
+
+	private NotificationConstants() {
+		// empty
+	}
+
+	/**
+	 * Field status max length.
+	 */
+	public static final int STATUS_LENGTH = 30;
+	/**
+	 * Field last error max length.
+	 */
+	public static final int LAST_ERROR_LENGTH = 255;
+	/**
+	 * Amount of ids reserved per sequence call, so that batched inserts do not
+	 * need a round trip per row.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+	/**
+	 * Delay, in milliseconds, between two dispatches. Overridable by the
+	 * property <code>notification.dispatch-delay</code>.
+	 */
+	public static final String DISPATCH_DELAY = "${notification.dispatch-delay:1000}";
+	/**
+	 * Max amount of notifications claimed at once. Overridable by the property
+	 * <code>notification.batch-size</code>.
+	 */
+	public static final String BATCH_SIZE = "${notification.batch-size:100}";
+	/**
+	 * Milliseconds a claimed notification is hidden from other dispatches
+	 * while being sent. Overridable by the property
+	 * <code>notification.lease</code>.
+	 */
+	public static final String LEASE = "${notification.lease:60000}";
+	/**
+	 * Milliseconds before the first retry, doubled on every following one.
+	 * Overridable by the property <code>notification.initial-backoff</code>.
+	 */
+	public static final String INITIAL_BACKOFF = "${notification.initial-backoff:1000}";
+	/**
+	 * Max milliseconds between two retries. Overridable by the property
+	 * <code>notification.max-backoff</code>.
+	 */
+	public static final String MAX_BACKOFF = "${notification.max-backoff:600000}";
+	/**
+	 * Attempts before a notification is given up. Overridable by the property
+	 * <code>notification.max-attempts</code>.
+	 */
+	public static final String MAX_ATTEMPTS = "${notification.max-attempts:10}";
+	/**
+	 * Milliseconds a sent notification is kept before being purged.
+	 * Overridable by the property <code>notification.retention</code>.
+	 */
+	public static final String RETENTION = "${notification.retention:604800000}";
+	/**
+	 * Delay, in milliseconds, between two purges of the sent notifications.
+	 * Overridable by the property <code>notification.purge-delay</code>.
+	 */
+	public static final String PURGE_DELAY = "${notification.purge-delay:3600000}";
+
+}
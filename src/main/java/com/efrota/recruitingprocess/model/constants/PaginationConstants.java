@@ -0,0 +1,28 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to keyset pagination.
+ *
+ * @author edmundofrota
+ *
+ */
+public class PaginationConstants {
+
+	private PaginationConstants() {
+		// empty
+	}
+
+	/**
+	 * Page size used when the request does not define one.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 100;
+	/**
+	 * Max page size a request can ask for.
+	 */
+	public static final int MAX_PAGE_SIZE = 1000;
+	/**
+	 * Response header carrying the cursor of the next page.
+	 */
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+}
@@ -0,0 +1,34 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the reactive read
+ * API.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class ReactiveConstants {
+
+	private ReactiveConstants() {
+		// empty
+	}
+
+	/**
+	 * Threads running the blocking JDBC reads, shared by every reactive
+	 * request. Defaults to the size of the Hikari pool, so that no thread
+	 * waits for a connection. Overridable by the property
+	 * <code>reactive.jdbc-threads</code>.
+	 */
+	public static final String JDBC_THREADS = 
+			"${reactive.jdbc-threads:${spring.datasource.hikari.maximum-pool-size:10}}";
+	/**
+	 * Rows read per query while streaming a list. Overridable by the property
+	 * <code>reactive.page-size</code>.
+	 */
+	public static final String PAGE_SIZE = "${reactive.page-size:100}";
+	/**
+	 * Media type of streamed lists, one JSON document per line.
+	 */
+	public static final String STREAM_CONTENT_TYPE = "application/x-ndjson";
+
+}
@@ -0,0 +1,42 @@
+package com.efrota.recruitingprocess.model.constants;
+
+/**
+ * Non-implementable class to store constants related to the resume search.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class SearchConstants {
+
+	private SearchConstants() {
+		// empty
+	}
+
+	/**
+	 * Amount of results returned when the request does not define one.
+	 */
+	public static final int DEFAULT_SIZE = 10;
+	/**
+	 * Max amount of results a request can ask for.
+	 */
+	public static final int MAX_SIZE = 100;
+	/**
+	 * BM25 term frequency saturation.
+	 */
+	public static final double BM25_K1 = 1.2;
+	/**
+	 * BM25 resume length normalization.
+	 */
+	public static final double BM25_B = 0.75;
+	/**
+	 * Width of the id range read by each task of the startup rebuild.
+	 * Overridable by the property <code>search.rebuild.chunk-size</code>.
+	 */
+	public static final String REBUILD_CHUNK_SIZE = "${search.rebuild.chunk-size:10000}";
+	/**
+	 * Threads reading the application table during the startup rebuild,
+	 * virtual in the <code>virtual</code> execution mode. Overridable by the property <code>search.rebuild.threads</code>.
+	 */
+	public static final String REBUILD_THREADS = "${search.rebuild.threads:4}";
+
+}
@@ -0,0 +1,75 @@
+package com.efrota.recruitingprocess.model.constants;
+
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * Non-implementable class to store constants related to the Hibernate
+ * second-level and query caches.
+ * 
+ * Every region can be sized by the properties
+ * <code>second-level-cache.{region}.maximum-size</code> and
+ * <code>second-level-cache.{region}.expire-after-write</code> (seconds).
+ * 
+ * @author edmundofrota
+ *
+ */
+public class SecondLevelCacheConstants {
+
+	private SecondLevelCacheConstants() {
+		// empty
+	}
+
+	/**
+	 * Region of the {@link com.efrota.recruitingprocess.model.JobOffer}
+	 * entities.
+	 */
+	public static final String OFFER_REGION = "offer";
+	/**
+	 * Region of the {@link com.efrota.recruitingprocess.model.JobApplication}
+	 * entities.
+	 */
+	public static final String APPLICATION_REGION = "application";
+	/**
+	 * Region of the offer ids by title.
+	 */
+	public static final String OFFER_BY_TITLE_REGION = "offer-by-title";
+	/**
+	 * Region of the application ids by offer title and candidate email.
+	 */
+	public static final String APPLICATION_BY_TITLE_EMAIL_REGION = "application-by-title-email";
+	/**
+	 * Region of the cacheable queries without an explicit region.
+	 */
+	public static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+	/**
+	 * Region of the last update moment of every table, used to invalidate the
+	 * query regions. It must never evict nor expire its entries.
+	 */
+	public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+	/**
+	 * Prefix of the region properties.
+	 */
+	public static final String PROPERTY_PREFIX = "second-level-cache.";
+	/**
+	 * Max amount of entries of a region, when not configured.
+	 */
+	public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+	/**
+	 * Seconds an entry stays in a region after being written, when not
+	 * configured.
+	 */
+	public static final long DEFAULT_EXPIRE_AFTER_WRITE = 600;
+	/**
+	 * Query hint to cache the result of a query.
+	 */
+	public static final String HINT_CACHEABLE = HibernateHints.HINT_CACHEABLE;
+	/**
+	 * Query hint to choose the region of a cacheable query.
+	 */
+	public static final String HINT_CACHE_REGION = HibernateHints.HINT_CACHE_REGION;
+	/**
+	 * Query hint to choose how a query reads and writes the second-level cache.
+	 */
+	public static final String HINT_CACHE_MODE = HibernateHints.HINT_CACHE_MODE;
+
+}
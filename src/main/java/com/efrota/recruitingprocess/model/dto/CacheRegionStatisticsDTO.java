@@ -0,0 +1,91 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO class to report the usage of a region of the Hibernate second-level
+ * or query cache. The counts and the hit rate are <code>null</code> when the
+ * Hibernate statistics are disabled.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class CacheRegionStatisticsDTO implements Serializable {
+
+	private String region;
+
+	private long size;
+
+	private Long hitCount;
+
+	private Long missCount;
+
+	private Long putCount;
+
+	private Double hitRate;
+
+	public CacheRegionStatisticsDTO() {
+		super();
+	}
+
+	public CacheRegionStatisticsDTO(String region, long size, Long hitCount, Long missCount, Long putCount,
+			Double hitRate) {
+		this();
+		this.region = region;
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.putCount = putCount;
+		this.hitRate = hitRate;
+	}
+
+	public String getRegion() {
+		return region;
+	}
+
+	public void setRegion(String region) {
+		this.region = region;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	public Long getHitCount() {
+		return hitCount;
+	}
+
+	public void setHitCount(Long hitCount) {
+		this.hitCount = hitCount;
+	}
+
+	public Long getMissCount() {
+		return missCount;
+	}
+
+	public void setMissCount(Long missCount) {
+		this.missCount = missCount;
+	}
+
+	public Long getPutCount() {
+		return putCount;
+	}
+
+	public void setPutCount(Long putCount) {
+		this.putCount = putCount;
+	}
+
+	public Double getHitRate() {
+		return hitRate;
+	}
+
+	public void setHitRate(Double hitRate) {
+		this.hitRate = hitRate;
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+
+/**
+ * DTO class to report the usage of an in-memory cache.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class CacheStatisticsDTO implements Serializable {
+
+	private long size;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private double hitRate;
+
+	private long evictionCount;
+
+	public CacheStatisticsDTO() {
+		super();
+	}
+
+	public CacheStatisticsDTO(long size, long hitCount, long missCount, double hitRate, long evictionCount) {
+		this();
+		this.size = size;
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.hitRate = hitRate;
+		this.evictionCount = evictionCount;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public void setHitCount(long hitCount) {
+		this.hitCount = hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public void setMissCount(long missCount) {
+		this.missCount = missCount;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	public void setHitRate(double hitRate) {
+		this.hitRate = hitRate;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public void setEvictionCount(long evictionCount) {
+		this.evictionCount = evictionCount;
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+
+/**
+ * DTO class to handle and validate a batch of {@link JobApplication}.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationBatchDTO implements Serializable {
+
+	@Valid
+	@NotNull(message = "Applications cannot be null")
+	@Size(min = 1, max = JobApplicationConstants.MAX_BATCH_SIZE, 
+			message = "Applications cannot be less than 1 and greater then " + JobApplicationConstants.MAX_BATCH_SIZE)
+	private List<JobApplicationDTO> applications;
+
+	public List<JobApplicationDTO> getApplications() {
+		return applications;
+	}
+
+	public void setApplications(List<JobApplicationDTO> applications) {
+		this.applications = applications;
+	}
+
+}
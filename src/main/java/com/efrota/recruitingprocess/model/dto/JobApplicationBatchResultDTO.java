@@ -0,0 +1,58 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * DTO class to report the outcome of a {@link JobApplication} of a batch.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationBatchResultDTO implements Serializable {
+
+	private String jobOffer;
+
+	private String candidateEmail;
+
+	private JobApplicationBatchResultEnum result;
+
+	public JobApplicationBatchResultDTO() {
+		super();
+	}
+
+	public JobApplicationBatchResultDTO(String jobOffer, String candidateEmail, JobApplicationBatchResultEnum result) {
+		this();
+		this.jobOffer = jobOffer;
+		this.candidateEmail = candidateEmail;
+		this.result = result;
+	}
+
+	public String getJobOffer() {
+		return jobOffer;
+	}
+
+	public void setJobOffer(String jobOffer) {
+		this.jobOffer = jobOffer;
+	}
+
+	public String getCandidateEmail() {
+		return candidateEmail;
+	}
+
+	public void setCandidateEmail(String candidateEmail) {
+		this.candidateEmail = candidateEmail;
+	}
+
+	public JobApplicationBatchResultEnum getResult() {
+		return result;
+	}
+
+	public void setResult(JobApplicationBatchResultEnum result) {
+		this.result = result;
+	}
+
+}
@@ -2,7 +2,7 @@ package com.efrota.recruitingprocess.model.dto;
 
 import java.io.Serializable;
 
-import javax.validation.constraints.Size;
+import jakarta.validation.constraints.Size;
 
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.model.JobApplication;
@@ -0,0 +1,71 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * DTO class to report a {@link JobApplication} matching a resume search, with
+ * its relevance.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationSearchResultDTO implements Serializable {
+
+	private String jobOffer;
+
+	private String candidateEmail;
+
+	private JobApplicationStatusEnum status;
+
+	private double score;
+
+	public JobApplicationSearchResultDTO() {
+		super();
+	}
+
+	public JobApplicationSearchResultDTO(String jobOffer, String candidateEmail, JobApplicationStatusEnum status,
+			double score) {
+		this();
+		this.jobOffer = jobOffer;
+		this.candidateEmail = candidateEmail;
+		this.status = status;
+		this.score = score;
+	}
+
+	public String getJobOffer() {
+		return jobOffer;
+	}
+
+	public void setJobOffer(String jobOffer) {
+		this.jobOffer = jobOffer;
+	}
+
+	public String getCandidateEmail() {
+		return candidateEmail;
+	}
+
+	public void setCandidateEmail(String candidateEmail) {
+		this.candidateEmail = candidateEmail;
+	}
+
+	public JobApplicationStatusEnum getStatus() {
+		return status;
+	}
+
+	public void setStatus(JobApplicationStatusEnum status) {
+		this.status = status;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public void setScore(double score) {
+		this.score = score;
+	}
+
+}
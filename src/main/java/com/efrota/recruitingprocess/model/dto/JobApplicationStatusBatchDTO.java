@@ -0,0 +1,61 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
+
+/**
+ * DTO class to handle and validate a status transition of many
+ * {@link JobApplication} of the same offer.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationStatusBatchDTO implements Serializable {
+
+	@NotNull(message = "Job offer cannot be null")
+	@Size(min = 1, max = JobOfferConstants.TITLE_LENGTH, 
+			message = "Job offer cannot be less than 1 and greater then " + JobOfferConstants.TITLE_LENGTH)
+	private String jobOffer;
+
+	@NotNull(message = "Status cannot be null")
+	private JobApplicationStatusEnum status;
+
+	@NotNull(message = "Candidate emails cannot be null")
+	@Size(min = 1, max = JobApplicationConstants.MAX_BATCH_SIZE, 
+			message = "Candidate emails cannot be less than 1 and greater then " + JobApplicationConstants.MAX_BATCH_SIZE)
+	private List<String> candidateEmails;
+
+	public String getJobOffer() {
+		return jobOffer;
+	}
+
+	public void setJobOffer(String jobOffer) {
+		this.jobOffer = jobOffer;
+	}
+
+	public JobApplicationStatusEnum getStatus() {
+		return status;
+	}
+
+	public void setStatus(JobApplicationStatusEnum status) {
+		this.status = status;
+	}
+
+	public List<String> getCandidateEmails() {
+		return candidateEmails;
+	}
+
+	public void setCandidateEmails(List<String> candidateEmails) {
+		this.candidateEmails = candidateEmails;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
+
+/**
+ * DTO class for {@link JobApplicationStatusHistory}.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationStatusHistoryDTO implements Serializable {
+
+	private JobApplicationStatusEnum fromStatus;
+
+	private JobApplicationStatusEnum toStatus;
+
+	private Date changedAt;
+
+	private String actor;
+
+	public JobApplicationStatusHistoryDTO() {
+		super();
+	}
+
+	public JobApplicationStatusHistoryDTO(JobApplicationStatusEnum fromStatus, JobApplicationStatusEnum toStatus,
+			Date changedAt, String actor) {
+		this();
+		this.fromStatus = fromStatus;
+		this.toStatus = toStatus;
+		this.changedAt = changedAt;
+		this.actor = actor;
+	}
+
+	public JobApplicationStatusEnum getFromStatus() {
+		return fromStatus;
+	}
+
+	public void setFromStatus(JobApplicationStatusEnum fromStatus) {
+		this.fromStatus = fromStatus;
+	}
+
+	public JobApplicationStatusEnum getToStatus() {
+		return toStatus;
+	}
+
+	public void setToStatus(JobApplicationStatusEnum toStatus) {
+		this.toStatus = toStatus;
+	}
+
+	public Date getChangedAt() {
+		return changedAt;
+	}
+
+	public void setChangedAt(Date changedAt) {
+		this.changedAt = changedAt;
+	}
+
+	public String getActor() {
+		return actor;
+	}
+
+	public void setActor(String actor) {
+		this.actor = actor;
+	}
+
+}
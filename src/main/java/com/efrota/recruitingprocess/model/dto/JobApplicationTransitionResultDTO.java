@@ -0,0 +1,48 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * DTO class to report the outcome of a {@link JobApplication} of a bulk status
+ * transition.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobApplicationTransitionResultDTO implements Serializable {
+
+	private String candidateEmail;
+
+	private JobApplicationTransitionResultEnum result;
+
+	public JobApplicationTransitionResultDTO() {
+		super();
+	}
+
+	public JobApplicationTransitionResultDTO(String candidateEmail, JobApplicationTransitionResultEnum result) {
+		this();
+		this.candidateEmail = candidateEmail;
+		this.result = result;
+	}
+
+	public String getCandidateEmail() {
+		return candidateEmail;
+	}
+
+	public void setCandidateEmail(String candidateEmail) {
+		this.candidateEmail = candidateEmail;
+	}
+
+	public JobApplicationTransitionResultEnum getResult() {
+		return result;
+	}
+
+	public void setResult(JobApplicationTransitionResultEnum result) {
+		this.result = result;
+	}
+
+}
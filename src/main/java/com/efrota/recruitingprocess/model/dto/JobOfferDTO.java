@@ -3,8 +3,8 @@ package com.efrota.recruitingprocess.model.dto;
 import java.io.Serializable;
 import java.util.Date;
 
-import javax.validation.constraints.FutureOrPresent;
-import javax.validation.constraints.Size;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Size;
 
 import com.efrota.recruitingprocess.model.JobOffer;
 import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
@@ -0,0 +1,49 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * DTO class to report the amount of applications of a {@link JobOffer} per
+ * status.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobOfferStatusCountDTO implements Serializable {
+
+	private String jobOffer;
+
+	private Map<JobApplicationStatusEnum, Long> statuses;
+
+	public JobOfferStatusCountDTO() {
+		super();
+	}
+
+	public JobOfferStatusCountDTO(String jobOffer, Map<JobApplicationStatusEnum, Long> statuses) {
+		this();
+		this.jobOffer = jobOffer;
+		this.statuses = statuses;
+	}
+
+	public String getJobOffer() {
+		return jobOffer;
+	}
+
+	public void setJobOffer(String jobOffer) {
+		this.jobOffer = jobOffer;
+	}
+
+	public Map<JobApplicationStatusEnum, Long> getStatuses() {
+		return statuses;
+	}
+
+	public void setStatuses(Map<JobApplicationStatusEnum, Long> statuses) {
+		this.statuses = statuses;
+	}
+
+}
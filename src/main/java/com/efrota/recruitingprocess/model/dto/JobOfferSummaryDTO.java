@@ -0,0 +1,39 @@
+package com.efrota.recruitingprocess.model.dto;
+
+import java.util.Date;
+import java.util.Map;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
+
+/**
+ * DTO class of a {@link JobOfferSummary}, extending the {@link JobOfferDTO}
+ * with the amount of applications per status and the last activity.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+public class JobOfferSummaryDTO extends JobOfferDTO {
+
+	private Map<JobApplicationStatusEnum, Long> applicationsPerStatus;
+
+	private Date lastActivity;
+
+	public Map<JobApplicationStatusEnum, Long> getApplicationsPerStatus() {
+		return applicationsPerStatus;
+	}
+
+	public void setApplicationsPerStatus(Map<JobApplicationStatusEnum, Long> applicationsPerStatus) {
+		this.applicationsPerStatus = applicationsPerStatus;
+	}
+
+	public Date getLastActivity() {
+		return lastActivity;
+	}
+
+	public void setLastActivity(Date lastActivity) {
+		this.lastActivity = lastActivity;
+	}
+
+}
@@ -1,20 +1,42 @@
 package com.efrota.recruitingprocess.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.rest.core.annotation.RestResource;
 
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.model.JobApplication;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
 
 /**
  * Repository for {@link JobApplication}.
  * 
+ * The deletes are not exported by Spring Data REST, as they would bypass the
+ * application amount of the offer, its summary and the resume index.
+ * 
  * @author edmundofrota
  *
  */
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Integer> {
+public interface JobApplicationRepository
+		extends JpaRepository<JobApplication, Integer>, JobApplicationRepositoryCustom {
+
+	@Override
+	@RestResource(exported = false)
+	void deleteById(Integer id);
+
+	@Override
+	@RestResource(exported = false)
+	void delete(JobApplication jobApplication);
 
 	/**
 	 * Find applications based on offer title.
@@ -27,7 +49,9 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 	List<JobApplication> findByJobOfferTitle(String jobOfferTitle);
 
 	/**
-	 * Find an application based on offer title and candidate email.
+	 * Find an application based on offer title and candidate email. The id
+	 * is cached in the query region <code>application-by-title-email</code>,
+	 * invalidated by any write to the offers or the applications.
 	 * 
 	 * @param jobOfferTitle
 	 *            {@link JobOffer} title.
@@ -37,6 +61,120 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 	 *         email.
 	 */
 	@Query("select a from JobApplication a where a.jobOffer.title = ?1 and candidateEmail = ?2")
+	@QueryHints({ @QueryHint(name = SecondLevelCacheConstants.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = SecondLevelCacheConstants.HINT_CACHE_REGION, 
+					value = SecondLevelCacheConstants.APPLICATION_BY_TITLE_EMAIL_REGION) })
 	JobApplication findByJobOfferTitleAndCandidateEmail(String jobOfferTitle, String candidateEmail);
 
+	/**
+	 * Find the (offer id, candidate email) pairs already stored for any of the
+	 * offers and emails, in a single query.
+	 * 
+	 * @param jobOfferIds
+	 *            {@link JobOffer} ids.
+	 * @param candidateEmails
+	 *            {@link JobApplication} emails.
+	 * @return List of <code>{offer id, candidate email}</code>.
+	 */
+	@Query("select a.jobOffer.id, a.candidateEmail from JobApplication a "
+			+ "where a.jobOffer.id in ?1 and a.candidateEmail in ?2")
+	List<Object[]> findJobOfferIdAndCandidateEmail(Collection<Integer> jobOfferIds,
+			Collection<String> candidateEmails);
+
+	/**
+	 * Find the current status of the applications of an offer matching any of
+	 * the emails, locking their rows until the end of the transaction. Rows are
+	 * locked in id order, so that concurrent batches do not deadlock.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param candidateEmails
+	 *            {@link JobApplication} emails.
+	 * @return List of <code>{candidate email, status, application id}</code>.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select a.candidateEmail, a.jobApplicationStatusEnum, a.id from JobApplication a "
+			+ "where a.jobOffer.id = ?1 and a.candidateEmail in ?2 order by a.id")
+	List<Object[]> findCandidateEmailAndStatusForUpdate(int jobOfferId, Collection<String> candidateEmails);
+
+	/**
+	 * Update, in a single statement, the status of the applications of an offer
+	 * matching any of the emails whose current status is the given one. The
+	 * version of each updated application is incremented, so that concurrent
+	 * single transitions on them fail the optimistic lock. Clears the
+	 * second-level region <code>application</code>.
+	 * 
+	 * @param jobApplicationStatusEnum
+	 *            new {@link JobApplicationStatusEnum}.
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param candidateEmails
+	 *            {@link JobApplication} emails.
+	 * @param currentStatus
+	 *            {@link JobApplicationStatusEnum} the applications must have to
+	 *            be updated.
+	 * @return amount of updated applications.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update JobApplication a set a.jobApplicationStatusEnum = ?1, a.version = a.version + 1 "
+			+ "where a.jobOffer.id = ?2 and a.candidateEmail in ?3 and a.jobApplicationStatusEnum = ?4")
+	int updateStatus(JobApplicationStatusEnum jobApplicationStatusEnum, int jobOfferId,
+			Collection<String> candidateEmails, JobApplicationStatusEnum currentStatus);
+
+	/**
+	 * Count the applications of the offers per status, answered from the index
+	 * <code>idx_offer_status</code> without reading the application rows.
+	 * 
+	 * @param jobOfferIds
+	 *            {@link JobOffer} ids.
+	 * @return List of <code>{offer id, status, amount}</code>.
+	 */
+	@Query("select a.jobOffer.id, a.jobApplicationStatusEnum, count(a) from JobApplication a "
+			+ "where a.jobOffer.id in ?1 group by a.jobOffer.id, a.jobApplicationStatusEnum")
+	List<Object[]> countByJobOfferIdAndStatus(Collection<Integer> jobOfferIds);
+
+	/**
+	 * Count the applications of every offer per status, answered from the
+	 * index <code>idx_offer_status</code> without reading the application rows.
+	 * 
+	 * @return List of <code>{offer id, status, amount}</code>.
+	 */
+	@Query("select a.jobOffer.id, a.jobApplicationStatusEnum, count(a) from JobApplication a "
+			+ "group by a.jobOffer.id, a.jobApplicationStatusEnum")
+	List<Object[]> countByJobOfferIdAndStatus();
+
+	/**
+	 * Find the smallest and greatest application ids.
+	 * 
+	 * @return single row <code>{min id, max id}</code>, both <code>null</code> when
+	 *         there are no applications.
+	 */
+	@Query("select min(a.id), max(a.id) from JobApplication a")
+	List<Object[]> findIdRange();
+
+	/**
+	 * Find the data to index the resumes of a range of applications.
+	 * 
+	 * @param afterId
+	 *            id after which the range starts (exclusive).
+	 * @param lastId
+	 *            id at which the range ends (inclusive).
+	 * @return List of <code>{application id, offer id, resume text}</code>.
+	 */
+	@Query("select a.id, a.jobOffer.id, a.resumeText from JobApplication a where a.id > ?1 and a.id <= ?2")
+	List<Object[]> findResumeTextByIdRange(int afterId, int lastId);
+
+	/**
+	 * Find applications by id, with their offer. The second-level cache is
+	 * neither read nor written, so that hydrating search hits does not evict
+	 * the hot entries of the region <code>application</code>.
+	 * 
+	 * @param ids
+	 *            {@link JobApplication} ids.
+	 * @return List of {@link JobApplication}, in no particular order.
+	 */
+	@Query("select a from JobApplication a join fetch a.jobOffer where a.id in ?1")
+	@QueryHints(@QueryHint(name = SecondLevelCacheConstants.HINT_CACHE_MODE, value = "IGNORE"))
+	List<JobApplication> findByIdIn(Collection<Integer> ids);
+
 }
@@ -0,0 +1,80 @@
+package com.efrota.recruitingprocess.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Custom methods of {@link JobApplicationRepository}, implemented with the
+ * {@link jakarta.persistence.EntityManager}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface JobApplicationRepositoryCustom {
+
+	/**
+	 * Stream all the applications of an offer, ordered by id, to an action.
+	 * 
+	 * Rows are read with a fetch size and each application is detached once
+	 * the action returns, so that memory use does not grow with the amount of
+	 * applications. The second-level cache is neither read nor written, so
+	 * that an export does not evict the hot entries of the region
+	 * <code>application</code>. Must be called in a transaction.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title.
+	 * @param action
+	 *            action run for each {@link JobApplication}.
+	 */
+	void forEachByJobOfferTitle(String jobOfferTitle, Consumer<JobApplication> action);
+
+	/**
+	 * Find a page of applications based on offer title, and optionally
+	 * status, ordered by id.
+	 * 
+	 * Only the projected columns are read, the resume only when requested.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title.
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} of the applications,
+	 *            <code>null</code> for any status.
+	 * @param includeResume
+	 *            whether the resume is read.
+	 * @param afterId
+	 *            id of the last application of the previous page, 0 for the
+	 *            first page.
+	 * @param size
+	 *            max amount of applications in the page.
+	 * @return List of {@link JobApplicationProjection} filtered by offer title
+	 *         and status.
+	 */
+	List<JobApplicationProjection> findProjectionsByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum, boolean includeResume, int afterId, int size);
+
+	/**
+	 * Find a page of applications of a candidate across all offers, ordered by
+	 * id, answered from the index <code>idx_email_id</code>.
+	 * 
+	 * Only the projected columns are read, the resume only when requested.
+	 * 
+	 * @param candidateEmail
+	 *            {@link JobApplication} email.
+	 * @param includeResume
+	 *            whether the resume is read.
+	 * @param afterId
+	 *            id of the last application of the previous page, 0 for the
+	 *            first page.
+	 * @param size
+	 *            max amount of applications in the page.
+	 * @return List of {@link JobApplicationProjection} filtered by email.
+	 */
+	List<JobApplicationProjection> findProjectionsByCandidateEmail(String candidateEmail, boolean includeResume,
+			int afterId, int size);
+
+}
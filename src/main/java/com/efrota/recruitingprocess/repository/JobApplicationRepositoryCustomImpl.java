@@ -0,0 +1,107 @@
+package com.efrota.recruitingprocess.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+
+/**
+ * Implementation of {@link JobApplicationRepositoryCustom}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class JobApplicationRepositoryCustomImpl implements JobApplicationRepositoryCustom {
+
+	private static final String SELECT_PROJECTION = "select new " + JobApplicationProjection.class.getName()
+			+ "(a.id, o.title, a.candidateEmail, a.jobApplicationStatusEnum";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void forEachByJobOfferTitle(String jobOfferTitle, Consumer<JobApplication> action) {
+		// rows are hydrated while the stream is read, after the query hint is restored
+		Session session = entityManager.unwrap(Session.class);
+		CacheMode cacheMode = session.getCacheMode();
+		session.setCacheMode(CacheMode.IGNORE);
+
+		try (Stream<JobApplication> jobApplications = entityManager
+				.createQuery("select a from JobApplication a join fetch a.jobOffer o "
+						+ "where o.title = :jobOfferTitle order by a.id", JobApplication.class)
+				.setParameter("jobOfferTitle", jobOfferTitle)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, JobApplicationConstants.EXPORT_FETCH_SIZE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+				.getResultStream()) {
+
+			jobApplications.forEach(jobApplication -> {
+				action.accept(jobApplication);
+				entityManager.detach(jobApplication);
+			});
+		} finally {
+			session.setCacheMode(cacheMode);
+		}
+	}
+
+	@Override
+	public List<JobApplicationProjection> findProjectionsByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum, boolean includeResume, int afterId, int size) {
+		if (jobApplicationStatusEnum == null) {
+			return createProjectionQuery("o.title = :jobOfferTitle", includeResume, afterId, size)
+					.setParameter("jobOfferTitle", jobOfferTitle)
+					.getResultList();
+		}
+
+		return createProjectionQuery("o.title = :jobOfferTitle and a.jobApplicationStatusEnum = :status",
+				includeResume, afterId, size)
+				.setParameter("jobOfferTitle", jobOfferTitle)
+				.setParameter("status", jobApplicationStatusEnum)
+				.getResultList();
+	}
+
+	@Override
+	public List<JobApplicationProjection> findProjectionsByCandidateEmail(String candidateEmail,
+			boolean includeResume, int afterId, int size) {
+		return createProjectionQuery("a.candidateEmail = :candidateEmail", includeResume, afterId, size)
+				.setParameter("candidateEmail", candidateEmail)
+				.getResultList();
+	}
+
+	/**
+	 * Build a keyset page query of {@link JobApplicationProjection}.
+	 * 
+	 * @param filter
+	 *            JPQL condition on the application <code>a</code> and its
+	 *            offer <code>o</code>.
+	 * @param includeResume
+	 *            whether the resume is selected.
+	 * @param afterId
+	 *            id of the last application of the previous page.
+	 * @param size
+	 *            max amount of applications in the page.
+	 * @return query, missing only the parameters of the filter.
+	 */
+	private TypedQuery<JobApplicationProjection> createProjectionQuery(String filter, boolean includeResume,
+			int afterId, int size) {
+		return entityManager
+				.createQuery(SELECT_PROJECTION + (includeResume ? ", a.resumeText) " : ") ")
+						+ "from JobApplication a join a.jobOffer o where " + filter + " and a.id > :afterId "
+						+ "order by a.id", JobApplicationProjection.class)
+				.setParameter("afterId", afterId)
+				.setMaxResults(size);
+	}
+
+}
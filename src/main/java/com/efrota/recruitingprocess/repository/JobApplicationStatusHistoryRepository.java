@@ -0,0 +1,82 @@
+package com.efrota.recruitingprocess.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Repository for {@link JobApplicationStatusHistory}.
+ * 
+ * The queries of a single application are range scans of the index
+ * <code>idx_history_application_changed</code>.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface JobApplicationStatusHistoryRepository extends JpaRepository<JobApplicationStatusHistory, Integer> {
+
+	/**
+	 * Find the transitions of an application in a period, oldest first.
+	 * 
+	 * @param jobApplicationId
+	 *            {@link JobApplication} id.
+	 * @param from
+	 *            start of the period, inclusive.
+	 * @param to
+	 *            end of the period, inclusive.
+	 * @return List of {@link JobApplicationStatusHistory} ordered by change
+	 *         moment.
+	 */
+	@Query("select h from JobApplicationStatusHistory h where h.jobApplication.id = ?1 "
+			+ "and h.changedAt >= ?2 and h.changedAt <= ?3 order by h.changedAt, h.id")
+	List<JobApplicationStatusHistory> findTimeline(int jobApplicationId, Date from, Date to);
+
+	/**
+	 * Find the latest transitions of an application up to a moment, newest
+	 * first.
+	 * 
+	 * @param jobApplicationId
+	 *            {@link JobApplication} id.
+	 * @param asOf
+	 *            moment, inclusive.
+	 * @param pageable
+	 *            page size (page number must be 0).
+	 * @return List of {@link JobApplicationStatusHistory} ordered by change
+	 *         moment, descending.
+	 */
+	@Query("select h from JobApplicationStatusHistory h where h.jobApplication.id = ?1 and h.changedAt <= ?2 "
+			+ "order by h.changedAt desc, h.id desc")
+	List<JobApplicationStatusHistory> findLatest(int jobApplicationId, Date asOf, Pageable pageable);
+
+	/**
+	 * Find the moment of the last transition of the applications of every
+	 * offer with applications.
+	 * 
+	 * @return List of <code>{offer id, last change moment}</code>.
+	 */
+	@Query("select h.jobApplication.jobOffer.id, max(h.changedAt) from JobApplicationStatusHistory h "
+			+ "group by h.jobApplication.jobOffer.id")
+	List<Object[]> findLastChangedAtByJobOfferId();
+
+	/**
+	 * Find the moment of the last transition of the applications of the
+	 * offers.
+	 * 
+	 * @param jobOfferIds
+	 *            {@link JobOffer} ids.
+	 * @return List of <code>{offer id, last change moment}</code>, without the
+	 *         offers having no applications.
+	 */
+	@Query("select h.jobApplication.jobOffer.id, max(h.changedAt) from JobApplicationStatusHistory h "
+			+ "where h.jobApplication.jobOffer.id in ?1 group by h.jobApplication.jobOffer.id")
+	List<Object[]> findLastChangedAtByJobOfferId(Collection<Integer> jobOfferIds);
+
+}
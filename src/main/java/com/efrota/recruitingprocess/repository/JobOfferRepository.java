@@ -1,11 +1,18 @@
 package com.efrota.recruitingprocess.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
 
 /**
  * Repository for {@link JobOffer}.
@@ -13,27 +20,67 @@ import com.efrota.recruitingprocess.model.JobOffer;
  * @author edmundofrota
  *
  */
-public interface JobOfferRepository extends JpaRepository<JobOffer, Integer> {
+public interface JobOfferRepository extends JpaRepository<JobOffer, Integer>, JobOfferRepositoryCustom {
 
 	/**
-	 * Find an offer based on the title.
-	 * <code>JobOffer::applicationAmount</code> fetched.
+	 * Find an offer based on the title. The id is cached in the query region
+	 * <code>offer-by-title</code>, invalidated by any write to the offers.
 	 * 
 	 * @param title
 	 *            {@link JobOffer} title.
 	 * @return {@link JobOffer} filtered by the title.
 	 */
-	@Query("select new com.efrota.recruitingprocess.model.JobOffer(o.id, o.title, o.startDate, count(a)) "
-			+ "from JobOffer o left join o.jobApplications a where o.title = ?1 group by o.id")
+	@Query("select o from JobOffer o where o.title = ?1")
+	@QueryHints({ @QueryHint(name = SecondLevelCacheConstants.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = SecondLevelCacheConstants.HINT_CACHE_REGION, 
+					value = SecondLevelCacheConstants.OFFER_BY_TITLE_REGION) })
 	JobOffer findByTitle(String title);
 
+	/**
+	 * Find the offers matching any of the titles.
+	 * 
+	 * @param titles
+	 *            {@link JobOffer} titles.
+	 * @return List of {@link JobOffer} filtered by the titles.
+	 */
+	@Query("select o from JobOffer o where o.title in ?1")
+	List<JobOffer> findByTitleIn(Collection<String> titles);
+
 	/**
 	 * Find all offers with fetched application amount.
 	 * 
 	 * @return List of {@link JobOffer}
 	 */
-	@Query("select new com.efrota.recruitingprocess.model.JobOffer(o.id, o.title, o.startDate, count(a)) "
-			+ "from JobOffer o left join o.jobApplications a group by o.id")
+	@Query("select o from JobOffer o")
 	List<JobOffer> findAllFetchApplicationAmount();
 
+	/**
+	 * Find a page of offers with fetched application amount, ordered by id.
+	 * 
+	 * Keyset pagination: only offers with id greater than <code>afterId</code>
+	 * are read, so the cost does not grow with the page position.
+	 * 
+	 * @param afterId
+	 *            id of the last offer of the previous page, 0 for the first
+	 *            page.
+	 * @param pageable
+	 *            page size (page number must be 0).
+	 * @return List of {@link JobOffer}
+	 */
+	@Query("select o from JobOffer o where o.id > ?1 order by o.id")
+	List<JobOffer> findAllFetchApplicationAmount(int afterId, Pageable pageable);
+
+	/**
+	 * Set the application amount of the offers whose stored amount differs
+	 * from the actual amount of applications.
+	 * 
+	 * @return amount of repaired offers.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query(value = "update offer o set application_amount = "
+			+ "(select count(*) from application a where a.job_offer_id = o.id) "
+			+ "where application_amount <> (select count(*) from application a where a.job_offer_id = o.id)", 
+			nativeQuery = true)
+	int reconcileApplicationAmount();
+
 }
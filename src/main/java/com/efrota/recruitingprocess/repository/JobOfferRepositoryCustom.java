@@ -0,0 +1,32 @@
+package com.efrota.recruitingprocess.repository;
+
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Custom methods of {@link JobOfferRepository}, implemented with the
+ * {@link jakarta.persistence.EntityManager}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface JobOfferRepositoryCustom {
+
+	/**
+	 * Atomically add to the application amount of an offer, without loading
+	 * it nor touching its version, so that concurrent applies do not conflict.
+	 * 
+	 * Only this offer is soft-locked in the second-level cache, before the
+	 * statement and until the transaction completes, instead of the whole
+	 * <code>offer</code> region a bulk update would clear. Meanwhile, and for
+	 * the transactions started before the unlock, the offer is read from the
+	 * database and not cached.
+	 * 
+	 * @param id
+	 *            {@link JobOffer} id.
+	 * @param amount
+	 *            amount to be added, negative to subtract.
+	 * @return amount of updated offers.
+	 */
+	int incrementApplicationAmount(int id, long amount);
+
+}
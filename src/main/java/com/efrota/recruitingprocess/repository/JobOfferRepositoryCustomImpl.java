@@ -0,0 +1,72 @@
+package com.efrota.recruitingprocess.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Implementation of {@link JobOfferRepositoryCustom}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class JobOfferRepositoryCustomImpl implements JobOfferRepositoryCustom {
+
+	/**
+	 * Query space of the increment. No entity nor query maps to it, so that
+	 * Hibernate invalidates no cache region for the statement: the offer is
+	 * soft-locked by {@link #lockCachedOffer(SessionImplementor, int)}
+	 * instead.
+	 */
+	private static final String APPLICATION_AMOUNT_SPACE = "offer_application_amount";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public int incrementApplicationAmount(int id, long amount) {
+		lockCachedOffer(entityManager.unwrap(SessionImplementor.class), id);
+
+		return entityManager
+				.createNativeQuery("update offer set application_amount = application_amount + :amount "
+						+ "where id = :id")
+				.unwrap(NativeQuery.class)
+				.addSynchronizedQuerySpace(APPLICATION_AMOUNT_SPACE)
+				.setParameter("amount", amount)
+				.setParameter("id", id)
+				.executeUpdate();
+	}
+
+	/**
+	 * Soft-lock the cached state of an offer until the transaction completes,
+	 * as Hibernate does for the entities it updates: a transaction reading the
+	 * old row meanwhile cannot put it back in the cache after the commit.
+	 * 
+	 * @param session
+	 *            current session.
+	 * @param id
+	 *            {@link JobOffer} id.
+	 */
+	private static void lockCachedOffer(SessionImplementor session, int id) {
+		EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(JobOffer.class);
+		if (!persister.canWriteToCache()) {
+			return;
+		}
+
+		EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		Object key = cacheAccess.generateCacheKey(id, persister, session.getFactory(),
+				session.getTenantIdentifier());
+		SoftLock lock = cacheAccess.lockItem(session, key, null);
+
+		session.getActionQueue().registerProcess(
+				(success, completedSession) -> cacheAccess.unlockItem(completedSession, key, lock));
+	}
+
+}
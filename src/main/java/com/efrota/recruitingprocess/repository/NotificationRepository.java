@@ -0,0 +1,95 @@
+package com.efrota.recruitingprocess.repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.efrota.recruitingprocess.enums.NotificationStatusEnum;
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * Repository for {@link Notification}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface NotificationRepository extends JpaRepository<Notification, Integer> {
+
+	/**
+	 * Find the oldest notifications with the status that can be attempted at
+	 * the passed moment.
+	 * 
+	 * @param notificationStatusEnum
+	 *            {@link NotificationStatusEnum} of the notifications.
+	 * @param now
+	 *            current moment.
+	 * @param pageable
+	 *            page size (page number must be 0).
+	 * @return List of {@link Notification} ordered by id.
+	 */
+	@Query("select n from Notification n where n.notificationStatusEnum = ?1 and n.nextAttemptAt <= ?2 order by n.id")
+	List<Notification> findReady(NotificationStatusEnum notificationStatusEnum, Date now, Pageable pageable);
+
+	/**
+	 * Find the notifications of a candidate.
+	 * 
+	 * @param candidateEmail
+	 *            candidate email.
+	 * @return List of {@link Notification} ordered by id.
+	 */
+	@Query("select n from Notification n where n.candidateEmail = ?1 order by n.id")
+	List<Notification> findByCandidateEmail(String candidateEmail);
+
+	/**
+	 * Mark notifications as sent, in a single statement.
+	 * 
+	 * @param ids
+	 *            {@link Notification} ids.
+	 * @param sentAt
+	 *            moment of the delivery.
+	 * @return amount of updated notifications.
+	 */
+	@Modifying
+	@Query("update Notification n set n.notificationStatusEnum = "
+			+ "com.efrota.recruitingprocess.enums.NotificationStatusEnum.SENT, "
+			+ "n.sentAt = ?2, n.version = n.version + 1 where n.id in ?1")
+	int markSent(Collection<Integer> ids, Date sentAt);
+
+	/**
+	 * Delete the notifications sent before the passed moment, in a single
+	 * statement.
+	 * 
+	 * @param sentBefore
+	 *            moment before which the notifications were sent.
+	 * @return amount of deleted notifications.
+	 */
+	@Modifying
+	@Query("delete from Notification n where n.notificationStatusEnum = "
+			+ "com.efrota.recruitingprocess.enums.NotificationStatusEnum.SENT and n.sentAt < ?1")
+	int deleteSentBefore(Date sentBefore);
+
+	/**
+	 * Record a failed delivery of a notification.
+	 * 
+	 * @param id
+	 *            {@link Notification} id.
+	 * @param notificationStatusEnum
+	 *            <code>PENDING</code> to be retried, <code>FAILED</code> to
+	 *            give up.
+	 * @param nextAttemptAt
+	 *            moment of the next attempt.
+	 * @param lastError
+	 *            description of the failure.
+	 * @return amount of updated notifications.
+	 */
+	@Modifying
+	@Query("update Notification n set n.notificationStatusEnum = ?2, n.nextAttemptAt = ?3, n.lastError = ?4, "
+			+ "n.version = n.version + 1 where n.id = ?1")
+	int markFailed(int id, NotificationStatusEnum notificationStatusEnum, Date nextAttemptAt, String lastError);
+
+}
@@ -1,10 +1,20 @@
 package com.efrota.recruitingprocess.service;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
 import com.efrota.recruitingprocess.model.JobOffer;
 
 /**
@@ -18,6 +28,10 @@ public interface JobApplicationService extends Serializable {
 	/**
 	 * Create an application.
 	 * 
+	 * The application is inserted right away, an existing one with the same
+	 * email for the offer is detected by the unique constraint and reported
+	 * with {@link ServiceValidationException}.
+	 * 
 	 * @param jobApplication
 	 *            {@link JobApplication} containg the data to be stored.
 	 * @param jobOfferTitle
@@ -26,6 +40,22 @@ public interface JobApplicationService extends Serializable {
 	 */
 	JobApplication create(JobApplication jobApplication, String jobOfferTitle);
 
+	/**
+	 * Create a batch of applications.
+	 * 
+	 * Offers are resolved once per title and duplicates (already stored or
+	 * repeated in the batch) are detected with a single query, so that the
+	 * valid applications can be inserted in JDBC batches.
+	 * 
+	 * @param jobApplications
+	 *            {@link JobApplication} containing the data to be stored, each
+	 *            one with a {@link JobOffer} holding only the title to be
+	 *            related.
+	 * @return {@link JobApplicationBatchResultEnum} of each application, in the
+	 *         same order.
+	 */
+	List<JobApplicationBatchResultEnum> createAll(List<JobApplication> jobApplications);
+
 	/**
 	 * Update an application status for another status.
 	 * 
@@ -55,6 +85,63 @@ public interface JobApplicationService extends Serializable {
 	 */
 	void update(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle, String candidateEmail);
 
+	/**
+	 * Same as {@link #update(JobApplicationStatusEnum, String, String)},
+	 * recording who changes the status in the
+	 * {@link JobApplicationStatusHistory}.
+	 * 
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} to be updated.
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email used as filter.
+	 * @param actor
+	 *            who changes the status, <code>system</code> if blank.
+	 */
+	void update(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle, String candidateEmail,
+			String actor);
+
+	/**
+	 * Update the status of many applications of the same offer.
+	 * 
+	 * Same transition rules of {@link #update}, but applied with a single
+	 * locking select and one update statement per current status. Applications
+	 * not found or whose current status does not allow the transition are left
+	 * untouched and reported. Concurrent batches on the same applications are
+	 * serialized, so each transition is recorded and notified once.
+	 * 
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} to be updated.
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param candidateEmails
+	 *            {@link JobApplication} emails used as filter.
+	 * @return {@link JobApplicationTransitionResultEnum} of each distinct
+	 *         email, in the passed order.
+	 */
+	Map<String, JobApplicationTransitionResultEnum> updateAll(JobApplicationStatusEnum jobApplicationStatusEnum,
+			String jobOfferTitle, Collection<String> candidateEmails);
+
+	/**
+	 * Same as {@link #updateAll(JobApplicationStatusEnum, String, Collection)},
+	 * recording who changes the statuses in the
+	 * {@link JobApplicationStatusHistory}.
+	 * 
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} to be updated.
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param candidateEmails
+	 *            {@link JobApplication} emails used as filter.
+	 * @param actor
+	 *            who changes the statuses, <code>system</code> if blank.
+	 * @return {@link JobApplicationTransitionResultEnum} of each distinct
+	 *         email, in the passed order.
+	 */
+	Map<String, JobApplicationTransitionResultEnum> updateAll(JobApplicationStatusEnum jobApplicationStatusEnum,
+			String jobOfferTitle, Collection<String> candidateEmails, String actor);
+
 	/**
 	 * Find a list of applications based on the offer title.
 	 * 
@@ -64,6 +151,47 @@ public interface JobApplicationService extends Serializable {
 	 */
 	List<JobApplication> findByJobOfferTitle(String jobOfferTitle);
 
+	/**
+	 * Find a page of applications based on the offer title, ordered by id,
+	 * reading only the projected columns. Read from the primary, as the
+	 * response is tagged with the version stamp of the offer.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} used as filter,
+	 *            <code>null</code> for any status.
+	 * @param includeResume
+	 *            whether the resume is read.
+	 * @param afterId
+	 *            id of the last application of the previous page, 0 for the
+	 *            first page.
+	 * @param size
+	 *            max amount of applications to be returned.
+	 * @return {@link JobApplicationProjection} filtered by offer title and
+	 *         status.
+	 */
+	List<JobApplicationProjection> findByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum, boolean includeResume, int afterId, int size);
+
+	/**
+	 * Find a page of applications of a candidate across all offers, ordered by
+	 * id, reading only the projected columns.
+	 * 
+	 * @param candidateEmail
+	 *            {@link JobApplication} email used as filter.
+	 * @param includeResume
+	 *            whether the resume is read.
+	 * @param afterId
+	 *            id of the last application of the previous page, 0 for the
+	 *            first page.
+	 * @param size
+	 *            max amount of applications to be returned.
+	 * @return {@link JobApplicationProjection} filtered by email.
+	 */
+	List<JobApplicationProjection> findByCandidateEmail(String candidateEmail, boolean includeResume, int afterId,
+			int size);
+
 	/**
 	 * Find an application based on the offer title and application email.
 	 * 
@@ -75,4 +203,79 @@ public interface JobApplicationService extends Serializable {
 	 */
 	JobApplication findByJobOfferTitleCandidateEmail(String jobOfferTitle, String candidateEmail);
 
+	/**
+	 * Find the status transitions of an application in a period, oldest
+	 * first.
+	 * 
+	 * {@link NotFoundException} in case of the application does not exist.
+	 * 
+	 * {@link ServiceValidationException} in case of the period ends before it
+	 * starts.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email used as filter.
+	 * @param from
+	 *            start of the period, inclusive.
+	 * @param to
+	 *            end of the period, inclusive.
+	 * @return {@link JobApplicationStatusHistory} of the application.
+	 */
+	List<JobApplicationStatusHistory> findStatusHistory(String jobOfferTitle, String candidateEmail, Date from,
+			Date to);
+
+	/**
+	 * Find the last status transition of an application up to a moment, which
+	 * holds the status the application had then.
+	 * 
+	 * {@link NotFoundException} in case of the application does not exist.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email used as filter.
+	 * @param asOf
+	 *            moment, inclusive.
+	 * @return {@link JobApplicationStatusHistory} in effect at the moment, or
+	 *         <code>null</code> if the application did not exist yet.
+	 */
+	JobApplicationStatusHistory findStatusAsOf(String jobOfferTitle, String candidateEmail, Date asOf);
+
+	/**
+	 * Count the applications of an offer per status.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title.
+	 * @return amount of applications of every {@link JobApplicationStatusEnum},
+	 *         including the ones without applications.
+	 */
+	Map<JobApplicationStatusEnum, Long> countByStatus(String jobOfferTitle);
+
+	/**
+	 * Count the applications per status of a page of offers, ordered by id.
+	 * 
+	 * @param afterId
+	 *            id of the last offer of the previous page, 0 for the first
+	 *            page.
+	 * @param size
+	 *            max amount of offers to be returned.
+	 * @return amount of applications of every {@link JobApplicationStatusEnum}
+	 *         per {@link JobOffer}, in the order of the offers.
+	 */
+	Map<JobOffer, Map<JobApplicationStatusEnum, Long>> countByStatus(int afterId, int size);
+
+	/**
+	 * Stream all the applications of an offer, ordered by creation, to an
+	 * action without holding them in memory.
+	 * 
+	 * In case of not found offer, {@link NotFoundException} is thrown.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title.
+	 * @param action
+	 *            action run for each {@link JobApplication}.
+	 */
+	void exportByJobOfferTitle(String jobOfferTitle, Consumer<JobApplication> action);
+
 }
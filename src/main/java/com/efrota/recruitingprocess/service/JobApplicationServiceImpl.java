@@ -1,21 +1,61 @@
 package com.efrota.recruitingprocess.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.efrota.recruitingprocess.config.ReadFromPrimary;
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
 import com.efrota.recruitingprocess.exception.NotFoundException;
 import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
+import com.efrota.recruitingprocess.model.constants.JobApplicationStatusHistoryConstants;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
 import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.repository.JobApplicationStatusHistoryRepository;
+import com.efrota.recruitingprocess.service.notification.NotificationService;
+import com.efrota.recruitingprocess.service.search.ResumeIndex;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
+import com.efrota.recruitingprocess.utils.ConstraintViolationUtils;
+import com.efrota.recruitingprocess.utils.TransactionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Service implementation of {@link JobApplicationService}.
@@ -25,15 +65,45 @@ import com.efrota.recruitingprocess.repository.JobApplicationRepository;
  */
 @SuppressWarnings("serial")
 @Service
-@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, rollbackFor = Exception.class)
+@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, rollbackFor = Exception.class)
 public class JobApplicationServiceImpl implements JobApplicationService {
 
 	private Log log = LogFactory.getLog(JobApplicationServiceImpl.class);
 
+	/**
+	 * Statuses an application must currently have to be moved to each status.
+	 */
+	private static final Map<JobApplicationStatusEnum, Set<JobApplicationStatusEnum>> ALLOWED_PREVIOUS_STATUSES;
+
+	static {
+		Map<JobApplicationStatusEnum, Set<JobApplicationStatusEnum>> allowed = new EnumMap<>(
+				JobApplicationStatusEnum.class);
+		allowed.put(JobApplicationStatusEnum.APPLIED, EnumSet.noneOf(JobApplicationStatusEnum.class));
+		allowed.put(JobApplicationStatusEnum.INVITED, EnumSet.of(JobApplicationStatusEnum.APPLIED));
+		allowed.put(JobApplicationStatusEnum.REJECTED,
+				EnumSet.of(JobApplicationStatusEnum.APPLIED, JobApplicationStatusEnum.INVITED));
+		allowed.put(JobApplicationStatusEnum.HIRED, EnumSet.of(JobApplicationStatusEnum.INVITED));
+		ALLOWED_PREVIOUS_STATUSES = Collections.unmodifiableMap(allowed);
+	}
+
 	@Autowired
 	private JobApplicationRepository jobApplicationRepository;
 	@Autowired
+	private JobApplicationStatusHistoryRepository jobApplicationStatusHistoryRepository;
+	@Autowired
 	private JobOfferService jobOfferService;
+	@Autowired
+	private NotificationService notificationService;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private ResumeIndex resumeIndex;
+	@Autowired
+	private JobOfferVersionStamps jobOfferVersionStamps;
+	@Autowired
+	private JobOfferSummaryReadModel jobOfferSummaryReadModel;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
 
 	@Override
 	public JobApplication create(JobApplication jobApplication, String jobOfferTitle) {
@@ -46,28 +116,201 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 			throw new NotFoundException(message);
 		}
 
-		JobApplication sameEmailApp = findByJobOfferTitleCandidateEmail(jobOfferTitle,
-				jobApplication.getCandidateEmail());
+		Date now = new Date();
+		jobApplication.setJobApplicationStatusEnum(JobApplicationStatusEnum.APPLIED);
+		jobApplication.setJobOffer(jobOffer);
+
+		// validate unique email with the insert itself, before locking the offer row
+		JobApplication created;
+		try {
+			created = jobApplicationRepository.saveAndFlush(jobApplication);
+		} catch (DataIntegrityViolationException e) {
+			if (!ConstraintViolationUtils.isViolationOf(e, JobApplicationConstants.UNIQUE_OFFER_EMAIL)) {
+				throw e;
+			}
 
-		// validate unique email
-		if (sameEmailApp != null) {
 			String message = String.format("Email %s already exist for the offer %s.",
 					jobApplication.getCandidateEmail(), jobOfferTitle);
 			log.warn(message);
 			throw new ServiceValidationException(message);
 		}
 
-		jobApplication.setJobApplicationStatusEnum(JobApplicationStatusEnum.APPLIED);
-		jobApplication.setJobOffer(jobOffer);
-		return jobApplicationRepository.save(jobApplication);
+		moveSummary(jobOffer.getId(), null, JobApplicationStatusEnum.APPLIED, 1, now);
+		jobOfferService.incrementApplicationAmount(jobOffer, 1);
+		countTransitions(null, JobApplicationStatusEnum.APPLIED, 1);
+		TransactionUtils.afterCommit(() -> resumeIndex.index(created));
+
+		jobApplicationStatusHistoryRepository.save(new JobApplicationStatusHistory(created, null,
+				JobApplicationStatusEnum.APPLIED, now, created.getCandidateEmail()));
+
+		return created;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public List<JobApplicationBatchResultEnum> createAll(List<JobApplication> jobApplications) {
+		for (JobApplication jobApplication : jobApplications) {
+			if (jobApplication.getJobOffer() == null || jobApplication.getJobOffer().getTitle() == null) {
+				throw new ServiceValidationException("Offer of every application of the batch must be informed.");
+			}
+
+			if (jobApplication.getCandidateEmail() == null) {
+				throw new ServiceValidationException("Email of every application of the batch must be informed.");
+			}
+		}
+
+		// a batch joining the transaction of its caller cannot be run again
+		int maxAttempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1
+				: JobApplicationConstants.MAX_BATCH_ATTEMPTS;
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> createAllOnce(jobApplications));
+			} catch (DataIntegrityViolationException e) {
+				if (!ConstraintViolationUtils.isViolationOf(e, JobApplicationConstants.UNIQUE_OFFER_EMAIL)) {
+					throw e;
+				}
+
+				if (attempt == maxAttempts) {
+					String message = String.format(
+							"Batch of %d applications conflicted with concurrent applies %d times.",
+							jobApplications.size(), attempt);
+					log.warn(message);
+					throw new OptimisticLockingFailureException(message, e);
+				}
+
+				// the concurrent applies are committed, the next attempt reports them as duplicates
+				log.info(String.format("Batch of %d applications conflicted with a concurrent apply, attempt %d.",
+						jobApplications.size(), attempt));
+				jobApplications.forEach(jobApplication -> jobApplication.setId(0));
+			}
+		}
+	}
+
+	/**
+	 * Create a batch of applications in the current transaction.
+	 * 
+	 * The duplicate check is a read, so an apply committed between it and the
+	 * inserts makes the flush fail on the unique constraint
+	 * <code>uk_offer_email</code>. The offer rows are locked only once every
+	 * insert succeeded, as a single apply does.
+	 * 
+	 * @param jobApplications
+	 *            {@link JobApplication} containing the data to be stored.
+	 * @return {@link JobApplicationBatchResultEnum} of each application, in the
+	 *         same order.
+	 */
+	private List<JobApplicationBatchResultEnum> createAllOnce(List<JobApplication> jobApplications) {
+		Set<String> jobOfferTitles = jobApplications.stream().map(appl -> appl.getJobOffer().getTitle())
+				.collect(Collectors.toSet());
+
+		Map<String, JobOffer> jobOffers = jobOfferService.findAllByTitle(jobOfferTitles).stream()
+				.collect(Collectors.toMap(JobOffer::getTitle, Function.identity()));
+
+		Set<String> existingKeys = new HashSet<>();
+		if (!jobOffers.isEmpty()) {
+			Set<Integer> jobOfferIds = jobOffers.values().stream().map(JobOffer::getId).collect(Collectors.toSet());
+			Set<String> candidateEmails = jobApplications.stream().map(JobApplication::getCandidateEmail)
+					.collect(Collectors.toSet());
+
+			jobApplicationRepository.findJobOfferIdAndCandidateEmail(jobOfferIds, candidateEmails)
+					.forEach(row -> existingKeys.add(batchKey((Integer) row[0], (String) row[1])));
+		}
+
+		List<JobApplicationBatchResultEnum> results = new ArrayList<>(jobApplications.size());
+		List<JobApplication> toCreate = new ArrayList<>(jobApplications.size());
+
+		for (JobApplication jobApplication : jobApplications) {
+			JobOffer jobOffer = jobOffers.get(jobApplication.getJobOffer().getTitle());
+
+			if (jobOffer == null) {
+				results.add(JobApplicationBatchResultEnum.UNKNOWN_OFFER);
+			} else if (!existingKeys.add(batchKey(jobOffer.getId(), jobApplication.getCandidateEmail()))) {
+				results.add(JobApplicationBatchResultEnum.DUPLICATE);
+			} else {
+				jobApplication.setJobApplicationStatusEnum(JobApplicationStatusEnum.APPLIED);
+				jobApplication.setJobOffer(jobOffer);
+				toCreate.add(jobApplication);
+				results.add(JobApplicationBatchResultEnum.CREATED);
+			}
+		}
+
+		jobApplicationRepository.saveAll(toCreate);
+		jobApplicationRepository.flush();
+
+		log.info(String.format("Batch of %d applications: %d created.", jobApplications.size(), toCreate.size()));
+
+		Date now = new Date();
+		toCreate.stream().collect(Collectors.groupingBy(JobApplication::getJobOffer, Collectors.counting()))
+				.forEach((jobOffer, amount) -> {
+					moveSummary(jobOffer.getId(), null, JobApplicationStatusEnum.APPLIED, amount, now);
+					jobOfferService.incrementApplicationAmount(jobOffer, amount);
+				});
+		countTransitions(null, JobApplicationStatusEnum.APPLIED, toCreate.size());
+
+		jobApplicationStatusHistoryRepository.saveAll(toCreate.stream()
+				.map(appl -> new JobApplicationStatusHistory(appl, null, JobApplicationStatusEnum.APPLIED, now,
+						appl.getCandidateEmail()))
+				.collect(Collectors.toList()));
+		TransactionUtils.afterCommit(() -> toCreate.forEach(resumeIndex::index));
+
+		return results;
+	}
+
+	/**
+	 * Key identifying an application of a batch, matching the unique
+	 * constraint <code>uk_offer_email</code>.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param candidateEmail
+	 *            {@link JobApplication} email.
+	 * @return key of the application.
+	 */
+	private static String batchKey(int jobOfferId, String candidateEmail) {
+		return jobOfferId + "/" + candidateEmail;
 	}
 
 	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public List<JobApplication> findByJobOfferTitle(String jobOfferTitle) {
 		return jobApplicationRepository.findByJobOfferTitle(jobOfferTitle);
 	}
 
 	@Override
+	@ReadFromPrimary
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public List<JobApplicationProjection> findByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum, boolean includeResume, int afterId, int size) {
+		return jobApplicationRepository.findProjectionsByJobOfferTitle(jobOfferTitle, jobApplicationStatusEnum,
+				includeResume, afterId, size);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public List<JobApplicationProjection> findByCandidateEmail(String candidateEmail, boolean includeResume,
+			int afterId, int size) {
+		return jobApplicationRepository.findProjectionsByCandidateEmail(candidateEmail, includeResume, afterId,
+				size);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public void exportByJobOfferTitle(String jobOfferTitle, Consumer<JobApplication> action) {
+		if (jobOfferService.findByTitle(jobOfferTitle) == null) {
+			String message = String.format("Offer %s could not be found.", jobOfferTitle);
+			log.warn(message);
+			throw new NotFoundException(message);
+		}
+
+		jobApplicationRepository.forEachByJobOfferTitle(jobOfferTitle, action);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public JobApplication findByJobOfferTitleCandidateEmail(String jobOfferTitle, String candidateEmail) {
 		return jobApplicationRepository.findByJobOfferTitleAndCandidateEmail(jobOfferTitle, candidateEmail);
 	}
@@ -83,18 +326,20 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 	 *            {@link JobOffer} title used as filter.
 	 * @param candidateEmail
 	 *            {@link JobApplication} email used as filter.
+	 * @param actor
+	 *            who changes the status.
 	 */
-	private void inviteCandidate(String jobOfferTitle, String candidateEmail) {
+	private void inviteCandidate(String jobOfferTitle, String candidateEmail, String actor) {
 		JobApplication jobApplication = findExistingJobApplication(jobOfferTitle, candidateEmail);
 
-		if (jobApplication.getJobApplicationStatusEnum() != JobApplicationStatusEnum.APPLIED) {
+		if (!isTransitionAllowed(jobApplication.getJobApplicationStatusEnum(), JobApplicationStatusEnum.INVITED)) {
 			String message = String.format("Candidate %s cannot be invited for the offer %s.", candidateEmail,
 					jobOfferTitle);
 			log.warn(message);
 			throw new ServiceValidationException(message);
 		}
 
-		updateJobApplication(jobApplication, JobApplicationStatusEnum.INVITED);
+		updateJobApplication(jobApplication, JobApplicationStatusEnum.INVITED, actor);
 	}
 
 	/**
@@ -109,19 +354,20 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 	 *            {@link JobOffer} title used as filter.
 	 * @param candidateEmail
 	 *            {@link JobApplication} email used as filter.
+	 * @param actor
+	 *            who changes the status.
 	 */
-	private void rejectCandidate(String jobOfferTitle, String candidateEmail) {
+	private void rejectCandidate(String jobOfferTitle, String candidateEmail, String actor) {
 		JobApplication jobApplication = findExistingJobApplication(jobOfferTitle, candidateEmail);
 
-		if (jobApplication.getJobApplicationStatusEnum() != JobApplicationStatusEnum.APPLIED
-				&& jobApplication.getJobApplicationStatusEnum() != JobApplicationStatusEnum.INVITED) {
+		if (!isTransitionAllowed(jobApplication.getJobApplicationStatusEnum(), JobApplicationStatusEnum.REJECTED)) {
 			String message = String.format("Candidate %s cannot be rejected for the offer %s.", candidateEmail,
 					jobOfferTitle);
 			log.warn(message);
 			throw new ServiceValidationException(message);
 		}
 
-		updateJobApplication(jobApplication, JobApplicationStatusEnum.REJECTED);
+		updateJobApplication(jobApplication, JobApplicationStatusEnum.REJECTED, actor);
 	}
 
 	/**
@@ -134,18 +380,34 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 	 *            {@link JobOffer} title used as filter.
 	 * @param candidateEmail
 	 *            {@link JobApplication} email used as filter.
+	 * @param actor
+	 *            who changes the status.
 	 */
-	private void hireCandidate(String jobOfferTitle, String candidateEmail) {
+	private void hireCandidate(String jobOfferTitle, String candidateEmail, String actor) {
 		JobApplication jobApplication = findExistingJobApplication(jobOfferTitle, candidateEmail);
 
-		if (jobApplication.getJobApplicationStatusEnum() != JobApplicationStatusEnum.INVITED) {
+		if (!isTransitionAllowed(jobApplication.getJobApplicationStatusEnum(), JobApplicationStatusEnum.HIRED)) {
 			String message = String.format("Candidate %s cannot be hired for the offer %s.", candidateEmail,
 					jobOfferTitle);
 			log.warn(message);
 			throw new ServiceValidationException(message);
 		}
 
-		updateJobApplication(jobApplication, JobApplicationStatusEnum.HIRED);
+		updateJobApplication(jobApplication, JobApplicationStatusEnum.HIRED, actor);
+	}
+
+	/**
+	 * Check whether an application can be moved from its current status to the
+	 * next one.
+	 * 
+	 * @param current
+	 *            current {@link JobApplicationStatusEnum}.
+	 * @param next
+	 *            next {@link JobApplicationStatusEnum}.
+	 * @return <code>true</code> if the transition is allowed.
+	 */
+	private static boolean isTransitionAllowed(JobApplicationStatusEnum current, JobApplicationStatusEnum next) {
+		return ALLOWED_PREVIOUS_STATUSES.get(next).contains(current);
 	}
 
 	/**
@@ -173,42 +435,306 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 	}
 
 	/**
-	 * Update the application status to the passed status as parameter.
+	 * Update the application status to the passed status as parameter, record
+	 * the transition and queue the notification of the candidate.
 	 * 
 	 * @param jobApplication
 	 *            {@link JobApplication} to be updated.
 	 * @param status
 	 *            {@link JobApplicationStatusEnum} new status of the
 	 *            application.
+	 * @param actor
+	 *            who changes the status.
 	 */
-	private void updateJobApplication(JobApplication jobApplication, JobApplicationStatusEnum status) {
+	private void updateJobApplication(JobApplication jobApplication, JobApplicationStatusEnum status,
+			String actor) {
 
+		Date now = new Date();
+		countTransitions(jobApplication.getJobApplicationStatusEnum(), status, 1);
+		moveSummary(jobApplication.getJobOffer().getId(), jobApplication.getJobApplicationStatusEnum(), status, 1,
+				now);
+		jobApplicationStatusHistoryRepository.save(new JobApplicationStatusHistory(jobApplication,
+				jobApplication.getJobApplicationStatusEnum(), status, now, actor));
 		jobApplication.setJobApplicationStatusEnum(status);
 
-		log.info(String.format("Sending %s email to candidate %s...", 
-				jobApplication.getJobApplicationStatusEnum(), jobApplication.getCandidateEmail()));
+		notificationService.enqueue(status, jobApplication.getJobOffer().getTitle(),
+				Collections.singletonList(jobApplication.getCandidateEmail()));
+		TransactionUtils.afterCommit(() -> jobOfferVersionStamps.increment(jobApplication.getJobOffer().getTitle()));
 
 		jobApplicationRepository.save(jobApplication);
 	}
 
+	@Override
+	public Map<String, JobApplicationTransitionResultEnum> updateAll(JobApplicationStatusEnum jobApplicationStatusEnum,
+			String jobOfferTitle, Collection<String> candidateEmails) {
+		return updateAll(jobApplicationStatusEnum, jobOfferTitle, candidateEmails,
+				JobApplicationStatusHistoryConstants.DEFAULT_ACTOR);
+	}
+
+	@Override
+	public Map<String, JobApplicationTransitionResultEnum> updateAll(JobApplicationStatusEnum jobApplicationStatusEnum,
+			String jobOfferTitle, Collection<String> candidateEmails, String actor) {
+		String resolvedActor = resolveActor(actor);
+
+		if (jobApplicationStatusEnum == JobApplicationStatusEnum.APPLIED) {
+			throw new ServiceValidationException(
+					String.format("Candidates cannot have status changed back to %s for the offer %s.",
+							jobApplicationStatusEnum, jobOfferTitle));
+		}
+
+		JobOffer jobOffer = jobOfferService.findByTitle(jobOfferTitle);
+
+		if (jobOffer == null) {
+			String message = String.format("Offer %s could not be found.", jobOfferTitle);
+			log.warn(message);
+			throw new NotFoundException(message);
+		}
+
+		Set<String> distinctEmails = new LinkedHashSet<>(candidateEmails);
+
+		// the rows stay locked until commit, so the statuses read are the ones updated
+		Map<String, JobApplicationStatusEnum> currentStatuses = new HashMap<>();
+		Map<String, Integer> ids = new HashMap<>();
+		jobApplicationRepository.findCandidateEmailAndStatusForUpdate(jobOffer.getId(), distinctEmails)
+				.forEach(row -> {
+					currentStatuses.put((String) row[0], (JobApplicationStatusEnum) row[1]);
+					ids.put((String) row[0], (Integer) row[2]);
+				});
+
+		Map<String, JobApplicationTransitionResultEnum> results = new LinkedHashMap<>();
+		Map<JobApplicationStatusEnum, Set<String>> toUpdate = new EnumMap<>(JobApplicationStatusEnum.class);
+
+		for (String candidateEmail : distinctEmails) {
+			JobApplicationStatusEnum current = currentStatuses.get(candidateEmail);
+
+			if (current == null) {
+				results.put(candidateEmail, JobApplicationTransitionResultEnum.NOT_FOUND);
+			} else if (!isTransitionAllowed(current, jobApplicationStatusEnum)) {
+				results.put(candidateEmail, JobApplicationTransitionResultEnum.INVALID_TRANSITION);
+			} else {
+				results.put(candidateEmail, JobApplicationTransitionResultEnum.UPDATED);
+				toUpdate.computeIfAbsent(current, status -> new LinkedHashSet<>()).add(candidateEmail);
+			}
+		}
+
+		if (toUpdate.isEmpty()) {
+			return results;
+		}
+
+		Date now = new Date();
+		List<JobApplicationStatusHistory> history = new ArrayList<>();
+		Set<String> updatedEmails = new LinkedHashSet<>();
+
+		toUpdate.forEach((current, emails) -> {
+			int updated = jobApplicationRepository.updateStatus(jobApplicationStatusEnum, jobOffer.getId(), emails,
+					current);
+
+			if (updated != emails.size()) {
+				// cannot happen while the rows are locked, never record a transition that was not made
+				String message = String.format("%d of %d candidates moved from %s to %s for the offer %s.", updated,
+						emails.size(), current, jobApplicationStatusEnum, jobOfferTitle);
+				log.warn(message);
+				throw new OptimisticLockingFailureException(message);
+			}
+
+			countTransitions(current, jobApplicationStatusEnum, updated);
+			moveSummary(jobOffer.getId(), current, jobApplicationStatusEnum, updated, now);
+			emails.forEach(candidateEmail -> history
+					.add(new JobApplicationStatusHistory(jobApplicationRepository.getReferenceById(ids.get(candidateEmail)),
+							current, jobApplicationStatusEnum, now, resolvedActor)));
+			updatedEmails.addAll(emails);
+		});
+
+		jobApplicationStatusHistoryRepository.saveAll(history);
+
+		notificationService.enqueue(jobApplicationStatusEnum, jobOfferTitle, updatedEmails);
+		TransactionUtils.afterCommit(() -> jobOfferVersionStamps.increment(jobOfferTitle));
+
+		return results;
+	}
+
+	/**
+	 * Actor to be recorded in the status history.
+	 * 
+	 * {@link ServiceValidationException} in case of the actor is longer than
+	 * the column.
+	 * 
+	 * @param actor
+	 *            who changes the status, as passed.
+	 * @return the actor, or <code>system</code> if blank.
+	 */
+	private static String resolveActor(String actor) {
+		if (StringUtils.isBlank(actor)) {
+			return JobApplicationStatusHistoryConstants.DEFAULT_ACTOR;
+		}
+
+		if (actor.length() > JobApplicationStatusHistoryConstants.ACTOR_LENGTH) {
+			throw new ServiceValidationException(String.format("Actor cannot be longer than %d characters.",
+					JobApplicationStatusHistoryConstants.ACTOR_LENGTH));
+		}
+
+		return actor;
+	}
+
+	/**
+	 * Count status transitions once the current transaction is committed.
+	 * 
+	 * @param from
+	 *            previous {@link JobApplicationStatusEnum}, <code>null</code>
+	 *            for new applications.
+	 * @param to
+	 *            new {@link JobApplicationStatusEnum}.
+	 * @param amount
+	 *            amount of applications moved.
+	 */
+	private void countTransitions(JobApplicationStatusEnum from, JobApplicationStatusEnum to, long amount) {
+		if (amount == 0) {
+			return;
+		}
+
+		String fromTag = from == null ? MetricsConstants.TRANSITION_FROM_NONE : from.name();
+		TransactionUtils.afterCommit(() -> meterRegistry.counter(MetricsConstants.TRANSITION_COUNTER,
+				MetricsConstants.TAG_FROM, fromTag, MetricsConstants.TAG_TO, to.name()).increment(amount));
+	}
+
+	/**
+	 * Move applications in the summary of their offer once the current
+	 * transaction is committed. The transition is registered right away, so
+	 * that a rebuild reading it before it is applied does not count it twice.
+	 * Must be called before the version stamp of the offer is incremented, so
+	 * that a new ETag is never served with the previous summary.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param from
+	 *            previous {@link JobApplicationStatusEnum}, <code>null</code>
+	 *            for new applications.
+	 * @param to
+	 *            new {@link JobApplicationStatusEnum}.
+	 * @param amount
+	 *            amount of applications moved.
+	 * @param at
+	 *            moment of the change.
+	 */
+	private void moveSummary(int jobOfferId, JobApplicationStatusEnum from, JobApplicationStatusEnum to,
+			long amount, Date at) {
+		if (amount == 0) {
+			return;
+		}
+
+		jobOfferSummaryReadModel.changeBegins(jobOfferId);
+		TransactionUtils.afterCommit(
+				() -> jobOfferSummaryReadModel.applicationsMoved(jobOfferId, from, to, amount, at),
+				() -> jobOfferSummaryReadModel.changeAborted(jobOfferId));
+	}
+
 	@Override
 	public void update(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle, 
 			String candidateEmail) {
+		update(jobApplicationStatusEnum, jobOfferTitle, candidateEmail,
+				JobApplicationStatusHistoryConstants.DEFAULT_ACTOR);
+	}
+
+	@Override
+	public void update(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle,
+			String candidateEmail, String actor) {
+		String resolvedActor = resolveActor(actor);
+
 		switch (jobApplicationStatusEnum) {
 			case APPLIED:
 				throw new ServiceValidationException(
 						String.format("Candidate %s cannot have status changed back to %s for the offer %s.",
 								candidateEmail, jobApplicationStatusEnum, jobOfferTitle));
 			case INVITED:
-				inviteCandidate(jobOfferTitle, candidateEmail);
+				inviteCandidate(jobOfferTitle, candidateEmail, resolvedActor);
 				break;
 			case REJECTED:
-				rejectCandidate(jobOfferTitle, candidateEmail);
+				rejectCandidate(jobOfferTitle, candidateEmail, resolvedActor);
 				break;
 			case HIRED:
-				hireCandidate(jobOfferTitle, candidateEmail);
+				hireCandidate(jobOfferTitle, candidateEmail, resolvedActor);
 				break;
 		}
 	}
 
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public List<JobApplicationStatusHistory> findStatusHistory(String jobOfferTitle, String candidateEmail,
+			Date from, Date to) {
+		if (from.after(to)) {
+			String message = String.format("History of %s for the offer %s cannot end before it starts.",
+					candidateEmail, jobOfferTitle);
+			log.warn(message);
+			throw new ServiceValidationException(message);
+		}
+
+		JobApplication jobApplication = findExistingJobApplication(jobOfferTitle, candidateEmail);
+
+		return jobApplicationStatusHistoryRepository.findTimeline(jobApplication.getId(), from, to);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public JobApplicationStatusHistory findStatusAsOf(String jobOfferTitle, String candidateEmail, Date asOf) {
+		JobApplication jobApplication = findExistingJobApplication(jobOfferTitle, candidateEmail);
+
+		List<JobApplicationStatusHistory> latest = jobApplicationStatusHistoryRepository
+				.findLatest(jobApplication.getId(), asOf, PageRequest.of(0, 1));
+
+		return latest.isEmpty() ? null : latest.get(0);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Map<JobApplicationStatusEnum, Long> countByStatus(String jobOfferTitle) {
+		JobOffer jobOffer = jobOfferService.findByTitle(jobOfferTitle);
+
+		if (jobOffer == null) {
+			String message = String.format("Offer %s could not be found.", jobOfferTitle);
+			log.warn(message);
+			throw new NotFoundException(message);
+		}
+
+		return countByStatus(Collections.singletonList(jobOffer)).get(jobOffer);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Map<JobOffer, Map<JobApplicationStatusEnum, Long>> countByStatus(int afterId, int size) {
+		return countByStatus(jobOfferService.findAll(afterId, size));
+	}
+
+	/**
+	 * Count the applications of the offers per status with a single grouped
+	 * query.
+	 * 
+	 * @param jobOffers
+	 *            {@link JobOffer} to be counted.
+	 * @return amount of applications of every {@link JobApplicationStatusEnum}
+	 *         per {@link JobOffer}, in the order of the offers.
+	 */
+	private Map<JobOffer, Map<JobApplicationStatusEnum, Long>> countByStatus(List<JobOffer> jobOffers) {
+		Map<JobOffer, Map<JobApplicationStatusEnum, Long>> counts = new LinkedHashMap<>();
+		Map<Integer, Map<JobApplicationStatusEnum, Long>> countsById = new HashMap<>();
+
+		for (JobOffer jobOffer : jobOffers) {
+			Map<JobApplicationStatusEnum, Long> statusCounts = new EnumMap<>(JobApplicationStatusEnum.class);
+			for (JobApplicationStatusEnum status : JobApplicationStatusEnum.values()) {
+				statusCounts.put(status, 0L);
+			}
+
+			counts.put(jobOffer, statusCounts);
+			countsById.put(jobOffer.getId(), statusCounts);
+		}
+
+		if (countsById.isEmpty()) {
+			return counts;
+		}
+
+		jobApplicationRepository.countByJobOfferIdAndStatus(countsById.keySet()).forEach(
+				row -> countsById.get(row[0]).put((JobApplicationStatusEnum) row[1], (Long) row[2]));
+
+		return counts;
+	}
+
 }
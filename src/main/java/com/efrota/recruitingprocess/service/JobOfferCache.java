@@ -0,0 +1,158 @@
+package com.efrota.recruitingprocess.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.config.ReadWriteRoutingDataSource;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Bounded in-memory cache of {@link JobOffer} by title, used by
+ * {@link JobOfferServiceImpl}.
+ * 
+ * Entries are detached snapshots shared between requests, they must not be
+ * modified. Missing offers and <code>null</code> titles are not cached.
+ * 
+ * Offers are loaded outside of the cache lock, so that a slow read does not
+ * block the other titles of its bin. A load overlapping an invalidation of
+ * its title is not kept, as it may have read the row before the write.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class JobOfferCache {
+
+	private static final int INVALIDATION_STRIPES = 64;
+
+	private final Cache<String, JobOffer> cache;
+
+	/**
+	 * Invalidations per stripe of titles, read before and after a load.
+	 */
+	private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+	public JobOfferCache(@Value(JobOfferConstants.CACHE_MAXIMUM_SIZE) long maximumSize,
+			@Value(JobOfferConstants.CACHE_EXPIRE_AFTER_WRITE) long expireAfterWrite) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(expireAfterWrite, TimeUnit.SECONDS)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Find a cached offer, loading it on a miss.
+	 * 
+	 * Within a transaction routed to the replica, a miss is loaded but not
+	 * cached, as the replica may lag behind the updates already applied to
+	 * the cache.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 * @param loader
+	 *            function reading the offer from the database.
+	 * @return {@link JobOffer} or <code>null</code> if not found.
+	 */
+	public JobOffer get(String title, Function<String, JobOffer> loader) {
+		if (title == null) {
+			return loader.apply(null);
+		}
+
+		if (ReadWriteRoutingDataSource.isReplicaTransaction()) {
+			JobOffer cached = cache.getIfPresent(title);
+			return cached != null ? cached : loader.apply(title);
+		}
+
+		JobOffer cached = cache.getIfPresent(title);
+		if (cached != null) {
+			return cached;
+		}
+
+		int stripe = stripe(title);
+		long invalidation = invalidations.get(stripe);
+		JobOffer loaded = snapshot(loader.apply(title));
+		if (loaded == null) {
+			return null;
+		}
+
+		JobOffer current = cache.asMap().putIfAbsent(title, loaded);
+		if (current != null) {
+			return current;
+		}
+
+		if (invalidations.get(stripe) != invalidation) {
+			cache.asMap().remove(title, loaded);
+		}
+
+		return loaded;
+	}
+
+	/**
+	 * Remove an offer from the cache.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 */
+	public void invalidate(String title) {
+		if (title != null) {
+			invalidations.incrementAndGet(stripe(title));
+			cache.invalidate(title);
+		}
+	}
+
+	/**
+	 * Remove all offers from the cache.
+	 */
+	public void invalidateAll() {
+		for (int stripe = 0; stripe < INVALIDATION_STRIPES; stripe++) {
+			invalidations.incrementAndGet(stripe);
+		}
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return approximate amount of cached offers.
+	 */
+	public long size() {
+		return cache.estimatedSize();
+	}
+
+	/**
+	 * @return hit, miss and eviction statistics since the start.
+	 */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	private static int stripe(String title) {
+		return Math.floorMod(title.hashCode(), INVALIDATION_STRIPES);
+	}
+
+	/**
+	 * Copy the loaded offer, so that the cache never holds an instance
+	 * attached to a persistence context.
+	 * 
+	 * @param jobOffer
+	 *            {@link JobOffer} to be copied.
+	 * @return copy or <code>null</code>.
+	 */
+	private static JobOffer snapshot(JobOffer jobOffer) {
+		if (jobOffer == null) {
+			return null;
+		}
+
+		JobOffer copy = new JobOffer(jobOffer.getId(), jobOffer.getTitle(), jobOffer.getStartDate(),
+				jobOffer.getApplicationAmount());
+		copy.setVersion(jobOffer.getVersion());
+		return copy;
+	}
+}
@@ -1,10 +1,13 @@
 package com.efrota.recruitingprocess.service;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
 
 import com.efrota.recruitingprocess.model.JobApplication;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
 
 /**
  * Service for {@link JobOffer}.
@@ -24,7 +27,9 @@ public interface JobOfferService extends Serializable {
 	JobOffer create(JobOffer jobOffer);
 
 	/**
-	 * Find an offer based on the title.
+	 * Find an offer based on the title, served from {@link JobOfferCache}
+	 * when possible, else read from the primary. The returned offer must not
+	 * be modified.
 	 * 
 	 * @param title
 	 *            {@link JobOffer} title used as filter.
@@ -32,6 +37,15 @@ public interface JobOfferService extends Serializable {
 	 */
 	JobOffer findByTitle(String title);
 
+	/**
+	 * Find the offers matching any of the titles.
+	 * 
+	 * @param titles
+	 *            {@link JobOffer} titles used as filter.
+	 * @return List of {@link JobOffer} filtered by titles.
+	 */
+	List<JobOffer> findAllByTitle(Collection<String> titles);
+
 	/**
 	 * List of offers with fetched application amount.
 	 * 
@@ -39,4 +53,66 @@ public interface JobOfferService extends Serializable {
 	 */
 	List<JobOffer> findAll();
 
+	/**
+	 * Page of offers with fetched application amount, ordered by id.
+	 * 
+	 * @param afterId
+	 *            id of the last offer of the previous page, 0 for the first
+	 *            page.
+	 * @param size
+	 *            max amount of offers to be returned.
+	 * @return List of {@link JobOffer}.
+	 */
+	List<JobOffer> findAll(int afterId, int size);
+
+	/**
+	 * Find the summary of an offer based on the title, served from
+	 * {@link JobOfferSummaryReadModel}. Offers missing from the model are
+	 * summarized from the primary and added to it.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title used as filter.
+	 * @return {@link JobOfferSummary} or <code>null</code> if not found.
+	 */
+	JobOfferSummary findSummaryByTitle(String title);
+
+	/**
+	 * Page of offer summaries, ordered by id, served from
+	 * {@link JobOfferSummaryReadModel} without querying the database.
+	 * 
+	 * @param afterId
+	 *            id of the last offer of the previous page, 0 for the first
+	 *            page.
+	 * @param size
+	 *            max amount of summaries to be returned.
+	 * @return List of {@link JobOfferSummary}.
+	 */
+	List<JobOfferSummary> findAllSummaries(int afterId, int size);
+
+	/**
+	 * Rebuild {@link JobOfferSummaryReadModel} from the primary, with a
+	 * grouped query per aggregate.
+	 * 
+	 * @return amount of offers whose summary changed.
+	 */
+	int rebuildSummaries();
+
+	/**
+	 * Atomically add to the application amount of an offer.
+	 * 
+	 * @param jobOffer
+	 *            {@link JobOffer} to be updated.
+	 * @param amount
+	 *            amount of applications added, negative for removed ones.
+	 */
+	void incrementApplicationAmount(JobOffer jobOffer, long amount);
+
+	/**
+	 * Repair the application amount of the offers that drifted from the actual
+	 * amount of applications. The offer summaries are rebuilt as well.
+	 * 
+	 * @return amount of repaired offers.
+	 */
+	int reconcileApplicationAmount();
+
 }
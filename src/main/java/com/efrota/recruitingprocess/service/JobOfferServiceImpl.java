@@ -1,19 +1,40 @@
 package com.efrota.recruitingprocess.service;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.efrota.recruitingprocess.config.ReadFromPrimary;
 import com.efrota.recruitingprocess.controller.JobOfferController;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
+import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.repository.JobApplicationStatusHistoryRepository;
 import com.efrota.recruitingprocess.repository.JobOfferRepository;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
+import com.efrota.recruitingprocess.utils.ConstraintViolationUtils;
+import com.efrota.recruitingprocess.utils.TransactionUtils;
 
 /**
  * Service implementation of {@link JobOfferService}.
@@ -23,34 +44,189 @@ import com.efrota.recruitingprocess.repository.JobOfferRepository;
  */
 @SuppressWarnings("serial")
 @Service
-@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.SERIALIZABLE, rollbackFor = Exception.class)
+@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, rollbackFor = Exception.class)
 public class JobOfferServiceImpl implements JobOfferService {
 
 	private Log log = LogFactory.getLog(JobOfferController.class);
 
 	@Autowired
 	private JobOfferRepository jobOfferRepository;
+	@Autowired
+	private JobOfferCache jobOfferCache;
+	@Autowired
+	private JobOfferVersionStamps jobOfferVersionStamps;
+	@Autowired
+	private JobOfferSummaryReadModel jobOfferSummaryReadModel;
+	@Autowired
+	private JobApplicationRepository jobApplicationRepository;
+	@Autowired
+	private JobApplicationStatusHistoryRepository jobApplicationStatusHistoryRepository;
 
 	@Override
 	public JobOffer create(JobOffer jobOffer) {
-		JobOffer exist = findByTitle(jobOffer.getTitle());
-		if (exist == null) {
-			return jobOfferRepository.save(jobOffer);
-		} else {
-			String message = String.format("Offer %s already exist.", jobOffer.getTitle());
-			log.warn(message);
-			throw new ServiceValidationException(message);
+		if (findByTitle(jobOffer.getTitle()) != null) {
+			throw existingOffer(jobOffer.getTitle());
+		}
+
+		// a concurrent create of the same title is caught by the insert itself
+		JobOffer created;
+		try {
+			created = jobOfferRepository.saveAndFlush(jobOffer);
+		} catch (DataIntegrityViolationException e) {
+			if (!ConstraintViolationUtils.isViolationOf(e, JobOfferConstants.UNIQUE_TITLE)) {
+				throw e;
+			}
+
+			throw existingOffer(jobOffer.getTitle());
 		}
+
+		TransactionUtils.afterCommit(() -> {
+			jobOfferSummaryReadModel.offerCreated(jobOffer);
+			jobOfferCache.invalidate(jobOffer.getTitle());
+			jobOfferVersionStamps.increment(jobOffer.getTitle());
+		});
+		return created;
+	}
+
+	/**
+	 * Validation error of an offer created with an existing title.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 * @return {@link ServiceValidationException} to be thrown.
+	 */
+	private ServiceValidationException existingOffer(String title) {
+		String message = String.format("Offer %s already exist.", title);
+		log.warn(message);
+		return new ServiceValidationException(message);
 	}
 
 	@Override
+	@ReadFromPrimary
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public JobOffer findByTitle(String title) {
-		return jobOfferRepository.findByTitle(title);
+		return jobOfferCache.get(title, jobOfferRepository::findByTitle);
 	}
 
 	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public List<JobOffer> findAllByTitle(Collection<String> titles) {
+		return jobOfferRepository.findByTitleIn(titles);
+	}
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
 	public List<JobOffer> findAll() {
 		return jobOfferRepository.findAllFetchApplicationAmount();
 	}
 
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public List<JobOffer> findAll(int afterId, int size) {
+		return jobOfferRepository.findAllFetchApplicationAmount(afterId, PageRequest.of(0, size));
+	}
+
+	@Override
+	@ReadFromPrimary
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public JobOfferSummary findSummaryByTitle(String title) {
+		JobOfferSummary summary = jobOfferSummaryReadModel.findByTitle(title);
+		if (summary != null) {
+			return summary;
+		}
+
+		// begun before reading, so that the changes committed meanwhile are not counted twice
+		long snapshot = jobOfferSummaryReadModel.beginSnapshot();
+		JobOffer jobOffer = findByTitle(title);
+		if (jobOffer == null) {
+			return null;
+		}
+
+		return jobOfferSummaryReadModel.putIfAbsent(summarize(Collections.singletonList(jobOffer),
+				jobApplicationRepository.countByJobOfferIdAndStatus(Collections.singleton(jobOffer.getId())),
+				jobApplicationStatusHistoryRepository
+						.findLastChangedAtByJobOfferId(Collections.singleton(jobOffer.getId()))).get(0), snapshot);
+	}
+
+	@Override
+	public List<JobOfferSummary> findAllSummaries(int afterId, int size) {
+		return jobOfferSummaryReadModel.findAll(afterId, size);
+	}
+
+	@Override
+	@EventListener(ApplicationReadyEvent.class)
+	@ReadFromPrimary
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public int rebuildSummaries() {
+		// begun before reading, so that the changes committed meanwhile are kept
+		long snapshot = jobOfferSummaryReadModel.beginSnapshot();
+		List<String> changed = jobOfferSummaryReadModel.replaceAll(summarize(jobOfferRepository.findAll(),
+				jobApplicationRepository.countByJobOfferIdAndStatus(),
+				jobApplicationStatusHistoryRepository.findLastChangedAtByJobOfferId()), snapshot);
+
+		changed.forEach(jobOfferVersionStamps::increment);
+		log.info(String.format("Summaries of %d offers loaded, %d changed.", jobOfferSummaryReadModel.size(),
+				changed.size()));
+
+		return changed.size();
+	}
+
+	/**
+	 * Build the summaries of the offers from the grouped counts and last
+	 * transition moments.
+	 * 
+	 * @param jobOffers
+	 *            {@link JobOffer} to be summarized.
+	 * @param counts
+	 *            rows <code>{offer id, status, amount}</code>.
+	 * @param lastChanges
+	 *            rows <code>{offer id, last change moment}</code>.
+	 * @return {@link JobOfferSummary} of every offer, in the order of the
+	 *         offers.
+	 */
+	private static List<JobOfferSummary> summarize(List<JobOffer> jobOffers, List<Object[]> counts,
+			List<Object[]> lastChanges) {
+		Map<Integer, Map<JobApplicationStatusEnum, Long>> countsById = new HashMap<>();
+		counts.forEach(row -> countsById
+				.computeIfAbsent((Integer) row[0], id -> new EnumMap<>(JobApplicationStatusEnum.class))
+				.put((JobApplicationStatusEnum) row[1], (Long) row[2]));
+
+		Map<Integer, Date> lastChangesById = new HashMap<>();
+		lastChanges.forEach(row -> lastChangesById.put((Integer) row[0], (Date) row[1]));
+
+		return jobOffers.stream()
+				.map(offer -> new JobOfferSummary(offer.getId(), offer.getTitle(), offer.getStartDate(),
+						countsById.getOrDefault(offer.getId(), Collections.emptyMap()),
+						lastChangesById.get(offer.getId())))
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	public void incrementApplicationAmount(JobOffer jobOffer, long amount) {
+		jobOfferRepository.incrementApplicationAmount(jobOffer.getId(), amount);
+		TransactionUtils.afterCommit(() -> {
+			jobOfferCache.invalidate(jobOffer.getTitle());
+			jobOfferVersionStamps.increment(jobOffer.getTitle());
+		});
+	}
+
+	@Override
+	@Scheduled(initialDelayString = JobOfferConstants.RECONCILIATION_DELAY, 
+			fixedDelayString = JobOfferConstants.RECONCILIATION_DELAY)
+	public int reconcileApplicationAmount() {
+		int repaired = jobOfferRepository.reconcileApplicationAmount();
+
+		if (repaired > 0) {
+			log.warn(String.format("Application amount of %d offers repaired.", repaired));
+			TransactionUtils.afterCommit(() -> {
+				jobOfferCache.invalidateAll();
+				jobOfferVersionStamps.incrementAll();
+			});
+		}
+
+		rebuildSummaries();
+
+		return repaired;
+	}
+
 }
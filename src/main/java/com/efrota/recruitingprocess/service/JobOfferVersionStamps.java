@@ -0,0 +1,81 @@
+package com.efrota.recruitingprocess.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * In-memory version stamps of the {@link JobOffer} and their
+ * {@link JobApplication}, used as strong ETags by the polled endpoints.
+ * 
+ * Each offer has a stamp changed on every committed application create or
+ * status change, and a global stamp changes with any offer. Stamps are
+ * prefixed by an epoch chosen at startup, so that ETags issued before a
+ * restart never match again. Stamps only grow, so that an ETag is never
+ * reused for different content.
+ * 
+ * Stamps only see the writes of this instance: they assume a single instance
+ * serves the API. Behind a load balancer, an ETag issued by one instance can
+ * match on another after writes it never saw. The reads of the tagged
+ * responses are done on the primary, so that the body is never older than
+ * its stamp.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class JobOfferVersionStamps {
+
+	private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+	private final ConcurrentMap<String, Long> stamps = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final AtomicLong globalStamp = new AtomicLong();
+
+	/**
+	 * Change the stamp of an offer and the global one.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 */
+	public void increment(String title) {
+		if (title != null) {
+			stamps.merge(title, 1L, Long::sum);
+		}
+		globalStamp.incrementAndGet();
+	}
+
+	/**
+	 * Change the stamps of every offer and the global one.
+	 */
+	public void incrementAll() {
+		generation.incrementAndGet();
+		globalStamp.incrementAndGet();
+	}
+
+	/**
+	 * ETag of an offer and its applications.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 * @return strong ETag, quoted.
+	 */
+	public String etag(String title) {
+		return String.format("\"%s-%d-%d\"", epoch, generation.get(), stamps.getOrDefault(title, 0L));
+	}
+
+	/**
+	 * ETag of the list of offers.
+	 * 
+	 * @return strong ETag, quoted.
+	 */
+	public String etagAll() {
+		return String.format("\"%s-%d\"", epoch, globalStamp.get());
+	}
+}
@@ -0,0 +1,101 @@
+package com.efrota.recruitingprocess.service.admission;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.exception.TooManyRequestsException;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.AdmissionConstants;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admission control of the {@link JobApplication} creation, checked before any
+ * transaction is opened.
+ * 
+ * Each offer has its own {@link TokenBucket}, so that a single hot offer is
+ * shed without using up the capacity of the others, and a global bucket caps
+ * the load on the database. Buckets of offers not applied to for a while are
+ * evicted, as they would be full again anyway.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class ApplyAdmissionControl {
+
+	private Log log = LogFactory.getLog(ApplyAdmissionControl.class);
+
+	private final boolean enabled;
+	private final TokenBucket globalBucket;
+	private final LoadingCache<String, TokenBucket> offerBuckets;
+	private final MeterRegistry meterRegistry;
+
+	public ApplyAdmissionControl(@Value(AdmissionConstants.ENABLED) boolean enabled,
+			@Value(AdmissionConstants.GLOBAL_RATE) double globalRate,
+			@Value(AdmissionConstants.GLOBAL_BURST) double globalBurst,
+			@Value(AdmissionConstants.OFFER_RATE) double offerRate,
+			@Value(AdmissionConstants.OFFER_BURST) double offerBurst,
+			@Value(AdmissionConstants.OFFER_MAXIMUM_BUCKETS) long maximumBuckets, MeterRegistry meterRegistry) {
+		this.enabled = enabled;
+		this.globalBucket = new TokenBucket(globalRate, globalBurst);
+		this.offerBuckets = Caffeine.newBuilder()
+				.maximumSize(maximumBuckets)
+				// refilled from empty to full in this time
+				.expireAfterAccess((long) Math.ceil(offerBurst / offerRate), TimeUnit.SECONDS)
+				.build(title -> new TokenBucket(offerRate, offerBurst));
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Admit an application for an offer, or reject it.
+	 * 
+	 * {@link TooManyRequestsException} in case of the offer or the whole
+	 * service is over its rate.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title, unknown titles are admitted per title
+	 *            as well.
+	 */
+	public void admit(String jobOfferTitle) {
+		if (!enabled) {
+			return;
+		}
+
+		TokenBucket offerBucket = jobOfferTitle == null ? null : offerBuckets.get(jobOfferTitle);
+
+		long wait = offerBucket == null ? 0 : offerBucket.tryAcquire();
+		if (wait > 0) {
+			reject(String.format("Too many applications for the offer %s.", jobOfferTitle),
+					AdmissionConstants.SCOPE_OFFER, wait);
+		}
+
+		wait = globalBucket.tryAcquire();
+		if (wait > 0) {
+			if (offerBucket != null) {
+				offerBucket.release();
+			}
+			reject("Too many applications.", AdmissionConstants.SCOPE_GLOBAL, wait);
+		}
+	}
+
+	private void reject(String message, String scope, long waitNanos) {
+		meterRegistry.counter(MetricsConstants.ADMISSION_REJECTED_COUNTER, MetricsConstants.TAG_SCOPE, scope)
+				.increment();
+		if (log.isDebugEnabled()) {
+			log.debug(message);
+		}
+
+		// rounded up, Retry-After is in whole seconds
+		long retryAfterSeconds = (long) Math.ceil((double) waitNanos / TimeUnit.SECONDS.toNanos(1));
+		throw new TooManyRequestsException(message, Math.max(1, retryAfterSeconds));
+	}
+}
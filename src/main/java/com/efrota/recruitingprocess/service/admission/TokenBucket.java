@@ -0,0 +1,93 @@
+package com.efrota.recruitingprocess.service.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket refilled continuously at a fixed rate up to its capacity.
+ * 
+ * Each admitted request takes a token; when the bucket is empty, requests are
+ * rejected until it refills, which lets bursts up to the capacity through and
+ * then caps the sustained rate.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class TokenBucket {
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final double capacity;
+	private final double tokensPerNano;
+	private final LongSupplier nanoClock;
+
+	private double tokens;
+	private long refilledAt;
+
+	/**
+	 * Full bucket.
+	 * 
+	 * @param ratePerSecond
+	 *            tokens added per second.
+	 * @param capacity
+	 *            max amount of tokens.
+	 */
+	public TokenBucket(double ratePerSecond, double capacity) {
+		this(ratePerSecond, capacity, System::nanoTime);
+	}
+
+	/**
+	 * Full bucket with a custom clock.
+	 * 
+	 * @param ratePerSecond
+	 *            tokens added per second.
+	 * @param capacity
+	 *            max amount of tokens.
+	 * @param nanoClock
+	 *            source of monotonic nanoseconds.
+	 */
+	public TokenBucket(double ratePerSecond, double capacity, LongSupplier nanoClock) {
+		if (ratePerSecond <= 0 || capacity < 1) {
+			throw new IllegalArgumentException(String.format(
+					"Token bucket rate must be positive and capacity at least 1, got %s and %s.", ratePerSecond,
+					capacity));
+		}
+
+		this.capacity = capacity;
+		this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+		this.nanoClock = nanoClock;
+		this.tokens = capacity;
+		this.refilledAt = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Take a token if available.
+	 * 
+	 * @return 0 if a token was taken, otherwise the nanoseconds until one is
+	 *         available.
+	 */
+	public synchronized long tryAcquire() {
+		refill();
+
+		if (tokens >= 1) {
+			tokens--;
+			return 0;
+		}
+
+		return (long) Math.ceil((1 - tokens) / tokensPerNano);
+	}
+
+	/**
+	 * Give back a token taken by {@link #tryAcquire()} for a request that was
+	 * not admitted after all.
+	 */
+	public synchronized void release() {
+		tokens = Math.min(capacity, tokens + 1);
+	}
+
+	private void refill() {
+		long now = nanoClock.getAsLong();
+		tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+		refilledAt = now;
+	}
+}
@@ -0,0 +1,45 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * {@link NotificationSender} appending one line per notification to a local
+ * file (property <code>notification.file</code>), standing in for a mail
+ * gateway.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "file")
+public class FileNotificationSender implements NotificationSender {
+
+	private final Path file;
+
+	public FileNotificationSender(@Value("${notification.file:notifications.log}") String file) {
+		this.file = Paths.get(file);
+	}
+
+	@Override
+	public synchronized void send(Notification notification) throws IOException {
+		String line = String.format("%s\t%s\t%s\t%s", notification.getCreatedAt().toInstant(),
+				notification.getJobOfferTitle(), notification.getCandidateEmail(),
+				notification.getJobApplicationStatusEnum());
+
+		Files.write(file, Collections.singletonList(line), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND);
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * {@link NotificationSender} that only logs the notification.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sender", havingValue = "log", matchIfMissing = true)
+public class LogNotificationSender implements NotificationSender {
+
+	private Log log = LogFactory.getLog(LogNotificationSender.class);
+
+	@Override
+	public void send(Notification notification) {
+		log.info(String.format("Sending %s email to candidate %s...", notification.getJobApplicationStatusEnum(),
+				notification.getCandidateEmail()));
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.model.constants.NotificationConstants;
+
+/**
+ * Background job draining the {@link Notification} outbox.
+ * 
+ * Notifications are claimed in batches, sent out of any transaction through
+ * the {@link NotificationSender}, then marked as sent (or rescheduled) in a
+ * single statement. A notification claimed by a dispatch that died before
+ * marking it is sent again once its lease expires. Sent notifications are
+ * purged once older than the retention.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class NotificationDispatcher {
+
+	private Log log = LogFactory.getLog(NotificationDispatcher.class);
+
+	@Autowired
+	private NotificationService notificationService;
+	@Autowired
+	private NotificationSender notificationSender;
+
+	/**
+	 * Send every ready notification.
+	 * 
+	 * @return amount of sent notifications.
+	 */
+	@Scheduled(initialDelayString = NotificationConstants.DISPATCH_DELAY, 
+			fixedDelayString = NotificationConstants.DISPATCH_DELAY)
+	public int dispatch() {
+		int sentAmount = 0;
+		List<Notification> notifications;
+
+		do {
+			try {
+				notifications = notificationService.claim();
+			} catch (OptimisticLockingFailureException e) {
+				log.info("Notifications claimed by another dispatch, skipping.");
+				return sentAmount;
+			}
+
+			List<Integer> sent = new ArrayList<>(notifications.size());
+
+			for (Notification notification : notifications) {
+				try {
+					notificationSender.send(notification);
+					sent.add(notification.getId());
+				} catch (Exception e) {
+					notificationService.markFailed(notification, e);
+				}
+			}
+
+			notificationService.markSent(sent);
+			sentAmount += sent.size();
+		} while (!notifications.isEmpty());
+
+		return sentAmount;
+	}
+
+	/**
+	 * Delete the notifications sent longer ago than the retention.
+	 * 
+	 * @return amount of deleted notifications.
+	 */
+	@Scheduled(initialDelayString = NotificationConstants.PURGE_DELAY, 
+			fixedDelayString = NotificationConstants.PURGE_DELAY)
+	public int purge() {
+		int purged = notificationService.purgeSent();
+
+		if (purged > 0) {
+			log.info(String.format("%d sent notifications purged.", purged));
+		}
+		return purged;
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * Delivers a {@link Notification} to the candidate.
+ * 
+ * The implementation is selected by the property
+ * <code>notification.sender</code>: {@link LogNotificationSender} by default,
+ * {@link FileNotificationSender} with <code>file</code>.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface NotificationSender {
+
+	/**
+	 * Deliver a notification. Any exception makes it be retried later.
+	 * 
+	 * @param notification
+	 *            {@link Notification} to be delivered.
+	 * @throws Exception
+	 *             when the delivery fails.
+	 */
+	void send(Notification notification) throws Exception;
+
+}
@@ -0,0 +1,70 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.Notification;
+
+/**
+ * Service for the {@link Notification} outbox.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface NotificationService extends Serializable {
+
+	/**
+	 * Store the notifications of a status change, to be sent later by the
+	 * {@link NotificationDispatcher}. Joins the transaction of the status
+	 * change, so that nothing is sent for a rolled back change.
+	 * 
+	 * @param jobApplicationStatusEnum
+	 *            new {@link JobApplicationStatusEnum} of the candidates.
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title.
+	 * @param candidateEmails
+	 *            candidates to be notified.
+	 */
+	void enqueue(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle,
+			Collection<String> candidateEmails);
+
+	/**
+	 * Claim a batch of pending notifications: they are hidden from other
+	 * claims for the lease time, and count one more attempt.
+	 * 
+	 * @return List of claimed {@link Notification}, empty if there is none
+	 *         ready.
+	 */
+	List<Notification> claim();
+
+	/**
+	 * Mark the notifications as sent.
+	 * 
+	 * @param ids
+	 *            {@link Notification} ids.
+	 */
+	void markSent(Collection<Integer> ids);
+
+	/**
+	 * Delete the notifications sent longer ago than the retention, so that the
+	 * outbox does not grow forever.
+	 * 
+	 * @return amount of deleted notifications.
+	 */
+	int purgeSent();
+
+	/**
+	 * Schedule the retry of a notification with exponential backoff, or give
+	 * it up after the max attempts.
+	 * 
+	 * @param notification
+	 *            {@link Notification} not delivered.
+	 * @param cause
+	 *            failure of the delivery.
+	 */
+	void markFailed(Notification notification, Exception cause);
+
+}
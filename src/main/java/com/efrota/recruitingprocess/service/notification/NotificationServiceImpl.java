@@ -0,0 +1,114 @@
+package com.efrota.recruitingprocess.service.notification;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.NotificationStatusEnum;
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.model.constants.NotificationConstants;
+import com.efrota.recruitingprocess.repository.NotificationRepository;
+
+/**
+ * Service implementation of {@link NotificationService}.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+@Service
+@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, rollbackFor = Exception.class)
+public class NotificationServiceImpl implements NotificationService {
+
+	private Log log = LogFactory.getLog(NotificationServiceImpl.class);
+
+	@Autowired
+	private NotificationRepository notificationRepository;
+
+	@Value(NotificationConstants.BATCH_SIZE)
+	private int batchSize;
+	@Value(NotificationConstants.LEASE)
+	private long lease;
+	@Value(NotificationConstants.INITIAL_BACKOFF)
+	private long initialBackoff;
+	@Value(NotificationConstants.MAX_BACKOFF)
+	private long maxBackoff;
+	@Value(NotificationConstants.MAX_ATTEMPTS)
+	private int maxAttempts;
+	@Value(NotificationConstants.RETENTION)
+	private long retention;
+
+	@Override
+	public void enqueue(JobApplicationStatusEnum jobApplicationStatusEnum, String jobOfferTitle,
+			Collection<String> candidateEmails) {
+		Date now = new Date();
+
+		notificationRepository.saveAll(candidateEmails.stream()
+				.map(candidateEmail -> new Notification(candidateEmail, jobOfferTitle, jobApplicationStatusEnum, now))
+				.collect(Collectors.toList()));
+	}
+
+	@Override
+	public List<Notification> claim() {
+		Date now = new Date();
+		Date leaseEnd = new Date(now.getTime() + lease);
+
+		List<Notification> notifications = notificationRepository.findReady(NotificationStatusEnum.PENDING, now,
+				PageRequest.of(0, batchSize));
+
+		for (Notification notification : notifications) {
+			notification.setAttempts(notification.getAttempts() + 1);
+			notification.setNextAttemptAt(leaseEnd);
+		}
+
+		return notifications;
+	}
+
+	@Override
+	public void markSent(Collection<Integer> ids) {
+		if (!ids.isEmpty()) {
+			notificationRepository.markSent(ids, new Date());
+		}
+	}
+
+	@Override
+	public int purgeSent() {
+		return notificationRepository.deleteSentBefore(new Date(System.currentTimeMillis() - retention));
+	}
+
+	@Override
+	public void markFailed(Notification notification, Exception cause) {
+		String lastError = StringUtils.abbreviate(String.valueOf(cause.getMessage()),
+				NotificationConstants.LAST_ERROR_LENGTH);
+
+		if (notification.getAttempts() >= maxAttempts) {
+			log.error(String.format("Giving up notifying candidate %s after %d attempts: %s",
+					notification.getCandidateEmail(), notification.getAttempts(), lastError));
+			notificationRepository.markFailed(notification.getId(), NotificationStatusEnum.FAILED,
+					notification.getNextAttemptAt(), lastError);
+			return;
+		}
+
+		// initial backoff doubled per attempt, without overflowing the shift
+		long backoff = Math.min(maxBackoff, initialBackoff << Math.min(notification.getAttempts() - 1, 30));
+
+		log.warn(String.format("Notifying candidate %s failed, retry in %d ms: %s",
+				notification.getCandidateEmail(), backoff, lastError));
+		notificationRepository.markFailed(notification.getId(), NotificationStatusEnum.PENDING,
+				new Date(System.currentTimeMillis() + backoff), lastError);
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.efrota.recruitingprocess.service.reactive;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of the read operations of offers and applications.
+ * 
+ * The blocking JDBC reads run on a bounded scheduler, so that the calling
+ * thread is released while they wait. Lists are read page by page, a page
+ * only being queried once the subscriber requested its elements.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface ReactiveReadService {
+
+	/**
+	 * Find an offer based on the title.
+	 * 
+	 * In case of not found, {@link NotFoundException} is signaled.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 * @return {@link Mono} of the {@link JobOffer}.
+	 */
+	Mono<JobOffer> findJobOfferByTitle(String title);
+
+	/**
+	 * Stream all offers, ordered by creation.
+	 * 
+	 * @return {@link Flux} of {@link JobOffer}.
+	 */
+	Flux<JobOffer> findAllJobOffers();
+
+	/**
+	 * Stream the applications of an offer, ordered by creation.
+	 * 
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title used as filter.
+	 * @param jobApplicationStatusEnum
+	 *            {@link JobApplicationStatusEnum} used as filter,
+	 *            <code>null</code> for any status.
+	 * @return {@link Flux} of {@link JobApplicationProjection}.
+	 */
+	Flux<JobApplicationProjection> findJobApplicationByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum);
+
+}
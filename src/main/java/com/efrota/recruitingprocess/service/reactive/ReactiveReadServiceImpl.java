@@ -0,0 +1,128 @@
+package com.efrota.recruitingprocess.service.reactive;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+import com.efrota.recruitingprocess.model.constants.ReactiveConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.utils.VirtualThreadUtils;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Service implementation of {@link ReactiveReadService}, delegating the reads
+ * to {@link JobOfferService} and {@link JobApplicationService} on a fixed
+ * pool of <code>reactive.jdbc-threads</code> threads, as many as the
+ * connections of the pool by default. The threads are virtual in the
+ * <code>virtual</code> execution mode.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Service
+public class ReactiveReadServiceImpl implements ReactiveReadService {
+
+	private Log log = LogFactory.getLog(ReactiveReadServiceImpl.class);
+
+	@Autowired
+	private JobOfferService jobOfferService;
+	@Autowired
+	private JobApplicationService jobApplicationService;
+
+	@Value(ReactiveConstants.JDBC_THREADS)
+	private int jdbcThreads;
+	@Value(ReactiveConstants.PAGE_SIZE)
+	private int pageSize;
+	@Value(ExecutionConstants.MODE)
+	private String executionMode;
+
+	private ExecutorService jdbcExecutor;
+	private Scheduler jdbcScheduler;
+
+	@PostConstruct
+	public void createScheduler() {
+		jdbcExecutor = Executors.newFixedThreadPool(jdbcThreads,
+				VirtualThreadUtils.newThreadFactory(executionMode, "jdbc-read-"));
+		jdbcScheduler = Schedulers.fromExecutorService(jdbcExecutor);
+	}
+
+	@PreDestroy
+	public void disposeScheduler() {
+		jdbcScheduler.dispose();
+		jdbcExecutor.shutdown();
+	}
+
+	@Override
+	public Mono<JobOffer> findJobOfferByTitle(String title) {
+		return read(() -> jobOfferService.findByTitle(title))
+				.switchIfEmpty(Mono.defer(() -> {
+					String message = String.format("Offer %s could not be found.", title);
+					log.warn(message);
+					return Mono.error(new NotFoundException(message));
+				}));
+	}
+
+	@Override
+	public Flux<JobOffer> findAllJobOffers() {
+		return readPages(afterId -> jobOfferService.findAll(afterId, pageSize), JobOffer::getId);
+	}
+
+	@Override
+	public Flux<JobApplicationProjection> findJobApplicationByJobOfferTitle(String jobOfferTitle,
+			JobApplicationStatusEnum jobApplicationStatusEnum) {
+		return readPages(afterId -> jobApplicationService.findByJobOfferTitle(jobOfferTitle,
+				jobApplicationStatusEnum, true, afterId, pageSize), JobApplicationProjection::getId);
+	}
+
+	/**
+	 * Run a blocking read on the JDBC scheduler.
+	 * 
+	 * @param reader
+	 *            blocking read, may return <code>null</code>.
+	 * @return {@link Mono} of the read value, empty for <code>null</code>.
+	 */
+	private <T> Mono<T> read(Callable<T> reader) {
+		return Mono.fromCallable(reader).subscribeOn(jdbcScheduler);
+	}
+
+	/**
+	 * Read a list page by page with keyset pagination. Pages are requested
+	 * one at a time, so that at most one page is read ahead of the demand of
+	 * the subscriber.
+	 * 
+	 * @param pageReader
+	 *            blocking read of the page after an id.
+	 * @param idExtractor
+	 *            function to extract the id of an element.
+	 * @return {@link Flux} of all elements, ordered by id.
+	 */
+	private <T> Flux<T> readPages(IntFunction<List<T>> pageReader, ToIntFunction<T> idExtractor) {
+		return read(() -> pageReader.apply(0))
+				.expand(page -> page.size() < pageSize ? Mono.empty()
+						: read(() -> pageReader.apply(idExtractor.applyAsInt(page.get(page.size() - 1)))))
+				.concatMapIterable(page -> page, 1);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.efrota.recruitingprocess.service.search;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Service to search {@link JobApplication} by resume text, backed by the
+ * {@link ResumeIndex}.
+ * 
+ * @author edmundofrota
+ *
+ */
+public interface JobApplicationSearchService extends Serializable {
+
+	/**
+	 * Find the applications whose resume best matches the keywords and phrase.
+	 * 
+	 * {@link ServiceValidationException} in case of neither keywords nor phrase
+	 * are given, or size is out of bounds. In case of not found offer,
+	 * {@link NotFoundException} is thrown.
+	 * 
+	 * @param keywords
+	 *            free text of keywords, optional.
+	 * @param phrase
+	 *            terms that must appear next to each other, optional.
+	 * @param jobOfferTitle
+	 *            {@link JobOffer} title to filter on, optional.
+	 * @param size
+	 *            max amount of results, <code>null</code> for the default one.
+	 * @return {@link JobApplication} with their relevance, ordered by
+	 *         descending relevance.
+	 */
+	Map<JobApplication, Double> search(String keywords, String phrase, String jobOfferTitle, Integer size);
+
+	/**
+	 * Index the resumes of every stored application, reading the application
+	 * table in id ranges on parallel threads. Already indexed applications
+	 * are skipped.
+	 * 
+	 * @return amount of indexed applications.
+	 */
+	int rebuildIndex();
+
+}
@@ -0,0 +1,178 @@
+package com.efrota.recruitingprocess.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+import com.efrota.recruitingprocess.model.constants.SearchConstants;
+import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.utils.VirtualThreadUtils;
+
+/**
+ * Service implementation of {@link JobApplicationSearchService}.
+ * 
+ * @author edmundofrota
+ *
+ */
+@SuppressWarnings("serial")
+@Service
+@Transactional(propagation = Propagation.REQUIRED, isolation = Isolation.READ_COMMITTED, rollbackFor = Exception.class)
+public class JobApplicationSearchServiceImpl implements JobApplicationSearchService {
+
+	private Log log = LogFactory.getLog(JobApplicationSearchServiceImpl.class);
+
+	@Autowired
+	private ResumeIndex resumeIndex;
+	@Autowired
+	private JobApplicationRepository jobApplicationRepository;
+	@Autowired
+	private JobOfferService jobOfferService;
+
+	@Value(SearchConstants.REBUILD_CHUNK_SIZE)
+	private int rebuildChunkSize;
+	@Value(SearchConstants.REBUILD_THREADS)
+	private int rebuildThreads;
+	@Value(ExecutionConstants.MODE)
+	private String executionMode;
+
+	@Override
+	@Transactional(isolation = Isolation.READ_COMMITTED, readOnly = true)
+	public Map<JobApplication, Double> search(String keywords, String phrase, String jobOfferTitle, Integer size) {
+		if (StringUtils.isBlank(keywords) && StringUtils.isBlank(phrase)) {
+			throw new ServiceValidationException("Keywords or phrase must be informed.");
+		}
+
+		int resultSize = size == null ? SearchConstants.DEFAULT_SIZE : size;
+		if (resultSize < 1 || resultSize > SearchConstants.MAX_SIZE) {
+			throw new ServiceValidationException(String.format(
+					"Search size cannot be less than 1 and greater then %d.", SearchConstants.MAX_SIZE));
+		}
+
+		Integer jobOfferId = null;
+		if (StringUtils.isNotEmpty(jobOfferTitle)) {
+			JobOffer jobOffer = jobOfferService.findByTitle(jobOfferTitle);
+
+			if (jobOffer == null) {
+				String message = String.format("Offer %s could not be found.", jobOfferTitle);
+				log.warn(message);
+				throw new NotFoundException(message);
+			}
+
+			jobOfferId = jobOffer.getId();
+		}
+
+		List<ResumeSearchHit> hits = resumeIndex.search(keywords, phrase, jobOfferId, resultSize);
+
+		Map<JobApplication, Double> results = new LinkedHashMap<>();
+		if (hits.isEmpty()) {
+			return results;
+		}
+
+		Map<Integer, JobApplication> jobApplications = jobApplicationRepository
+				.findByIdIn(hits.stream().map(ResumeSearchHit::getJobApplicationId).collect(Collectors.toList()))
+				.stream().collect(Collectors.toMap(JobApplication::getId, Function.identity()));
+
+		for (ResumeSearchHit hit : hits) {
+			JobApplication jobApplication = jobApplications.get(hit.getJobApplicationId());
+			if (jobApplication != null) {
+				results.put(jobApplication, hit.getScore());
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Rebuild the index once the application is started.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuildIndex();
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public int rebuildIndex() {
+		Object[] idRange = jobApplicationRepository.findIdRange().get(0);
+		if (idRange[0] == null) {
+			return 0;
+		}
+
+		int firstId = (Integer) idRange[0];
+		int lastId = (Integer) idRange[1];
+		long start = System.currentTimeMillis();
+
+		ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads,
+				VirtualThreadUtils.newThreadFactory(executionMode, "search-rebuild-"));
+		try {
+			List<Future<Integer>> chunks = new ArrayList<>();
+			for (long afterId = firstId - 1L; afterId < lastId; afterId += rebuildChunkSize) {
+				int chunkAfterId = (int) afterId;
+				int chunkLastId = (int) Math.min(afterId + rebuildChunkSize, lastId);
+				chunks.add(executor.submit(() -> indexChunk(chunkAfterId, chunkLastId)));
+			}
+
+			int indexed = 0;
+			for (Future<Integer> chunk : chunks) {
+				indexed += chunk.get();
+			}
+
+			log.info(String.format("Resume index rebuilt from %d applications in %d ms.", indexed,
+					System.currentTimeMillis() - start));
+
+			return indexed;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Resume index rebuild interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Resume index rebuild failed.", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Index the resumes of a range of applications.
+	 * 
+	 * @param afterId
+	 *            id after which the range starts (exclusive).
+	 * @param lastId
+	 *            id at which the range ends (inclusive).
+	 * @return amount of applications read.
+	 */
+	private int indexChunk(int afterId, int lastId) {
+		List<Object[]> rows = jobApplicationRepository.findResumeTextByIdRange(afterId, lastId);
+
+		for (Object[] row : rows) {
+			resumeIndex.index((Integer) row[0], (Integer) row[1], (String) row[2]);
+		}
+
+		return rows.size();
+	}
+
+}
@@ -0,0 +1,293 @@
+package com.efrota.recruitingprocess.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.SearchConstants;
+
+/**
+ * In-memory inverted index of {@link JobApplication} resume texts.
+ * 
+ * Each term maps to the applications containing it and the positions of the
+ * term in their resume, so that keyword and phrase queries only visit the
+ * applications containing the searched terms. Results are ranked with BM25.
+ * 
+ * Resumes are never changed once applied, indexing an application twice is a
+ * no-op. The index is safe for concurrent indexing and searching.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class ResumeIndex {
+
+	private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private static final Comparator<ResumeSearchHit> RELEVANCE = Comparator
+			.comparingDouble(ResumeSearchHit::getScore).reversed()
+			.thenComparingInt(ResumeSearchHit::getJobApplicationId);
+
+	/**
+	 * Indexed resume of an application.
+	 */
+	private static final class Document {
+		private final int jobOfferId;
+		private final int length;
+
+		private Document(int jobOfferId, int length) {
+			this.jobOfferId = jobOfferId;
+			this.length = length;
+		}
+	}
+
+	private final ConcurrentMap<String, ConcurrentMap<Integer, int[]>> postings = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Integer, Document> documents = new ConcurrentHashMap<>();
+	private final AtomicLong totalLength = new AtomicLong();
+
+	/**
+	 * Index the resume of an application.
+	 * 
+	 * @param jobApplicationId
+	 *            {@link JobApplication} id.
+	 * @param jobOfferId
+	 *            {@link JobOffer} id of the application.
+	 * @param resumeText
+	 *            resume, applications without one are not indexed.
+	 */
+	public void index(int jobApplicationId, int jobOfferId, String resumeText) {
+		List<String> terms = tokenize(resumeText);
+
+		if (terms.isEmpty()
+				|| documents.putIfAbsent(jobApplicationId, new Document(jobOfferId, terms.size())) != null) {
+			return;
+		}
+
+		Map<String, List<Integer>> positions = new HashMap<>();
+		for (int i = 0; i < terms.size(); i++) {
+			positions.computeIfAbsent(terms.get(i), term -> new ArrayList<>()).add(i);
+		}
+
+		positions.forEach((term, termPositions) -> postings
+				.computeIfAbsent(term, key -> new ConcurrentHashMap<>())
+				.put(jobApplicationId, termPositions.stream().mapToInt(Integer::intValue).toArray()));
+
+		totalLength.addAndGet(terms.size());
+	}
+
+	/**
+	 * Index the resume of an application.
+	 * 
+	 * @param jobApplication
+	 *            {@link JobApplication} related to its {@link JobOffer}.
+	 */
+	public void index(JobApplication jobApplication) {
+		index(jobApplication.getId(), jobApplication.getJobOffer().getId(), jobApplication.getResumeText());
+	}
+
+	/**
+	 * Find the most relevant applications.
+	 * 
+	 * Applications must contain the whole phrase, when given, or at least one
+	 * of the keywords otherwise. Keywords also raise the relevance of the
+	 * applications matching the phrase.
+	 * 
+	 * @param keywords
+	 *            free text of keywords, optional.
+	 * @param phrase
+	 *            terms that must appear next to each other, optional.
+	 * @param jobOfferId
+	 *            {@link JobOffer} id to filter on, <code>null</code> for all.
+	 * @param size
+	 *            max amount of results.
+	 * @return hits ordered by descending relevance.
+	 */
+	public List<ResumeSearchHit> search(String keywords, String phrase, Integer jobOfferId, int size) {
+		List<String> keywordTerms = tokenize(keywords);
+		List<String> phraseTerms = tokenize(phrase);
+
+		Map<Integer, Double> scores = new HashMap<>();
+
+		if (!phraseTerms.isEmpty()) {
+			for (int jobApplicationId : findPhrase(phraseTerms, jobOfferId)) {
+				scores.put(jobApplicationId, 0d);
+			}
+			for (String term : distinct(phraseTerms)) {
+				addScores(term, jobOfferId, scores, false);
+			}
+			for (String term : distinct(keywordTerms)) {
+				addScores(term, jobOfferId, scores, false);
+			}
+		} else {
+			for (String term : distinct(keywordTerms)) {
+				addScores(term, jobOfferId, scores, true);
+			}
+		}
+
+		PriorityQueue<ResumeSearchHit> top = new PriorityQueue<>(size + 1, RELEVANCE.reversed());
+		scores.forEach((jobApplicationId, score) -> {
+			top.add(new ResumeSearchHit(jobApplicationId, score));
+			if (top.size() > size) {
+				top.poll();
+			}
+		});
+
+		List<ResumeSearchHit> hits = new ArrayList<>(top);
+		hits.sort(RELEVANCE);
+		return hits;
+	}
+
+	/**
+	 * Amount of indexed applications.
+	 * 
+	 * @return indexed applications.
+	 */
+	public int size() {
+		return documents.size();
+	}
+
+	/**
+	 * Add the BM25 score of a term to the applications containing it.
+	 * 
+	 * @param term
+	 *            searched term.
+	 * @param jobOfferId
+	 *            {@link JobOffer} id to filter on, <code>null</code> for all.
+	 * @param scores
+	 *            scores per application id.
+	 * @param addMissing
+	 *            whether applications not yet scored are added, or only
+	 *            the already present ones are updated.
+	 */
+	private void addScores(String term, Integer jobOfferId, Map<Integer, Double> scores, boolean addMissing) {
+		Map<Integer, int[]> termPostings = postingsOf(term);
+		if (termPostings.isEmpty()) {
+			return;
+		}
+
+		int documentCount = documents.size();
+		double averageLength = (double) totalLength.get() / Math.max(documentCount, 1);
+		double idf = Math.log(1 + (documentCount - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+
+		termPostings.forEach((jobApplicationId, positions) -> {
+			Document document = documents.get(jobApplicationId);
+
+			if ((jobOfferId != null && document.jobOfferId != jobOfferId)
+					|| (!addMissing && !scores.containsKey(jobApplicationId))) {
+				return;
+			}
+
+			double frequency = positions.length;
+			double score = idf * frequency * (SearchConstants.BM25_K1 + 1)
+					/ (frequency + SearchConstants.BM25_K1
+							* (1 - SearchConstants.BM25_B + SearchConstants.BM25_B * document.length / averageLength));
+
+			scores.merge(jobApplicationId, score, Double::sum);
+		});
+	}
+
+	/**
+	 * Find the applications containing all the terms next to each other.
+	 * 
+	 * @param terms
+	 *            phrase terms, in order.
+	 * @param jobOfferId
+	 *            {@link JobOffer} id to filter on, <code>null</code> for all.
+	 * @return ids of the matching applications.
+	 */
+	private List<Integer> findPhrase(List<String> terms, Integer jobOfferId) {
+		List<Map<Integer, int[]>> termPostings = new ArrayList<>(terms.size());
+		Map<Integer, int[]> rarest = null;
+
+		for (String term : terms) {
+			Map<Integer, int[]> current = postingsOf(term);
+			if (current.isEmpty()) {
+				return Collections.emptyList();
+			}
+			termPostings.add(current);
+			if (rarest == null || current.size() < rarest.size()) {
+				rarest = current;
+			}
+		}
+
+		List<Integer> found = new ArrayList<>();
+
+		for (int jobApplicationId : rarest.keySet()) {
+			Document document = documents.get(jobApplicationId);
+			if (jobOfferId != null && document.jobOfferId != jobOfferId) {
+				continue;
+			}
+
+			int[] firstPositions = termPostings.get(0).get(jobApplicationId);
+			if (firstPositions == null) {
+				continue;
+			}
+
+			for (int start : firstPositions) {
+				if (containsPhraseAt(termPostings, jobApplicationId, start)) {
+					found.add(jobApplicationId);
+					break;
+				}
+			}
+		}
+
+		return found;
+	}
+
+	private Map<Integer, int[]> postingsOf(String term) {
+		Map<Integer, int[]> termPostings = postings.get(term);
+		return termPostings == null ? Collections.emptyMap() : termPostings;
+	}
+
+	private static boolean containsPhraseAt(List<Map<Integer, int[]>> termPostings, int jobApplicationId,
+			int start) {
+		for (int i = 1; i < termPostings.size(); i++) {
+			int[] positions = termPostings.get(i).get(jobApplicationId);
+			if (positions == null || Arrays.binarySearch(positions, start + i) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<String> distinct(List<String> terms) {
+		return terms.stream().distinct().collect(Collectors.toList());
+	}
+
+	/**
+	 * Split a text in lower case terms of letters and digits.
+	 * 
+	 * @param text
+	 *            text to split, may be <code>null</code>.
+	 * @return terms in order of appearance.
+	 */
+	static List<String> tokenize(String text) {
+		if (StringUtils.isBlank(text)) {
+			return Collections.emptyList();
+		}
+
+		List<String> terms = new ArrayList<>();
+		for (String term : TERM_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+			if (!term.isEmpty()) {
+				terms.add(term);
+			}
+		}
+		return terms;
+	}
+}
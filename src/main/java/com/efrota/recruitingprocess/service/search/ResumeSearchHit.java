@@ -0,0 +1,30 @@
+package com.efrota.recruitingprocess.service.search;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+
+/**
+ * Id of a {@link JobApplication} matching a search, with its relevance.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class ResumeSearchHit {
+
+	private final int jobApplicationId;
+
+	private final double score;
+
+	public ResumeSearchHit(int jobApplicationId, double score) {
+		this.jobApplicationId = jobApplicationId;
+		this.score = score;
+	}
+
+	public int getJobApplicationId() {
+		return jobApplicationId;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.efrota.recruitingprocess.service.summary;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * Immutable summary of a {@link JobOffer}: its data, the amount of
+ * {@link JobApplication} per status and the moment of the last application or
+ * status change.
+ * 
+ * @author edmundofrota
+ *
+ */
+public final class JobOfferSummary {
+
+	private final int id;
+
+	private final String title;
+
+	private final Date startDate;
+
+	private final Map<JobApplicationStatusEnum, Long> applicationsPerStatus;
+
+	private final long applicationAmount;
+
+	private final Date lastActivity;
+
+	public JobOfferSummary(int id, String title, Date startDate,
+			Map<JobApplicationStatusEnum, Long> applicationsPerStatus, Date lastActivity) {
+		Map<JobApplicationStatusEnum, Long> counts = new EnumMap<>(JobApplicationStatusEnum.class);
+		for (JobApplicationStatusEnum status : JobApplicationStatusEnum.values()) {
+			counts.put(status, applicationsPerStatus.getOrDefault(status, 0L));
+		}
+
+		this.id = id;
+		this.title = title;
+		this.startDate = startDate == null ? null : new Date(startDate.getTime());
+		this.applicationsPerStatus = Collections.unmodifiableMap(counts);
+		this.applicationAmount = counts.values().stream().mapToLong(Long::longValue).sum();
+		// copied, so that timestamps read from the database compare equal
+		this.lastActivity = lastActivity == null ? null : new Date(lastActivity.getTime());
+	}
+
+	/**
+	 * Summary of an offer without applications.
+	 * 
+	 * @param jobOffer
+	 *            {@link JobOffer} summarized.
+	 * @return {@link JobOfferSummary} of the offer.
+	 */
+	public static JobOfferSummary of(JobOffer jobOffer) {
+		return new JobOfferSummary(jobOffer.getId(), jobOffer.getTitle(), jobOffer.getStartDate(),
+				Collections.emptyMap(), null);
+	}
+
+	/**
+	 * Summary after applications moved from a status to another one.
+	 * 
+	 * @param from
+	 *            previous {@link JobApplicationStatusEnum}, <code>null</code>
+	 *            for new applications.
+	 * @param to
+	 *            new {@link JobApplicationStatusEnum}.
+	 * @param amount
+	 *            amount of applications moved.
+	 * @param at
+	 *            moment of the change.
+	 * @return new {@link JobOfferSummary}.
+	 */
+	public JobOfferSummary withTransition(JobApplicationStatusEnum from, JobApplicationStatusEnum to, long amount,
+			Date at) {
+		Map<JobApplicationStatusEnum, Long> counts = new EnumMap<>(applicationsPerStatus);
+		if (from != null) {
+			counts.merge(from, -amount, Long::sum);
+		}
+		counts.merge(to, amount, Long::sum);
+
+		Date activity = lastActivity == null || at.after(lastActivity) ? at : lastActivity;
+
+		return new JobOfferSummary(id, title, startDate, counts, activity);
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public Date getStartDate() {
+		return startDate;
+	}
+
+	public Map<JobApplicationStatusEnum, Long> getApplicationsPerStatus() {
+		return applicationsPerStatus;
+	}
+
+	public long getApplicationAmount() {
+		return applicationAmount;
+	}
+
+	public Date getLastActivity() {
+		return lastActivity;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof JobOfferSummary)) {
+			return false;
+		}
+
+		JobOfferSummary other = (JobOfferSummary) obj;
+		return id == other.id && Objects.equals(title, other.title) && Objects.equals(startDate, other.startDate)
+				&& applicationsPerStatus.equals(other.applicationsPerStatus)
+				&& Objects.equals(lastActivity, other.lastActivity);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, title, startDate, applicationsPerStatus, lastActivity);
+	}
+
+}
@@ -0,0 +1,340 @@
+package com.efrota.recruitingprocess.service.summary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+
+/**
+ * In-memory read model holding the {@link JobOfferSummary} of every offer,
+ * ordered by id.
+ * 
+ * Loaded in full on startup and on every reconciliation, and kept up to date
+ * in between with the offers and transitions committed by this instance, so
+ * that reading a page of summaries costs the size of the page only. Summaries
+ * are immutable and replaced atomically. Offers missing from the model are
+ * ignored by the incremental updates. <code>null</code> offers and titles are
+ * not stored.
+ * 
+ * Like the version stamps, the model assumes a single instance: the writes of
+ * other instances are only seen by the next rebuild. It is loaded from the
+ * primary, never from a replica which may lag behind the updates already
+ * applied.
+ * 
+ * Every stored summary is stamped with the sequence of its last change. A
+ * rebuild takes a sequence before reading its snapshot, and leaves alone the
+ * summaries changed after it, as the snapshot may predate their change.
+ * 
+ * A transition is registered by {@link #changeBegins(int)} before its
+ * transaction commits, and only applied once committed, so a snapshot may
+ * already hold a transition not applied yet. A snapshot is thus never stored
+ * for an offer with a transition in progress, or ended since the snapshot
+ * began, which would then be counted twice.
+ * 
+ * @author edmundofrota
+ *
+ */
+@Component
+public class JobOfferSummaryReadModel {
+
+	private final ConcurrentNavigableMap<Integer, StampedSummary> summaries = new ConcurrentSkipListMap<>();
+	private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Integer, Changes> changes = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Add a new offer, without applications.
+	 * 
+	 * @param jobOffer
+	 *            created {@link JobOffer}.
+	 */
+	public void offerCreated(JobOffer jobOffer) {
+		if (jobOffer != null && jobOffer.getTitle() != null) {
+			summaries.putIfAbsent(jobOffer.getId(), stamp(JobOfferSummary.of(jobOffer)));
+			ids.put(jobOffer.getTitle(), jobOffer.getId());
+		}
+	}
+
+	/**
+	 * Register a transition of applications of an offer, before its transaction
+	 * commits. Must be ended by
+	 * {@link #applicationsMoved(int, JobApplicationStatusEnum, JobApplicationStatusEnum, long, Date)}
+	 * once committed, or by {@link #changeAborted(int)} once rolled back.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 */
+	public void changeBegins(int jobOfferId) {
+		changes.compute(jobOfferId,
+				(id, previous) -> new Changes(previous == null ? 1 : previous.pending + 1, sequence.incrementAndGet()));
+		// fails the replacement of a snapshot read concurrently
+		summaries.computeIfPresent(jobOfferId, (id, stamped) -> stamp(stamped.summary));
+	}
+
+	/**
+	 * End a transition registered by {@link #changeBegins(int)} whose
+	 * transaction was rolled back.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 */
+	public void changeAborted(int jobOfferId) {
+		changeEnds(jobOfferId);
+	}
+
+	/**
+	 * End a transition registered by {@link #changeBegins(int)}.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 */
+	private void changeEnds(int jobOfferId) {
+		changes.compute(jobOfferId, (id, previous) -> new Changes(previous.pending - 1, sequence.incrementAndGet()));
+	}
+
+	/**
+	 * Whether a snapshot may be stored for an offer, i.e. no transition of its
+	 * applications is in progress or ended since the snapshot began.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param snapshot
+	 *            sequence of the snapshot.
+	 * @return <code>true</code> if the snapshot holds every committed
+	 *         transition already applied, and none of the others.
+	 */
+	private boolean isSettled(int jobOfferId, long snapshot) {
+		Changes offerChanges = changes.get(jobOfferId);
+
+		return offerChanges == null || (offerChanges.pending == 0 && offerChanges.sequence < snapshot);
+	}
+
+	/**
+	 * Move applications of an offer from a status to another one, once the
+	 * transition registered by {@link #changeBegins(int)} is committed.
+	 * 
+	 * @param jobOfferId
+	 *            {@link JobOffer} id.
+	 * @param from
+	 *            previous {@link JobApplicationStatusEnum}, <code>null</code>
+	 *            for new applications.
+	 * @param to
+	 *            new {@link JobApplicationStatusEnum}.
+	 * @param amount
+	 *            amount of applications moved.
+	 * @param at
+	 *            moment of the change.
+	 */
+	public void applicationsMoved(int jobOfferId, JobApplicationStatusEnum from, JobApplicationStatusEnum to,
+			long amount, Date at) {
+		summaries.computeIfPresent(jobOfferId,
+				(id, stamped) -> stamp(stamped.summary.withTransition(from, to, amount, at)));
+		changeEnds(jobOfferId);
+	}
+
+	/**
+	 * Add the summary of an offer read by a snapshot, unless it is already
+	 * stored. Not stored either if a transition of its applications is in
+	 * progress or ended since the snapshot began.
+	 * 
+	 * @param summary
+	 *            {@link JobOfferSummary} read by the snapshot.
+	 * @param snapshot
+	 *            sequence returned by {@link #beginSnapshot()} before reading
+	 *            the summary.
+	 * @return the stored {@link JobOfferSummary}, or the given one if not
+	 *         stored.
+	 */
+	public JobOfferSummary putIfAbsent(JobOfferSummary summary, long snapshot) {
+		StampedSummary stored = summaries.get(summary.getId());
+		if (stored != null) {
+			return stored.summary;
+		}
+		if (!isSettled(summary.getId(), snapshot)) {
+			return summary;
+		}
+
+		stored = summaries.putIfAbsent(summary.getId(), new StampedSummary(summary, snapshot));
+		ids.put(summary.getTitle(), summary.getId());
+
+		return stored == null ? summary : stored.summary;
+	}
+
+	/**
+	 * Start a snapshot of every summary, to be passed to
+	 * {@link #replaceAll(Collection, long)}. Must be called before the snapshot
+	 * is read.
+	 * 
+	 * @return sequence of the snapshot.
+	 */
+	public long beginSnapshot() {
+		return sequence.incrementAndGet();
+	}
+
+	/**
+	 * Replace every summary not changed since the snapshot began, nor with a
+	 * transition in progress. Summaries missing from the snapshot are dropped,
+	 * unless changed since it began.
+	 * 
+	 * @param all
+	 *            {@link JobOfferSummary} of every offer.
+	 * @param snapshot
+	 *            sequence returned by {@link #beginSnapshot()} before reading
+	 *            the summaries.
+	 * @return titles of the offers whose summary changed.
+	 */
+	public List<String> replaceAll(Collection<JobOfferSummary> all, long snapshot) {
+		List<String> changed = new ArrayList<>();
+		Set<Integer> current = new HashSet<>();
+
+		for (JobOfferSummary summary : all) {
+			current.add(summary.getId());
+
+			if (replace(summary, snapshot)) {
+				changed.add(summary.getTitle());
+			}
+		}
+
+		for (Integer id : summaries.keySet()) {
+			if (!current.contains(id)) {
+				StampedSummary stored = summaries.computeIfPresent(id,
+						(key, previous) -> previous.sequence > snapshot || !isSettled(key, snapshot)
+								? previous : null);
+				if (stored == null) {
+					ids.values().remove(id);
+				}
+			}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Store the summary of an offer read by a snapshot, unless the stored one
+	 * changed since the snapshot began, or a transition of its applications is
+	 * in progress or ended since then.
+	 * 
+	 * @param summary
+	 *            {@link JobOfferSummary} read by the snapshot.
+	 * @param snapshot
+	 *            sequence of the snapshot.
+	 * @return <code>true</code> if the stored summary was replaced by a
+	 *         different one.
+	 */
+	private boolean replace(JobOfferSummary summary, long snapshot) {
+		StampedSummary replacement = new StampedSummary(summary, snapshot);
+
+		while (true) {
+			StampedSummary stored = summaries.get(summary.getId());
+			if ((stored != null && stored.sequence > snapshot) || !isSettled(summary.getId(), snapshot)) {
+				return false;
+			}
+
+			if (stored == null ? summaries.putIfAbsent(summary.getId(), replacement) == null
+					: summaries.replace(summary.getId(), stored, replacement)) {
+				ids.put(summary.getTitle(), summary.getId());
+				return stored == null || !summary.equals(stored.summary);
+			}
+		}
+	}
+
+	/**
+	 * Stamp a summary changed now.
+	 * 
+	 * @param summary
+	 *            changed {@link JobOfferSummary}.
+	 * @return {@link StampedSummary} to be stored.
+	 */
+	private StampedSummary stamp(JobOfferSummary summary) {
+		return new StampedSummary(summary, sequence.incrementAndGet());
+	}
+
+	/**
+	 * Find the summary of an offer.
+	 * 
+	 * @param title
+	 *            {@link JobOffer} title.
+	 * @return {@link JobOfferSummary} or <code>null</code> if not stored.
+	 */
+	public JobOfferSummary findByTitle(String title) {
+		Integer id = title == null ? null : ids.get(title);
+		StampedSummary stored = id == null ? null : summaries.get(id);
+
+		return stored == null ? null : stored.summary;
+	}
+
+	/**
+	 * Find a page of summaries, ordered by offer id.
+	 * 
+	 * @param afterId
+	 *            id of the last offer of the previous page, 0 for the first
+	 *            page.
+	 * @param size
+	 *            max amount of summaries to be returned.
+	 * @return List of {@link JobOfferSummary}.
+	 */
+	public List<JobOfferSummary> findAll(int afterId, int size) {
+		List<JobOfferSummary> page = new ArrayList<>();
+
+		for (StampedSummary stored : summaries.tailMap(afterId, false).values()) {
+			if (page.size() == size) {
+				break;
+			}
+			page.add(stored.summary);
+		}
+
+		return page;
+	}
+
+	/**
+	 * Amount of stored summaries.
+	 * 
+	 * @return amount of offers.
+	 */
+	public int size() {
+		return summaries.size();
+	}
+
+	/**
+	 * Transitions of the applications of an offer in progress, with the
+	 * sequence of the last one begun or ended.
+	 */
+	private static final class Changes {
+
+		private final int pending;
+
+		private final long sequence;
+
+		private Changes(int pending, long sequence) {
+			this.pending = pending;
+			this.sequence = sequence;
+		}
+	}
+
+	/**
+	 * Summary with the sequence of its last change.
+	 */
+	private static final class StampedSummary {
+
+		private final JobOfferSummary summary;
+
+		private final long sequence;
+
+		private StampedSummary(JobOfferSummary summary, long sequence) {
+			this.summary = summary;
+			this.sequence = sequence;
+		}
+	}
+}
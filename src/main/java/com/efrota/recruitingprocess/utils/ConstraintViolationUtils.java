@@ -0,0 +1,38 @@
+package com.efrota.recruitingprocess.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Non-implementable utility class to identify the constraint violated by a
+ * write.
+ *
+ * @author edmundofrota
+ *
+ */
+public class ConstraintViolationUtils {
+
+	private ConstraintViolationUtils() {
+		// empty
+	}
+
+	/**
+	 * Check whether a write failed on the given constraint. The name reported
+	 * by the database is used when known, the message otherwise.
+	 *
+	 * @param e
+	 *            {@link DataIntegrityViolationException} thrown by the write.
+	 * @param constraintName
+	 *            name of the constraint, case insensitive.
+	 * @return <code>true</code> if the constraint was violated.
+	 */
+	public static boolean isViolationOf(DataIntegrityViolationException e, String constraintName) {
+		String violatedName = e.getCause() instanceof ConstraintViolationException
+				? ((ConstraintViolationException) e.getCause()).getConstraintName()
+				: null;
+
+		return StringUtils.containsIgnoreCase(
+				violatedName != null ? violatedName : e.getMostSpecificCause().getMessage(), constraintName);
+	}
+}
@@ -1,9 +1,14 @@
 package com.efrota.recruitingprocess.utils;
 
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
 import com.efrota.recruitingprocess.model.JobOffer;
 import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
+import com.efrota.recruitingprocess.model.dto.JobApplicationStatusHistoryDTO;
 import com.efrota.recruitingprocess.model.dto.JobOfferDTO;
+import com.efrota.recruitingprocess.model.dto.JobOfferSummaryDTO;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
 
 /**
  * Non-implementable utility class to convert entity-DTO and DTO-entity.
@@ -62,6 +67,29 @@ public class EntityDTOConverter {
 		return dto;
 	}
 
+	/**
+	 * Convert application projection-DTO.
+	 * 
+	 * @param projection
+	 *            {@link JobApplicationProjection}
+	 * @return {@link JobApplicationDTO}, without resume when it was not
+	 *         selected.
+	 */
+	public static JobApplicationDTO convertToDTO(JobApplicationProjection projection) {
+		if (projection == null) {
+			return null;
+		}
+
+		JobApplicationDTO dto = new JobApplicationDTO();
+
+		dto.setCandidateEmail(projection.getCandidateEmail());
+		dto.setJobOffer(projection.getJobOfferTitle());
+		dto.setResumeText(projection.getResumeText());
+		dto.setStatus(projection.getJobApplicationStatusEnum());
+
+		return dto;
+	}
+
 	/**
 	 * Convert offer DTO-entity.
 	 * 
@@ -102,4 +130,43 @@ public class EntityDTOConverter {
 
 		return dto;
 	}
+
+	/**
+	 * Convert status history entity-DTO.
+	 * 
+	 * @param entity
+	 *            {@link JobApplicationStatusHistory}
+	 * @return {@link JobApplicationStatusHistoryDTO}
+	 */
+	public static JobApplicationStatusHistoryDTO convertToDTO(JobApplicationStatusHistory entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return new JobApplicationStatusHistoryDTO(entity.getFromStatus(), entity.getToStatus(),
+				entity.getChangedAt(), entity.getActor());
+	}
+
+	/**
+	 * Convert offer summary to DTO.
+	 * 
+	 * @param summary
+	 *            {@link JobOfferSummary}
+	 * @return {@link JobOfferSummaryDTO}
+	 */
+	public static JobOfferSummaryDTO convertToDTO(JobOfferSummary summary) {
+		if (summary == null) {
+			return null;
+		}
+
+		JobOfferSummaryDTO dto = new JobOfferSummaryDTO();
+
+		dto.setJobTitle(summary.getTitle());
+		dto.setStartDate(summary.getStartDate());
+		dto.setNumberApplication(summary.getApplicationAmount());
+		dto.setApplicationsPerStatus(summary.getApplicationsPerStatus());
+		dto.setLastActivity(summary.getLastActivity());
+
+		return dto;
+	}
 }
@@ -0,0 +1,97 @@
+package com.efrota.recruitingprocess.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
+
+/**
+ * Non-implementable utility class to handle keyset pagination parameters.
+ *
+ * A cursor is an opaque token holding the id of the last row of a page. The
+ * next page contains the rows with id greater than it.
+ *
+ * @author edmundofrota
+ *
+ */
+public class PaginationUtils {
+
+	private PaginationUtils() {
+		// empty
+	}
+
+	/**
+	 * Validate the requested page size.
+	 *
+	 * @param size
+	 *            requested size, <code>null</code> for the default one.
+	 * @return page size to be used.
+	 */
+	public static int resolvePageSize(Integer size) {
+		if (size == null) {
+			return PaginationConstants.DEFAULT_PAGE_SIZE;
+		}
+
+		if (size < 1 || size > PaginationConstants.MAX_PAGE_SIZE) {
+			throw new ServiceValidationException(String.format("Page size cannot be less than 1 and greater then %d.",
+					PaginationConstants.MAX_PAGE_SIZE));
+		}
+
+		return size;
+	}
+
+	/**
+	 * Encode an id into a cursor.
+	 *
+	 * @param id
+	 *            id of the last row of a page.
+	 * @return opaque cursor.
+	 */
+	public static String encodeCursor(int id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode a cursor into the id after which the page starts.
+	 *
+	 * @param cursor
+	 *            opaque cursor, empty for the first page.
+	 * @return id after which the page starts.
+	 */
+	public static int decodeCursor(String cursor) {
+		if (StringUtils.isEmpty(cursor)) {
+			return 0;
+		}
+
+		try {
+			return Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch (IllegalArgumentException e) {
+			throw new ServiceValidationException(String.format("Cursor %s is not valid.", cursor));
+		}
+	}
+
+	/**
+	 * Cursor of the page following the passed one.
+	 *
+	 * @param page
+	 *            rows of the current page, ordered by id.
+	 * @param size
+	 *            requested page size.
+	 * @param idExtractor
+	 *            function to extract the id of a row.
+	 * @return next cursor or <code>null</code> if this is the last page.
+	 */
+	public static <T> String nextCursor(List<T> page, int size, ToIntFunction<T> idExtractor) {
+		if (page.size() < size) {
+			return null;
+		}
+
+		return encodeCursor(idExtractor.applyAsInt(page.get(page.size() - 1)));
+	}
+}
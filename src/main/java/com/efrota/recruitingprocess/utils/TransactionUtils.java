@@ -0,0 +1,61 @@
+package com.efrota.recruitingprocess.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Non-implementable utility class to hook actions on the current transaction.
+ *
+ * @author edmundofrota
+ *
+ */
+public class TransactionUtils {
+
+	private TransactionUtils() {
+		// empty
+	}
+
+	/**
+	 * Run an action once the current transaction is committed, so that it is
+	 * skipped on rollback. Without an active transaction, the action runs right
+	 * away.
+	 *
+	 * @param action
+	 *            action to be run.
+	 */
+	public static void afterCommit(Runnable action) {
+		afterCommit(action, () -> {
+		});
+	}
+
+	/**
+	 * Run an action once the current transaction is committed, or another one
+	 * once it is rolled back. Without an active transaction, the first action
+	 * runs right away.
+	 *
+	 * @param action
+	 *            action to be run on commit.
+	 * @param rollbackAction
+	 *            action to be run on rollback.
+	 */
+	public static void afterCommit(Runnable action, Runnable rollbackAction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					rollbackAction.run();
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,66 @@
+package com.efrota.recruitingprocess.utils;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+
+/**
+ * Non-implementable utility class to create virtual threads.
+ * 
+ * Virtual threads are only available in the build for Java 21 (the
+ * <code>jdk21</code> profile, activated by a Java 21 JDK), the build for
+ * Java 17 rejects them.
+ * 
+ * @author edmundofrota
+ *
+ */
+public class VirtualThreadUtils {
+
+	private VirtualThreadUtils() {
+		// empty
+	}
+
+	/**
+	 * Check whether this build supports virtual threads.
+	 * 
+	 * @return <code>true</code> when built for Java 21.
+	 */
+	public static boolean isSupported() {
+		return VirtualThreadSupport.SUPPORTED;
+	}
+
+	/**
+	 * Create a factory of virtual threads, named by the prefix followed by a
+	 * counter.
+	 * 
+	 * {@link IllegalStateException} in case of this build does not support
+	 * virtual threads.
+	 * 
+	 * @param prefix
+	 *            prefix of the thread names.
+	 * @return factory of virtual threads.
+	 */
+	public static ThreadFactory newVirtualThreadFactory(String prefix) {
+		return VirtualThreadSupport.newVirtualThreadFactory(prefix);
+	}
+
+	/**
+	 * Create the thread factory of an execution mode: virtual threads for
+	 * <code>virtual</code>, platform threads otherwise.
+	 * 
+	 * @param executionMode
+	 *            value of <code>execution.mode</code>.
+	 * @param prefix
+	 *            prefix of the thread names.
+	 * @return thread factory.
+	 */
+	public static ThreadFactory newThreadFactory(String executionMode, String prefix) {
+		if (ExecutionConstants.VIRTUAL.equals(executionMode)) {
+			return newVirtualThreadFactory(prefix);
+		}
+
+		return new CustomizableThreadFactory(prefix);
+	}
+}
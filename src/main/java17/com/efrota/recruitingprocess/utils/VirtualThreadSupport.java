@@ -0,0 +1,25 @@
+package com.efrota.recruitingprocess.utils;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads of the build for Java 17, selected by the
+ * <code>jdk17</code> profile: they are not available.
+ * 
+ * @author edmundofrota
+ *
+ */
+final class VirtualThreadSupport {
+
+	static final boolean SUPPORTED = false;
+
+	private VirtualThreadSupport() {
+		// empty
+	}
+
+	static ThreadFactory newVirtualThreadFactory(String prefix) {
+		throw new IllegalStateException(String.format(
+				"Virtual threads require a build for Java 21, this one is built for Java 17 and running on %s.",
+				System.getProperty("java.version")));
+	}
+}
@@ -0,0 +1,23 @@
+package com.efrota.recruitingprocess.utils;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads of the build for Java 21, selected by the
+ * <code>jdk21</code> profile.
+ * 
+ * @author edmundofrota
+ *
+ */
+final class VirtualThreadSupport {
+
+	static final boolean SUPPORTED = true;
+
+	private VirtualThreadSupport() {
+		// empty
+	}
+
+	static ThreadFactory newVirtualThreadFactory(String prefix) {
+		return Thread.ofVirtual().name(prefix, 1).factory();
+	}
+}
@@ -1,26 +1,53 @@
 package com.efrota.recruitingprocess.integration;
 
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
+import com.efrota.recruitingprocess.enums.NotificationStatusEnum;
 import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobApplication;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.model.constants.JobApplicationStatusHistoryConstants;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
 import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
 import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.repository.NotificationRepository;
 import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.notification.NotificationDispatcher;
 import com.efrota.recruitingprocess.utils.EntityDTOConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.assertj.core.api.Assertions;
 import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
@@ -38,11 +65,25 @@ public class JobApplicationControllerIntegrationTest {
 	private JobOfferService jobOfferService;
 	@Autowired
 	private ObjectMapper objectMapper;
+	@Autowired
+	private NotificationRepository notificationRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private NotificationDispatcher notificationDispatcher;
 
 	private static final String OFFER_TITLE = "offer title test";
 
 	private static final String API_PATH = "/api/applications/";
 
+	/**
+	 * Milliseconds always in 3 digits: <code>ISO_OFFSET_DATE_TIME</code> drops
+	 * trailing zeros, which <code>@DateTimeFormat(iso = ISO.DATE_TIME)</code>
+	 * misparses as a smaller value.
+	 */
+	private static final DateTimeFormatter ISO_DATE_TIME = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
 	@Test
 	public void givenApplication_whenApply_thenReturnCreated() throws Exception {
 
@@ -70,6 +111,23 @@ public class JobApplicationControllerIntegrationTest {
 		.andExpect(MockMvcResultMatchers.jsonPath("$.resumeText", Matchers.equalTo(resume)));
 	}
 
+	@Test
+	public void givenApplication_whenDeleteThroughDataRest_thenReturnMethodNotAllowed() throws Exception {
+		final String offerTitle = "offer data rest delete";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("dataRestDelete@email.com");
+		int id = jobApplicationService.create(application, offerTitle).getId();
+
+		mvc.perform(MockMvcRequestBuilders.delete("/jobApplications/" + id))
+		.andExpect(MockMvcResultMatchers.status().isMethodNotAllowed());
+
+		Assertions.assertThat(jobOfferService.findByTitle(offerTitle).getApplicationAmount()).isEqualTo(1);
+	}
+
 	@Test(expected = ServiceValidationException.class)
 	public void givenApplicationExistingEmail_whenApply_thenReturnBadRequest() throws Exception {
 
@@ -94,6 +152,32 @@ public class JobApplicationControllerIntegrationTest {
 				.andExpect(MockMvcResultMatchers.status().isBadRequest());
 	}
 
+	@Test
+	public void givenDuplicateEmail_whenApply_thenReturnBadRequestAndKeepAmount() throws Exception {
+
+		final String offerTitle = "offer duplicate insert";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		final String content = String.format("{\"jobOffer\": \"%s\", \"candidateEmail\": \"%s\"}", offerTitle,
+				"duplicate@email.com");
+
+		mvc.perform(MockMvcRequestBuilders.post(API_PATH).accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(MockMvcResultMatchers.status().isCreated());
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.post(API_PATH).accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON).content(content))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andReturn();
+
+		Assertions.assertThat(result.getResolvedException()).isInstanceOf(ServiceValidationException.class)
+				.hasMessage("Email duplicate@email.com already exist for the offer offer duplicate insert.");
+		Assertions.assertThat(jobApplicationService.findByJobOfferTitle(offerTitle)).hasSize(1);
+		Assertions.assertThat(jobOfferService.findByTitle(offerTitle).getApplicationAmount()).isEqualTo(1);
+	}
+
 	@Test
 	public void givenApplicationToInvite_whenUpdate_thenChangeStatusInvited() throws Exception {
 
@@ -354,6 +438,222 @@ public class JobApplicationControllerIntegrationTest {
 				.andExpect(MockMvcResultMatchers.status().isBadRequest());
 	}
 
+	@Test
+	public void givenApplicationBatch_whenApplyBatch_thenCreateOnlyNewApplications() throws Exception {
+
+		final String offerTitle = "offer batch";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("existing@email.com");
+		jobApplicationService.create(application, offerTitle);
+
+		final String content = String.format("{\"applications\": ["
+				+ "{\"jobOffer\": \"%1$s\", \"candidateEmail\": \"first@email.com\", \"resumeText\": \"resume\"}, "
+				+ "{\"jobOffer\": \"%1$s\", \"candidateEmail\": \"existing@email.com\"}, "
+				+ "{\"jobOffer\": \"%1$s\", \"candidateEmail\": \"first@email.com\"}, "
+				+ "{\"jobOffer\": \"unknown batch offer\", \"candidateEmail\": \"first@email.com\"}, "
+				+ "{\"jobOffer\": \"%1$s\", \"candidateEmail\": \"second@email.com\"}]}", offerTitle);
+
+		mvc.perform(MockMvcRequestBuilders.post(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].result", Matchers.contains(
+				JobApplicationBatchResultEnum.CREATED.name(), JobApplicationBatchResultEnum.DUPLICATE.name(),
+				JobApplicationBatchResultEnum.DUPLICATE.name(), JobApplicationBatchResultEnum.UNKNOWN_OFFER.name(),
+				JobApplicationBatchResultEnum.CREATED.name())));
+
+		Assertions.assertThat(jobApplicationService.findByJobOfferTitle(offerTitle)).hasSize(3);
+		Assertions.assertThat(jobOfferService.findByTitle(offerTitle).getApplicationAmount()).isEqualTo(3);
+
+		JobApplication created = jobApplicationService.findByJobOfferTitleCandidateEmail(offerTitle,
+				"first@email.com");
+		Assertions.assertThat(created).isNotNull();
+		Assertions.assertThat(created.getResumeText()).isEqualTo("resume");
+		Assertions.assertThat(created.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.APPLIED);
+	}
+
+	@Test
+	public void givenApplications_whenCountJobApplicationByJobOffer_thenReturnCountPerStatus() throws Exception {
+
+		final String offerTitle = "offer status count";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		jobOfferService.create(offer);
+
+		for (String email : new String[] { "first@email.com", "second@email.com", "third@email.com" }) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "first@email.com");
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/statuses/" + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.APPLIED", Matchers.equalTo(2)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.INVITED", Matchers.equalTo(1)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.REJECTED", Matchers.equalTo(0)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.HIRED", Matchers.equalTo(0)));
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/statuses/")
+				.param("size", String.valueOf(PaginationConstants.MAX_PAGE_SIZE))
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[?(@.jobOffer == '" + offerTitle + "')].statuses.APPLIED",
+				Matchers.contains(2)));
+	}
+
+	@Test
+	public void givenStatusChange_whenDispatch_thenSendQueuedNotification() throws Exception {
+
+		final String offerTitle = "offer notification";
+		final String email = "notified@email.com";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail(email);
+		jobApplicationService.create(application, offerTitle);
+
+		final String content = String.format("{\"jobOffer\": \"%s\", \"candidateEmail\": \"%s\", \"status\": \"%s\"}",
+				offerTitle, email, JobApplicationStatusEnum.INVITED);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+		.andExpect(MockMvcResultMatchers.status().isOk());
+
+		List<Notification> notifications = notificationRepository.findByCandidateEmail(email);
+		Assertions.assertThat(notifications).hasSize(1);
+		Assertions.assertThat(notifications.get(0).getNotificationStatusEnum()).isEqualTo(NotificationStatusEnum.PENDING);
+		Assertions.assertThat(notifications.get(0).getJobApplicationStatusEnum())
+				.isEqualTo(JobApplicationStatusEnum.INVITED);
+
+		Assertions.assertThat(notificationDispatcher.dispatch()).isGreaterThanOrEqualTo(1);
+
+		notifications = notificationRepository.findByCandidateEmail(email);
+		Assertions.assertThat(notifications.get(0).getNotificationStatusEnum()).isEqualTo(NotificationStatusEnum.SENT);
+		Assertions.assertThat(notifications.get(0).getSentAt()).isNotNull();
+	}
+
+	@Test
+	public void givenApplications_whenUpdateCandidatesStatus_thenUpdateOnlyAllowedTransitions() throws Exception {
+
+		final String offerTitle = "offer bulk transition";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		jobOfferService.create(offer);
+
+		for (String email : new String[] { "applied@email.com", "invited@email.com", "hired@email.com" }) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "invited@email.com");
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "hired@email.com");
+		jobApplicationService.update(JobApplicationStatusEnum.HIRED, offerTitle, "hired@email.com");
+
+		final String content = String.format("{\"jobOffer\": \"%s\", \"status\": \"%s\", \"candidateEmails\": "
+				+ "[\"applied@email.com\", \"invited@email.com\", \"hired@email.com\", \"unknown@email.com\"]}",
+				offerTitle, JobApplicationStatusEnum.REJECTED);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(content))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].result", Matchers.contains(
+				JobApplicationTransitionResultEnum.UPDATED.name(), JobApplicationTransitionResultEnum.UPDATED.name(),
+				JobApplicationTransitionResultEnum.INVALID_TRANSITION.name(),
+				JobApplicationTransitionResultEnum.NOT_FOUND.name())));
+
+		Assertions.assertThat(jobApplicationService.findByJobOfferTitleCandidateEmail(offerTitle, "applied@email.com")
+				.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.REJECTED);
+		Assertions.assertThat(jobApplicationService.findByJobOfferTitleCandidateEmail(offerTitle, "invited@email.com")
+				.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.REJECTED);
+		Assertions.assertThat(jobApplicationService.findByJobOfferTitleCandidateEmail(offerTitle, "hired@email.com")
+				.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.HIRED);
+	}
+
+	@Test
+	public void givenConcurrentBatches_whenUpdateAllToSameStatus_thenRecordEachTransitionOnce() throws Exception {
+
+		final String offerTitle = "offer concurrent bulk transition";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		List<String> emails = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			String email = String.format("concurrent%d@email.com", i);
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+			emails.add(email);
+		}
+
+		// half of them change status in between, so the batches see different previous statuses
+		for (String email : emails.subList(0, 10)) {
+			jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, email);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Map<String, JobApplicationTransitionResultEnum>>> batches = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				batches.add(executor.submit(() -> {
+					start.await();
+					return jobApplicationService.updateAll(JobApplicationStatusEnum.REJECTED, offerTitle, emails);
+				}));
+			}
+			start.countDown();
+
+			Map<String, Integer> updates = new HashMap<>();
+			for (Future<Map<String, JobApplicationTransitionResultEnum>> batch : batches) {
+				batch.get(30, TimeUnit.SECONDS).forEach((email, result) -> {
+					if (result == JobApplicationTransitionResultEnum.UPDATED) {
+						updates.merge(email, 1, Integer::sum);
+					} else {
+						Assertions.assertThat(result).isEqualTo(JobApplicationTransitionResultEnum.INVALID_TRANSITION);
+					}
+				});
+			}
+			Assertions.assertThat(updates).hasSize(emails.size()).containsOnlyKeys(emails.toArray(new String[0]));
+			Assertions.assertThat(updates.values()).containsOnly(1);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (String email : emails) {
+			Assertions.assertThat(jobApplicationService.findStatusHistory(offerTitle, email, new Date(0), new Date()))
+					.filteredOn(history -> history.getToStatus() == JobApplicationStatusEnum.REJECTED)
+					.hasSize(1);
+			Assertions.assertThat(notificationRepository.findByCandidateEmail(email))
+					.filteredOn(notification -> notification
+							.getJobApplicationStatusEnum() == JobApplicationStatusEnum.REJECTED)
+					.hasSize(1);
+		}
+
+		Assertions.assertThat(jobOfferService.findSummaryByTitle(offerTitle).getApplicationsPerStatus())
+				.containsEntry(JobApplicationStatusEnum.APPLIED, 0L)
+				.containsEntry(JobApplicationStatusEnum.INVITED, 0L)
+				.containsEntry(JobApplicationStatusEnum.REJECTED, (long) emails.size());
+	}
+
 	@Test
 	public void givenApplication_whenFindJobApplicationByJobOfferAndCandidateEmail_thenReturnOk() throws Exception {
 
@@ -410,6 +710,50 @@ public class JobApplicationControllerIntegrationTest {
 				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)));
 	}
 
+	@Test
+	public void givenApplications_whenFindAllJobApplicationByJobOfferPagedByStatus_thenReturnFilteredPages()
+			throws Exception {
+
+		final String offerTitle = "offer find paged by status";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		jobOfferService.create(offer);
+
+		for (String email : new String[] { "a@email.com", "b@email.com", "c@email.com" }) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "c@email.com");
+
+		MvcResult firstPage = mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("status", JobApplicationStatusEnum.APPLIED.name())
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("a@email.com")))
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("status", JobApplicationStatusEnum.APPLIED.name())
+				.param("size", "1")
+				.param("cursor", firstPage.getResponse().getHeader(PaginationConstants.NEXT_CURSOR_HEADER))
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("b@email.com")));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("status", JobApplicationStatusEnum.INVITED.name())
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("c@email.com")));
+	}
+
 	@Test
 	public void givenApplication_whenFindAllJobApplicationByJobOffer_thenReturnNoContent() throws Exception {
 
@@ -417,4 +761,251 @@ public class JobApplicationControllerIntegrationTest {
 				.andExpect(MockMvcResultMatchers.status().isNoContent());
 	}
 
+	@Test
+	public void givenApplications_whenExport_thenStreamOneLinePerApplication() throws Exception {
+
+		final String offerTitle = "offer export";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		for (String email : new String[] { "a@email.com", "b@email.com", "c@email.com" }) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			application.setResumeText("my resume");
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle + "/export"))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		String content = mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().contentType("application/x-ndjson"))
+				.andReturn().getResponse().getContentAsString();
+
+		String[] lines = content.split("\n");
+		Assertions.assertThat(lines).hasSize(3);
+		Assertions.assertThat(objectMapper.readValue(lines[0], JobApplicationDTO.class).getCandidateEmail())
+				.isEqualTo("a@email.com");
+		Assertions.assertThat(objectMapper.readValue(lines[2], JobApplicationDTO.class).getJobOffer())
+				.isEqualTo(offerTitle);
+	}
+
+	@Test
+	public void givenUnknownOffer_whenExport_thenReturnNotFound() throws Exception {
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "unknown export offer/export"))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	@Test
+	public void givenCandidateInManyOffers_whenFindAllJobApplicationByCandidateEmail_thenReturnPages()
+			throws Exception {
+
+		final String email = "repeat@email.com";
+		for (String offerTitle : new String[] { "offer repeat 1", "offer repeat 2" }) {
+			JobOffer offer = new JobOffer();
+			offer.setTitle(offerTitle);
+			jobOfferService.create(offer);
+
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		MvcResult firstPage = mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("candidateEmail", email)
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].jobOffer", Matchers.equalTo("offer repeat 1")))
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("candidateEmail", email)
+				.param("size", "1")
+				.param("cursor", firstPage.getResponse().getHeader(PaginationConstants.NEXT_CURSOR_HEADER))
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].jobOffer", Matchers.equalTo("offer repeat 2")));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("candidateEmail", "nobody@email.com")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNoContent());
+	}
+
+	@Test
+	public void givenResumeOmitted_whenFindAllJobApplicationByJobOffer_thenLoadNoEntityAndReadResumeApart()
+			throws Exception {
+
+		final String offerTitle = "offer projection";
+		final String email = "projection@email.com";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail(email);
+		application.setResumeText("projection resume");
+		jobApplicationService.create(application, offerTitle);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long entityLoads = statistics.getEntityLoadCount();
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("resume", "false")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].jobOffer", Matchers.equalTo(offerTitle)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo(email)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].status", Matchers.equalTo("APPLIED")))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].resumeText", Matchers.nullValue()));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("candidateEmail", email)
+				.param("resume", "false")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].resumeText", Matchers.nullValue()));
+
+		Assertions.assertThat(statistics.getEntityLoadCount()).isEqualTo(entityLoads);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle + "/" + email)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.resumeText", Matchers.equalTo("projection resume")));
+	}
+
+	@Test
+	public void givenETag_whenFindAllJobApplicationByJobOffer_thenNotModifiedUntilApplicationsChange() throws Exception {
+
+		final String offerTitle = "offer etag";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("etag@email.com");
+		jobApplicationService.create(application, offerTitle);
+
+		String etag = mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotModified());
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "etag@email.com");
+
+		String changedEtag = mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].status",
+						Matchers.equalTo(JobApplicationStatusEnum.INVITED.name())))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		Assertions.assertThat(changedEtag).isNotEqualTo(etag);
+	}
+
+	@Test
+	public void givenTransitions_whenFindJobApplicationStatusHistory_thenReturnTimelineAndStatusAsOf()
+			throws Exception {
+
+		final String offerTitle = "offer history";
+		final String email = "history@email.com";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		final String beforeApply = isoDateTime(new Date(System.currentTimeMillis() - 60000));
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail(email);
+		jobApplicationService.create(application, offerTitle);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH)
+				.header(JobApplicationStatusHistoryConstants.ACTOR_HEADER, "recruiter@company.com")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(String.format("{\"jobOffer\": \"%s\", \"candidateEmail\": \"%s\", \"status\": \"%s\"}",
+						offerTitle, email, JobApplicationStatusEnum.INVITED)))
+		.andExpect(MockMvcResultMatchers.status().isOk());
+
+		Thread.sleep(10);
+		final String afterInvite = isoDateTime(new Date());
+		Thread.sleep(10);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(String.format("{\"jobOffer\": \"%s\", \"status\": \"%s\", \"candidateEmails\": [\"%s\"]}",
+						offerTitle, JobApplicationStatusEnum.REJECTED, email)))
+		.andExpect(MockMvcResultMatchers.status().isOk());
+
+		final String historyPath = API_PATH + offerTitle + "/" + email + "/history";
+
+		mvc.perform(MockMvcRequestBuilders.get(historyPath)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].fromStatus", Matchers.contains(null,
+				JobApplicationStatusEnum.APPLIED.name(), JobApplicationStatusEnum.INVITED.name())))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].toStatus", Matchers.contains(
+				JobApplicationStatusEnum.APPLIED.name(), JobApplicationStatusEnum.INVITED.name(),
+				JobApplicationStatusEnum.REJECTED.name())))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].actor", Matchers.contains(email, "recruiter@company.com",
+				JobApplicationStatusHistoryConstants.DEFAULT_ACTOR)));
+
+		mvc.perform(MockMvcRequestBuilders.get(historyPath)
+				.param("from", afterInvite)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].toStatus",
+				Matchers.contains(JobApplicationStatusEnum.REJECTED.name())));
+
+		mvc.perform(MockMvcRequestBuilders.get(historyPath)
+				.param("asOf", afterInvite)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.toStatus",
+				Matchers.equalTo(JobApplicationStatusEnum.INVITED.name())));
+
+		mvc.perform(MockMvcRequestBuilders.get(historyPath)
+				.param("asOf", beforeApply)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isNoContent());
+
+		mvc.perform(MockMvcRequestBuilders.get(historyPath)
+				.param("from", afterInvite)
+				.param("to", beforeApply)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle + "/unknown@email.com/history")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	private static String isoDateTime(Date date) {
+		return ISO_DATE_TIME.format(date.toInstant().atOffset(ZoneOffset.UTC));
+	}
+
 }
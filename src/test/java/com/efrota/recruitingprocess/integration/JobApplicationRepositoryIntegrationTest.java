@@ -1,8 +1,10 @@
 package com.efrota.recruitingprocess.integration;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import javax.persistence.PersistenceException;
+import jakarta.persistence.PersistenceException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
@@ -12,17 +14,22 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.efrota.recruitingprocess.config.SecondLevelCacheConfiguration;
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
 import com.efrota.recruitingprocess.model.JobOffer;
 import com.efrota.recruitingprocess.model.constants.JobApplicationConstants;
 import com.efrota.recruitingprocess.repository.JobApplicationRepository;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
+@Import(SecondLevelCacheConfiguration.class)
 @TestPropertySource(locations = "classpath:application-integration.properties")
 public class JobApplicationRepositoryIntegrationTest {
 
@@ -70,6 +77,97 @@ public class JobApplicationRepositoryIntegrationTest {
 	}
 	
 	
+	@Test
+	public void givenCandidateEmailInManyOffers_whenFindByCandidateEmail_thenReturnOrderedPages() {
+		JobOffer otherOffer = new JobOffer();
+		otherOffer.setTitle("other offer test");
+		entityManager.persist(otherOffer);
+
+		JobApplication application = new JobApplication();
+		application.setJobOffer(otherOffer);
+		application.setCandidateEmail(CANDIDATE_EMAIL);
+		application.setJobApplicationStatusEnum(JobApplicationStatusEnum.APPLIED);
+		entityManager.persistAndFlush(application);
+
+		List<JobApplicationProjection> firstPage = repository.findProjectionsByCandidateEmail(CANDIDATE_EMAIL, false,
+				0, 1);
+		Assertions.assertThat(firstPage).extracting(JobApplicationProjection::getJobOfferTitle)
+				.containsExactly(OFFER_TITLE);
+
+		List<JobApplicationProjection> secondPage = repository.findProjectionsByCandidateEmail(CANDIDATE_EMAIL,
+				false, firstPage.get(0).getId(), 10);
+		Assertions.assertThat(secondPage).extracting(JobApplicationProjection::getJobOfferTitle)
+				.containsExactly("other offer test");
+
+		Assertions.assertThat(repository.findProjectionsByCandidateEmail("nobody@email.com", false, 0, 10))
+				.isEmpty();
+	}
+
+	@Test
+	public void givenExistingJobOfferTitle_whenFindByJobOfferTitlePaged_thenReturnOrderedPages() {
+		List<JobApplicationProjection> firstPage = repository.findProjectionsByJobOfferTitle(OFFER_TITLE, null,
+				true, 0, 1);
+		Assertions.assertThat(firstPage).hasSize(1);
+
+		List<JobApplicationProjection> secondPage = repository.findProjectionsByJobOfferTitle(OFFER_TITLE, null,
+				true, firstPage.get(0).getId(), 1);
+		Assertions.assertThat(secondPage).hasSize(1);
+		Assertions.assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(0).getId());
+
+		List<JobApplicationProjection> lastPage = repository.findProjectionsByJobOfferTitle(OFFER_TITLE, null,
+				true, secondPage.get(0).getId(), 1);
+		Assertions.assertThat(lastPage).isEmpty();
+	}
+
+	@Test
+	public void givenExistingJobOfferTitle_whenFindByJobOfferTitleAndStatus_thenReturnFiltered() {
+		JobApplication invited = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		invited.setJobApplicationStatusEnum(JobApplicationStatusEnum.INVITED);
+		entityManager.persistAndFlush(invited);
+
+		List<JobApplicationProjection> founds = repository.findProjectionsByJobOfferTitle(OFFER_TITLE,
+				JobApplicationStatusEnum.INVITED, false, 0, 10);
+		Assertions.assertThat(founds).hasSize(1);
+		Assertions.assertThat(founds.get(0).getCandidateEmail()).isEqualTo(CANDIDATE_EMAIL);
+		Assertions.assertThat(founds.get(0).getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.INVITED);
+
+		founds = repository.findProjectionsByJobOfferTitle(OFFER_TITLE, JobApplicationStatusEnum.HIRED, false, 0, 10);
+		Assertions.assertThat(founds).isEmpty();
+	}
+
+	@Test
+	public void givenResume_whenFindProjectionsByJobOfferTitle_thenReadResumeOnlyWhenRequested() {
+		JobApplication application = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		application.setResumeText("projected resume");
+		entityManager.persistAndFlush(application);
+		entityManager.clear();
+
+		Assertions.assertThat(repository.findProjectionsByJobOfferTitle(OFFER_TITLE, null, true, 0, 10))
+				.extracting(JobApplicationProjection::getResumeText).contains("projected resume");
+		Assertions.assertThat(repository.findProjectionsByJobOfferTitle(OFFER_TITLE, null, false, 0, 10))
+				.extracting(JobApplicationProjection::getResumeText).containsOnlyNulls();
+	}
+
+	@Test
+	public void givenExistingJobOfferTitle_whenForEachByJobOfferTitle_thenVisitOrderedAndDetached() {
+		entityManager.clear();
+
+		List<JobApplication> visited = new ArrayList<>();
+		repository.forEachByJobOfferTitle(OFFER_TITLE, visited::add);
+
+		Assertions.assertThat(visited).extracting(JobApplication::getCandidateEmail)
+				.containsExactly(CANDIDATE_EMAIL, "another@email.com");
+		Assertions.assertThat(visited).allMatch(found -> !entityManager.getEntityManager().contains(found));
+		Assertions.assertThat(visited.get(0).getJobOffer().getTitle()).isEqualTo(OFFER_TITLE);
+	}
+
+	@Test
+	public void givenNonExistingJobOfferTitle_whenForEachByJobOfferTitle_thenVisitNothing() {
+		List<JobApplication> visited = new ArrayList<>();
+		repository.forEachByJobOfferTitle("non-existing offer", visited::add);
+		Assertions.assertThat(visited).isEmpty();
+	}
+
 	@Test
 	public void givenExistingJobOfferTitleAndCandidateEmail_whenFindByJobOfferTitleAndCandidateEmail_thenReturnJobApplication() {
 		JobApplication found = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
@@ -96,6 +194,52 @@ public class JobApplicationRepositoryIntegrationTest {
 		Assertions.assertThat(found).isNull();
 	}
 	
+	@Test
+	public void givenJobApplications_whenCountByJobOfferIdAndStatus_thenReturnCountPerStatus() {
+		JobApplication application = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		final int jobOfferId = application.getJobOffer().getId();
+
+		application.setJobApplicationStatusEnum(JobApplicationStatusEnum.INVITED);
+		entityManager.persistAndFlush(application);
+
+		List<Object[]> counts = repository.countByJobOfferIdAndStatus(Collections.singletonList(jobOfferId));
+
+		Assertions.assertThat(counts).hasSize(2);
+		Assertions.assertThat(counts).anySatisfy(row -> Assertions.assertThat(row)
+				.containsExactly(jobOfferId, JobApplicationStatusEnum.APPLIED, 1L));
+		Assertions.assertThat(counts).anySatisfy(row -> Assertions.assertThat(row)
+				.containsExactly(jobOfferId, JobApplicationStatusEnum.INVITED, 1L));
+	}
+
+	@Test(expected = ObjectOptimisticLockingFailureException.class)
+	public void givenStaleJobApplication_whenSave_thenThrowObjectOptimisticLockingFailureException() {
+		JobApplication current = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		entityManager.detach(current);
+
+		JobApplication stale = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		entityManager.detach(stale);
+
+		current.setJobApplicationStatusEnum(JobApplicationStatusEnum.INVITED);
+		repository.saveAndFlush(current);
+
+		stale.setJobApplicationStatusEnum(JobApplicationStatusEnum.REJECTED);
+		repository.saveAndFlush(stale);
+	}
+
+	@Test
+	public void givenJobApplications_whenUpdateStatus_thenIncrementVersion() {
+		JobApplication application = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		final long version = application.getVersion();
+
+		int updated = repository.updateStatus(JobApplicationStatusEnum.INVITED, application.getJobOffer().getId(),
+				Collections.singletonList(CANDIDATE_EMAIL), JobApplicationStatusEnum.APPLIED);
+		Assertions.assertThat(updated).isEqualTo(1);
+
+		application = repository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, CANDIDATE_EMAIL);
+		Assertions.assertThat(application.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.INVITED);
+		Assertions.assertThat(application.getVersion()).isEqualTo(version + 1);
+	}
+
 	@Test(expected = PersistenceException.class)
 	public void givenJobApplicationSameJobOfferAndEmail_whenCreate_thenThrowPersistenceException() {
 		final String offerTitle = "same offer";
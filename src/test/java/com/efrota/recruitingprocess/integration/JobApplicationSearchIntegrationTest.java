@@ -0,0 +1,122 @@
+package com.efrota.recruitingprocess.integration;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.search.JobApplicationSearchService;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-integration.properties")
+public class JobApplicationSearchIntegrationTest {
+
+	@Autowired
+	private MockMvc mvc;
+	@Autowired
+	private JobApplicationService jobApplicationService;
+	@Autowired
+	private JobOfferService jobOfferService;
+	@Autowired
+	private JobApplicationSearchService jobApplicationSearchService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final String API_PATH = "/api/search/applications";
+
+	@Test
+	public void givenCreatedApplications_whenSearch_thenReturnRankedMatches() throws Exception {
+
+		final String offerTitle = "offer search";
+		createOffer(offerTitle);
+		apply(offerTitle, "kotlin@email.com", "Kotlin and Quarkus developer.");
+		apply(offerTitle, "quarkus@email.com", "Quarkus, Quarkus everywhere, some Kotlin.");
+		apply(offerTitle, "cobol@email.com", "Cobol mainframe.");
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("keywords", "quarkus")
+				.param("offerTitle", offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("quarkus@email.com")))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].jobOffer", Matchers.equalTo(offerTitle)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].status",
+						Matchers.equalTo(JobApplicationStatusEnum.APPLIED.name())));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("phrase", "kotlin and quarkus")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("kotlin@email.com")));
+	}
+
+	@Test
+	public void givenApplicationsInsertedOutsideTheService_whenRebuildIndex_thenSearchFindsThem() throws Exception {
+
+		final String offerTitle = "offer search rebuild";
+		JobOffer offer = createOffer(offerTitle);
+
+		jdbcTemplate.update("insert into application (id, job_offer_id, candidate_email, resume_text, status, version) "
+				+ "values (next value for application_sequence, ?, ?, ?, ?, 0)", offer.getId(), "elixir@email.com",
+				"Elixir and Erlang.", JobApplicationStatusEnum.APPLIED.name());
+
+		Assertions.assertThat(jobApplicationSearchService.search("erlang", null, offerTitle, null)).isEmpty();
+		Assertions.assertThat(jobApplicationSearchService.rebuildIndex()).isGreaterThan(0);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("keywords", "erlang")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("elixir@email.com")));
+	}
+
+	@Test
+	public void givenUnknownOffer_whenSearch_thenReturnNotFound() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("keywords", "java")
+				.param("offerTitle", "unknown offer search")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	@Test
+	public void givenNoKeywordsNorPhrase_whenSearch_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH).contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	private JobOffer createOffer(String title) {
+		JobOffer offer = new JobOffer();
+		offer.setTitle(title);
+		return jobOfferService.create(offer);
+	}
+
+	private void apply(String offerTitle, String email, String resume) {
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail(email);
+		application.setResumeText(resume);
+		jobApplicationService.create(application, offerTitle);
+	}
+}
@@ -1,8 +1,16 @@
 package com.efrota.recruitingprocess.integration;
 
+import java.util.Arrays;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
 import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
 
+import org.assertj.core.api.Assertions;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -13,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
@@ -28,6 +37,9 @@ public class JobOfferControllerIntegrationTest {
 	@Autowired
 	private JobOfferService service;
 
+	@Autowired
+	private JobApplicationService jobApplicationService;
+
 	@Test
 	public void givenOffer_whenCreate_thenReturnCreated() throws Exception {
 		String offerTitle = "some offer title";
@@ -68,6 +80,80 @@ public class JobOfferControllerIntegrationTest {
 		.andExpect(MockMvcResultMatchers.jsonPath("$.jobTitle", Matchers.equalTo(OFFER_TITLE)));
 	}
 
+	@Test
+	public void givenCachedOffer_whenApply_thenReturnFreshApplicationAmount() throws Exception {
+		final String offerTitle = "cached offer";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+
+		service.create(offer);
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/offers/" + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.numberApplication", Matchers.equalTo(0)));
+
+		// every application removes the offer from the cache once committed
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("cached@email.com");
+		jobApplicationService.create(application, offerTitle);
+
+		application = new JobApplication();
+		application.setCandidateEmail("cached2@email.com");
+		jobApplicationService.create(application, offerTitle);
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/offers/" + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.numberApplication", Matchers.equalTo(2)));
+
+		// reloaded once, then read from the cache
+		Assertions.assertThat(service.findByTitle(offerTitle).getApplicationAmount()).isEqualTo(2);
+		Assertions.assertThat(service.findByTitle(offerTitle).getApplicationAmount()).isEqualTo(2);
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/caches/offers")
+				.accept(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.hitCount", Matchers.greaterThan(0)));
+	}
+
+	@Test
+	public void givenTransitions_whenFindSingleJobOffer_thenReturnSummary() throws Exception {
+		final String offerTitle = "summarized offer";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		service.create(offer);
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/offers/" + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.numberApplication", Matchers.equalTo(0)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.lastActivity", Matchers.nullValue()));
+
+		for (String email : Arrays.asList("summary1@email.com", "summary2@email.com", "summary3@email.com")) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(email);
+			jobApplicationService.create(application, offerTitle);
+		}
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "summary1@email.com");
+		jobApplicationService.updateAll(JobApplicationStatusEnum.REJECTED, offerTitle,
+				Arrays.asList("summary2@email.com", "summary3@email.com"));
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/offers/" + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.numberApplication", Matchers.equalTo(3)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.applicationsPerStatus.APPLIED", Matchers.equalTo(0)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.applicationsPerStatus.INVITED", Matchers.equalTo(1)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.applicationsPerStatus.REJECTED", Matchers.equalTo(2)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.lastActivity", Matchers.notNullValue()));
+
+		// a rebuild from the database yields the same summary
+		JobOfferSummary incremental = service.findSummaryByTitle(offerTitle);
+		service.rebuildSummaries();
+
+		Assertions.assertThat(service.findSummaryByTitle(offerTitle)).isEqualTo(incremental);
+	}
+
 	@Test
 	public void givenOffer_whenFindSingleJobOffer_thenNotFound() throws Exception {
 
@@ -92,4 +178,33 @@ public class JobOfferControllerIntegrationTest {
 		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(service.findAll().size())));
 	}
 
+	@Test
+	public void givenOffers_whenFindAllJobOffersPaged_thenFollowNextCursor() throws Exception {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("paged offer 1");
+		service.create(offer);
+
+		offer = new JobOffer();
+		offer.setTitle("paged offer 2");
+		service.create(offer);
+
+		int total = service.findAll().size();
+		int read = 0;
+		String cursor = null;
+
+		do {
+			MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/api/offers/")
+					.param("size", "1")
+					.param("cursor", cursor == null ? "" : cursor)
+					.contentType(MediaType.APPLICATION_JSON))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andReturn();
+
+			read += result.getResponse().getContentAsString().equals("[]") ? 0 : 1;
+			cursor = result.getResponse().getHeader(PaginationConstants.NEXT_CURSOR_HEADER);
+		} while (cursor != null);
+
+		Assertions.assertThat(read).isEqualTo(total);
+	}
+
 }
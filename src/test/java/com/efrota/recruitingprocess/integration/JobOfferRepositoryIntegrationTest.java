@@ -1,6 +1,8 @@
 package com.efrota.recruitingprocess.integration;
 
-import javax.persistence.PersistenceException;
+import java.util.List;
+
+import jakarta.persistence.PersistenceException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
@@ -11,15 +13,23 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.efrota.recruitingprocess.config.SecondLevelCacheConfiguration;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
 import com.efrota.recruitingprocess.model.JobOffer;
 import com.efrota.recruitingprocess.model.constants.JobOfferConstants;
 import com.efrota.recruitingprocess.repository.JobOfferRepository;
+import com.efrota.recruitingprocess.utils.ConstraintViolationUtils;
 
 @RunWith(SpringRunner.class)
 @DataJpaTest
+@Import(SecondLevelCacheConfiguration.class)
 @TestPropertySource(locations = "classpath:application-integration.properties")
 public class JobOfferRepositoryIntegrationTest {
 
@@ -51,6 +61,54 @@ public class JobOfferRepositoryIntegrationTest {
 		Assertions.assertThat(found).isNull();
 	}
 
+	@Test
+	public void givenExistingJobOffers_whenFindAllFetchApplicationAmountPaged_thenReturnNextPage() {
+		JobOffer second = new JobOffer();
+		second.setTitle("second offer test");
+		entityManager.persistAndFlush(second);
+
+		List<JobOffer> firstPage = repository.findAllFetchApplicationAmount(0, PageRequest.of(0, 1));
+		Assertions.assertThat(firstPage).hasSize(1);
+
+		List<JobOffer> secondPage = repository.findAllFetchApplicationAmount(firstPage.get(0).getId(),
+				PageRequest.of(0, 1));
+		Assertions.assertThat(secondPage).hasSize(1);
+		Assertions.assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(0).getId());
+
+		List<JobOffer> lastPage = repository.findAllFetchApplicationAmount(second.getId(), PageRequest.of(0, 1));
+		Assertions.assertThat(lastPage).isEmpty();
+	}
+
+	@Test
+	public void givenExistingJobOffer_whenIncrementApplicationAmount_thenUpdateAmount() {
+		JobOffer offer = repository.findByTitle(EXISTING_OFFER_TITLE);
+
+		Assertions.assertThat(repository.incrementApplicationAmount(offer.getId(), 2)).isEqualTo(1);
+		Assertions.assertThat(repository.incrementApplicationAmount(offer.getId(), -1)).isEqualTo(1);
+
+		entityManager.clear();
+		Assertions.assertThat(repository.findByTitle(EXISTING_OFFER_TITLE).getApplicationAmount()).isEqualTo(1);
+	}
+
+	@Test
+	public void givenDriftedApplicationAmount_whenReconcileApplicationAmount_thenRepairAmount() {
+		JobOffer offer = repository.findByTitle(EXISTING_OFFER_TITLE);
+
+		JobApplication application = new JobApplication();
+		application.setJobOffer(offer);
+		application.setCandidateEmail("email@email.com");
+		application.setJobApplicationStatusEnum(JobApplicationStatusEnum.APPLIED);
+		entityManager.persist(application);
+
+		repository.incrementApplicationAmount(offer.getId(), 5);
+
+		Assertions.assertThat(repository.reconcileApplicationAmount()).isEqualTo(1);
+		Assertions.assertThat(repository.findByTitle(EXISTING_OFFER_TITLE).getApplicationAmount()).isEqualTo(1);
+
+		// nothing left to repair
+		Assertions.assertThat(repository.reconcileApplicationAmount()).isEqualTo(0);
+	}
+
 	@Test(expected = PersistenceException.class)
 	public void givenJobOfferMissingTitle_whenCreate_thenThrowPersistenceException() {
 		JobOffer offer = new JobOffer();
@@ -67,6 +125,16 @@ public class JobOfferRepositoryIntegrationTest {
 		entityManager.persistAndFlush(offer);
 	}
 
+	@Test
+	public void givenJobOfferNonUniqueTitle_whenSaveAndFlush_thenViolateUniqueTitle() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle(EXISTING_OFFER_TITLE);
+
+		Assertions.assertThatThrownBy(() -> repository.saveAndFlush(offer))
+				.isInstanceOfSatisfying(DataIntegrityViolationException.class, e -> Assertions
+						.assertThat(ConstraintViolationUtils.isViolationOf(e, JobOfferConstants.UNIQUE_TITLE)).isTrue());
+	}
+
 	@Test(expected = PersistenceException.class)
 	public void givenJobOfferLongTitle_whenCreate_thenThrowPersistenceException() {
 		JobOffer offer = new JobOffer();
@@ -0,0 +1,113 @@
+package com.efrota.recruitingprocess.integration;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-integration.properties")
+public class MetricsIntegrationTest {
+
+	@Autowired
+	private MockMvc mvc;
+	@Autowired
+	private JobApplicationService jobApplicationService;
+	@Autowired
+	private JobOfferService jobOfferService;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	public void givenApplyAndTransition_whenScrapePrometheus_thenExposeTimersCountersAndPool() throws Exception {
+
+		final String offerTitle = "offer metrics";
+		JobOffer offer = new JobOffer();
+		offer.setTitle(offerTitle);
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("metrics@email.com");
+		jobApplicationService.create(application, offerTitle);
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, offerTitle, "metrics@email.com");
+
+		mvc.perform(MockMvcRequestBuilders.get("/api/applications/" + offerTitle + "/unknown@email.com")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+
+		mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().string(Matchers.allOf(
+						Matchers.containsString("recruiting_method_seconds_bucket{class=\"JobApplicationController\""),
+						Matchers.containsString("class=\"JobApplicationServiceImpl\""),
+						Matchers.containsString("class=\"JobApplicationRepository\""),
+						Matchers.containsString("class=\"JobOfferRepository\""),
+						Matchers.containsString("le=\"+Inf\""),
+						Matchers.containsString(
+								"recruiting_application_transitions_total{from=\"APPLIED\",to=\"INVITED\"}"),
+						Matchers.containsString("recruiting_application_transitions_total{from=\"NONE\",to=\"APPLIED\"}"),
+						Matchers.containsString("hikaricp_connections_active"))));
+	}
+
+	@Test
+	public void givenUnknownApplication_whenUpdate_thenCountServiceException() throws Exception {
+
+		try {
+			jobApplicationService.update(JobApplicationStatusEnum.INVITED, "unknown offer metrics",
+					"unknown@email.com");
+		} catch (RuntimeException e) {
+			// expected
+		}
+
+		mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(
+						"recruiting_service_exceptions_total{class=\"JobApplicationServiceImpl\",exception=\"NotFoundException\",method=\"update\"}")));
+	}
+
+	@Test
+	public void givenExport_whenBodyIsWritten_thenTimeTheStreaming() throws Exception {
+
+		final long failedExports = exportTimer(NotFoundException.class.getSimpleName()).count();
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/api/applications/unknown offer metrics/export"))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+
+		// the offer is only looked up while the body is written, after the controller method returned
+		Assertions.assertThat(exportTimer(NotFoundException.class.getSimpleName()).count())
+				.isEqualTo(failedExports + 1);
+	}
+
+	private Timer exportTimer(String exception) {
+		return meterRegistry.timer(MetricsConstants.METHOD_TIMER, MetricsConstants.TAG_LAYER, "controller",
+				MetricsConstants.TAG_CLASS, "JobApplicationController", MetricsConstants.TAG_METHOD,
+				"exportJobApplicationByJobOffer", MetricsConstants.TAG_EXCEPTION, exception);
+	}
+}
@@ -0,0 +1,120 @@
+package com.efrota.recruitingprocess.integration;
+
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-integration.properties")
+public class ReactiveReadControllerIntegrationTest {
+
+	@Autowired
+	private MockMvc mvc;
+	@Autowired
+	private JobApplicationService jobApplicationService;
+	@Autowired
+	private JobOfferService jobOfferService;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private static final String API_PATH = "/api/reactive/";
+
+	@Test
+	public void givenOffer_whenFindSingleJobOffer_thenReturnOffer() throws Exception {
+
+		final String offerTitle = "offer reactive single";
+		createOffer(offerTitle);
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "offers/" + offerTitle)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.jobTitle", Matchers.equalTo(offerTitle)));
+	}
+
+	@Test
+	public void givenUnknownOffer_whenFindSingleJobOffer_thenReturnNotFound() throws Exception {
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "offers/unknown reactive offer")
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	@Test
+	public void givenApplications_whenFindAllJobApplicationByJobOffer_thenStreamOneLinePerApplication()
+			throws Exception {
+
+		final String offerTitle = "offer reactive applications";
+		createOffer(offerTitle);
+		for (int i = 0; i < 3; i++) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail(String.format("reactive%d@email.com", i));
+			jobApplicationService.create(application, offerTitle);
+		}
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "applications/" + offerTitle)
+				.accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		// the offer is found first, then the applications are streamed
+		MvcResult streamed = mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andReturn();
+		streamed.getAsyncResult();
+
+		Assertions.assertThat(streamed.getResponse().getContentType())
+				.startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+
+		String[] lines = streamed.getResponse().getContentAsString().trim().split("\\n");
+		Assertions.assertThat(lines).hasSize(3);
+		Assertions.assertThat(objectMapper.readValue(lines[2], JobApplicationDTO.class).getCandidateEmail())
+				.isEqualTo("reactive2@email.com");
+	}
+
+	@Test
+	public void givenUnknownOffer_whenFindAllJobApplicationByJobOffer_thenReturnNotFound() throws Exception {
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "applications/unknown reactive offer")
+				.accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	private void createOffer(String title) {
+		JobOffer offer = new JobOffer();
+		offer.setTitle(title);
+		jobOfferService.create(offer);
+	}
+}
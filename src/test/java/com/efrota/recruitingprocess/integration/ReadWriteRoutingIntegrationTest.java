@@ -0,0 +1,224 @@
+package com.efrota.recruitingprocess.integration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.efrota.recruitingprocess.config.ReplicaLagGuard;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferCache;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The replica of the integration profile is a second pool on the same H2
+ * database, whose connections set the session variable <code>@ROUTE</code>.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-integration.properties")
+public class ReadWriteRoutingIntegrationTest {
+
+	private static final String ROUTE_QUERY = "select @ROUTE";
+	private static final String CONNECTION_USAGE_TIMER = "hikaricp.connections.usage";
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReplicaLagGuard replicaLagGuard;
+
+	@Autowired
+	private JobOfferService jobOfferService;
+
+	@Autowired
+	private JobApplicationService jobApplicationService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JobOfferCache jobOfferCache;
+
+	private TransactionTemplate readOnly;
+	private TransactionTemplate readWrite;
+
+	@Before
+	public void setUp() {
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+		replicaLagGuard.restore(null);
+	}
+
+	@After
+	public void tearDown() {
+		replicaLagGuard.restore(null);
+	}
+
+	@Test
+	public void givenReadOnlyTransaction_whenQuery_thenRouteToReplica() {
+		String route = readOnly.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+
+		Assertions.assertThat(route).isEqualTo("replica");
+	}
+
+	@Test
+	public void givenReadWriteTransaction_whenQuery_thenRouteToPrimary() {
+		String route = readWrite.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+
+		Assertions.assertThat(route).isNull();
+		Assertions.assertThat(replicaLagGuard.getPendingWrite()).isNotNull();
+	}
+
+	@Test
+	public void givenRecentWrite_whenReadOnlyTransaction_thenRouteToPrimary() {
+		readWrite.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+
+		String route = readOnly.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+
+		Assertions.assertThat(route).isNull();
+	}
+
+	@Test
+	public void givenOldWrite_whenReadOnlyTransaction_thenRouteToReplica() {
+		replicaLagGuard.restore(System.currentTimeMillis() - replicaLagGuard.getMaxLagMillis());
+
+		String route = readOnly.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+
+		Assertions.assertThat(route).isEqualTo("replica");
+	}
+
+	@Test
+	public void givenPrimaryRead_whenReadOnlyTransaction_thenRouteToPrimary() {
+		replicaLagGuard.beginPrimaryRead();
+		String route;
+		try {
+			route = readOnly.execute(status -> jdbcTemplate.queryForObject(ROUTE_QUERY, String.class));
+		} finally {
+			replicaLagGuard.endPrimaryRead();
+		}
+
+		Assertions.assertThat(route).isNull();
+		Assertions.assertThat(replicaLagGuard.canReadReplica()).isTrue();
+	}
+
+	@Test
+	public void givenTaggedOrModelReads_whenFind_thenReadPrimary() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("routed tagged offer");
+		jobOfferService.create(offer);
+		replicaLagGuard.restore(null);
+
+		long primary = connectionUsages("primary");
+		long replica = connectionUsages("replica");
+
+		jobApplicationService.findByJobOfferTitle("routed tagged offer", null, false, 0, 10);
+		jobOfferService.rebuildSummaries();
+
+		Assertions.assertThat(connectionUsages("primary")).isEqualTo(primary + 2);
+		Assertions.assertThat(connectionUsages("replica")).isEqualTo(replica);
+
+		jobApplicationService.findByCandidateEmail("routed@email.com", false, 0, 10);
+
+		Assertions.assertThat(connectionUsages("replica")).isEqualTo(replica + 1);
+	}
+
+	@Test
+	public void givenReplicaTransaction_whenRead_thenDoNotWriteCaches() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("routed cached offer");
+		jobOfferService.create(offer);
+		replicaLagGuard.restore(null);
+
+		entityManagerFactory.getCache().evictAll();
+		jobOfferCache.invalidateAll();
+		long puts = cachePuts();
+
+		String route = readOnly.execute(status -> {
+			Assertions.assertThat(jobOfferService.findByTitle("routed cached offer")).isNotNull();
+			return jdbcTemplate.queryForObject(ROUTE_QUERY, String.class);
+		});
+
+		Assertions.assertThat(route).isEqualTo("replica");
+		Assertions.assertThat(cachePuts()).isEqualTo(puts);
+		Assertions.assertThat(jobOfferCache.size()).isZero();
+
+		jobOfferService.findByTitle("routed cached offer");
+
+		Assertions.assertThat(cachePuts()).isGreaterThan(puts);
+		Assertions.assertThat(jobOfferCache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void givenWrite_whenRequest_thenSetLastWriteCookie() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.post("/api/offers/")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"jobTitle\": \"routed offer\"}"))
+		.andExpect(MockMvcResultMatchers.status().isCreated())
+		.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.SET_COOKIE,
+				Matchers.startsWith(DataSourceConstants.LAST_WRITE_COOKIE + "=")));
+
+		Assertions.assertThat(replicaLagGuard.getPendingWrite()).isNull();
+	}
+
+	@Test
+	public void givenRead_whenRequest_thenDoNotSetLastWriteCookie() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get("/api/offers/")
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.SET_COOKIE));
+	}
+
+	/**
+	 * Amount of entries and query results put in the second-level cache since
+	 * the start.
+	 */
+	private long cachePuts() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getSecondLevelCachePutCount()
+				+ entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getQueryCachePutCount();
+	}
+
+	/**
+	 * Amount of connections borrowed from a pool since the start, whose
+	 * meters are only registered once the pool is started.
+	 */
+	private long connectionUsages(String pool) {
+		Timer usages = meterRegistry.find(CONNECTION_USAGE_TIMER).tag("pool", pool).timer();
+		return usages == null ? 0 : usages.count();
+	}
+}
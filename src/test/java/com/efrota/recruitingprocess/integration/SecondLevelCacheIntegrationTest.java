@@ -0,0 +1,218 @@
+package com.efrota.recruitingprocess.integration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.SecondLevelCacheConstants;
+import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.repository.JobOfferRepository;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(locations = "classpath:application-integration.properties")
+public class SecondLevelCacheIntegrationTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private JobOfferService jobOfferService;
+
+	@Autowired
+	private JobApplicationService jobApplicationService;
+
+	@Autowired
+	private JobOfferRepository jobOfferRepository;
+
+	@Autowired
+	private JobApplicationRepository jobApplicationRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	public void givenLoadedOffer_whenFindByTitle_thenReadFromCache() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("second-level offer");
+		jobOfferService.create(offer);
+
+		jobOfferRepository.findByTitle("second-level offer");
+
+		long queryHits = statistics().getQueryRegionStatistics(SecondLevelCacheConstants.OFFER_BY_TITLE_REGION)
+				.getHitCount();
+		long entityHits = statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getHitCount();
+
+		JobOffer cached = jobOfferRepository.findByTitle("second-level offer");
+
+		Assertions.assertThat(cached.getTitle()).isEqualTo("second-level offer");
+		Assertions.assertThat(statistics().getQueryRegionStatistics(SecondLevelCacheConstants.OFFER_BY_TITLE_REGION)
+				.getHitCount()).isEqualTo(queryHits + 1);
+		Assertions.assertThat(statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getHitCount()).isEqualTo(entityHits + 1);
+	}
+
+	@Test
+	public void givenCachedApplication_whenUpdate_thenReadNewStatus() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("second-level transitions");
+		jobOfferService.create(offer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("second-level@email.com");
+		jobApplicationService.create(application, "second-level transitions");
+
+		Assertions.assertThat(jobApplicationRepository
+				.findByJobOfferTitleAndCandidateEmail("second-level transitions", "second-level@email.com")
+				.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.APPLIED);
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, "second-level transitions",
+				"second-level@email.com");
+
+		Assertions.assertThat(jobApplicationRepository
+				.findByJobOfferTitleAndCandidateEmail("second-level transitions", "second-level@email.com")
+				.getJobApplicationStatusEnum()).isEqualTo(JobApplicationStatusEnum.INVITED);
+	}
+
+	@Test
+	public void givenCachedOffers_whenIncrementApplicationAmount_thenInvalidateOnlyThatOffer() {
+		JobOffer incremented = new JobOffer();
+		incremented.setTitle("second-level incremented");
+		incremented = jobOfferService.create(incremented);
+
+		JobOffer untouched = new JobOffer();
+		untouched.setTitle("second-level untouched");
+		untouched = jobOfferService.create(untouched);
+
+		jobOfferRepository.findByTitle("second-level incremented");
+		jobOfferRepository.findByTitle("second-level untouched");
+
+		int id = incremented.getId();
+		new TransactionTemplate(transactionManager)
+				.execute(status -> jobOfferRepository.incrementApplicationAmount(id, 3));
+
+		long misses = statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getMissCount();
+
+		Assertions.assertThat(entityManagerFactory.getCache().contains(JobOffer.class, untouched.getId())).isTrue();
+		Assertions.assertThat(jobOfferRepository.findByTitle("second-level incremented").getApplicationAmount())
+				.isEqualTo(3);
+		Assertions.assertThat(statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getMissCount()).isEqualTo(misses + 1);
+	}
+
+	@Test
+	public void givenUncommittedIncrement_whenConcurrentRead_thenDoNotCacheOldAmount() throws Exception {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("second-level locked");
+		int id = jobOfferService.create(offer).getId();
+
+		entityManagerFactory.getCache().evict(JobOffer.class);
+		long puts = statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getPutCount();
+
+		ExecutorService reader = Executors.newSingleThreadExecutor();
+		try {
+			Future<Long> concurrentAmount = new TransactionTemplate(transactionManager).execute(status -> {
+				jobOfferRepository.incrementApplicationAmount(id, 3);
+
+				Future<Long> amount = reader.submit(() -> new TransactionTemplate(transactionManager)
+						.execute(readStatus -> jobOfferRepository.findById(id).get().getApplicationAmount()));
+				while (!amount.isDone()) {
+					Thread.yield();
+				}
+				return amount;
+			});
+
+			Assertions.assertThat(concurrentAmount.get()).isEqualTo(0);
+		} finally {
+			reader.shutdownNow();
+		}
+
+		Assertions.assertThat(statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.OFFER_REGION)
+				.getPutCount()).isEqualTo(puts);
+		Long amount = new TransactionTemplate(transactionManager)
+				.execute(status -> jobOfferRepository.findById(id).get().getApplicationAmount());
+		Assertions.assertThat(amount).isEqualTo(3);
+	}
+
+	@Test
+	public void givenBulkReads_whenExportAndHydrateSearchHits_thenLeaveApplicationRegionUntouched() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle("second-level bulk");
+		jobOfferService.create(offer);
+
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			JobApplication application = new JobApplication();
+			application.setCandidateEmail("second-level-bulk" + i + "@email.com");
+			ids.add(jobApplicationService.create(application, "second-level bulk").getId());
+		}
+
+		entityManagerFactory.getCache().evict(JobApplication.class);
+		long puts = statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.APPLICATION_REGION)
+				.getPutCount();
+
+		List<String> exported = new ArrayList<>();
+		jobApplicationService.exportByJobOfferTitle("second-level bulk",
+				application -> exported.add(application.getCandidateEmail()));
+		int hydrated = new TransactionTemplate(transactionManager)
+				.execute(status -> jobApplicationRepository.findByIdIn(ids).size());
+
+		Assertions.assertThat(exported).hasSize(3);
+		Assertions.assertThat(hydrated).isEqualTo(3);
+		Assertions.assertThat(statistics().getDomainDataRegionStatistics(SecondLevelCacheConstants.APPLICATION_REGION)
+				.getPutCount()).isEqualTo(puts);
+		Assertions.assertThat(entityManagerFactory.getCache().contains(JobApplication.class, ids.get(0))).isFalse();
+	}
+
+	@Test
+	public void givenCacheUsage_whenFindRegionStatistics_thenReturnEveryRegion() throws Exception {
+		mvc.perform(MockMvcRequestBuilders.get("/api/caches/regions")
+				.accept(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[*].region", Matchers.containsInAnyOrder(
+				SecondLevelCacheConstants.APPLICATION_REGION,
+				SecondLevelCacheConstants.APPLICATION_BY_TITLE_EMAIL_REGION,
+				SecondLevelCacheConstants.DEFAULT_QUERY_REGION,
+				SecondLevelCacheConstants.UPDATE_TIMESTAMPS_REGION,
+				SecondLevelCacheConstants.OFFER_REGION,
+				SecondLevelCacheConstants.OFFER_BY_TITLE_REGION)));
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+}
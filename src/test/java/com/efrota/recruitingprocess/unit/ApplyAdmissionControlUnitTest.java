@@ -0,0 +1,94 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.efrota.recruitingprocess.exception.TooManyRequestsException;
+import com.efrota.recruitingprocess.model.constants.AdmissionConstants;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
+import com.efrota.recruitingprocess.service.admission.ApplyAdmissionControl;
+import com.efrota.recruitingprocess.service.admission.TokenBucket;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(SpringRunner.class)
+public class ApplyAdmissionControlUnitTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	@Test
+	public void givenBurst_whenTryAcquire_thenAdmitCapacityThenWaitForRefill() {
+		TokenBucket bucket = new TokenBucket(2, 3, clock::get);
+
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		// 2 tokens per second: the next one in half a second
+		Assertions.assertThat(bucket.tryAcquire()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		Assertions.assertThat(bucket.tryAcquire()).isPositive();
+	}
+
+	@Test
+	public void givenIdleBucket_whenTryAcquire_thenRefillUpToCapacity() {
+		TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+		bucket.tryAcquire();
+		bucket.tryAcquire();
+
+		clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		Assertions.assertThat(bucket.tryAcquire()).isZero();
+		Assertions.assertThat(bucket.tryAcquire()).isPositive();
+	}
+
+	@Test
+	public void givenInvalidRate_whenCreate_thenThrow() {
+		Assertions.assertThatThrownBy(() -> new TokenBucket(0, 10, clock::get))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void givenHotOffer_whenAdmit_thenShedOnlyThatOffer() {
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ApplyAdmissionControl admissionControl = new ApplyAdmissionControl(true, 0.001, 3, 0.001, 2, 100,
+				meterRegistry);
+
+		admissionControl.admit("hot offer");
+		admissionControl.admit("hot offer");
+
+		Assertions.assertThatThrownBy(() -> admissionControl.admit("hot offer"))
+				.isInstanceOf(TooManyRequestsException.class)
+				.hasFieldOrPropertyWithValue("retryAfterSeconds", 1000L);
+
+		// the shed request did not take a global token
+		admissionControl.admit("other offer");
+
+		Assertions.assertThatThrownBy(() -> admissionControl.admit("other offer"))
+				.isInstanceOf(TooManyRequestsException.class);
+
+		Assertions.assertThat(meterRegistry.counter(MetricsConstants.ADMISSION_REJECTED_COUNTER,
+				MetricsConstants.TAG_SCOPE, AdmissionConstants.SCOPE_OFFER).count()).isEqualTo(1);
+		Assertions.assertThat(meterRegistry.counter(MetricsConstants.ADMISSION_REJECTED_COUNTER,
+				MetricsConstants.TAG_SCOPE, AdmissionConstants.SCOPE_GLOBAL).count()).isEqualTo(1);
+	}
+
+	@Test
+	public void givenDisabled_whenAdmit_thenAdmitAll() {
+		ApplyAdmissionControl admissionControl = new ApplyAdmissionControl(false, 0.001, 1, 0.001, 1, 100,
+				new SimpleMeterRegistry());
+
+		for (int i = 0; i < 10; i++) {
+			admissionControl.admit("offer");
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.efrota.recruitingprocess.unit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.efrota.recruitingprocess.config.ExecutionModeEnvironmentPostProcessor;
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+import com.efrota.recruitingprocess.utils.VirtualThreadUtils;
+
+@RunWith(SpringRunner.class)
+public class ExecutionModeEnvironmentPostProcessorUnitTest {
+
+	private final ExecutionModeEnvironmentPostProcessor postProcessor = new ExecutionModeEnvironmentPostProcessor();
+
+	@Test
+	public void givenPlatformMode_whenPostProcess_thenKeepPlatformThreads() {
+		MockEnvironment environment = new MockEnvironment().withProperty(ExecutionConstants.MODE_PROPERTY, "platform");
+
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		Assertions.assertThat(environment.getProperty(ExecutionConstants.VIRTUAL_THREADS_PROPERTY)).isNull();
+	}
+
+	@Test
+	public void givenVirtualModeOnJava21Build_whenPostProcess_thenEnableVirtualThreads() {
+		Assume.assumeTrue(VirtualThreadUtils.isSupported());
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty(ExecutionConstants.MODE_PROPERTY, ExecutionConstants.VIRTUAL)
+				.withProperty(ExecutionConstants.VIRTUAL_THREADS_PROPERTY, "false");
+
+		postProcessor.postProcessEnvironment(environment, new SpringApplication());
+
+		Assertions.assertThat(environment.getProperty(ExecutionConstants.VIRTUAL_THREADS_PROPERTY)).isEqualTo("true");
+	}
+
+	@Test
+	public void givenVirtualModeOnJava17Build_whenPostProcess_thenThrowIllegalState() {
+		Assume.assumeFalse(VirtualThreadUtils.isSupported());
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty(ExecutionConstants.MODE_PROPERTY, ExecutionConstants.VIRTUAL);
+
+		Assertions.assertThatThrownBy(() -> postProcessor.postProcessEnvironment(environment, new SpringApplication()))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("Java 21");
+	}
+}
@@ -1,32 +1,52 @@
 package com.efrota.recruitingprocess.unit;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.efrota.recruitingprocess.controller.JobApplicationController;
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
+import com.efrota.recruitingprocess.exception.TooManyRequestsException;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationProjection;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
 import com.efrota.recruitingprocess.model.dto.JobApplicationDTO;
 import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.admission.ApplyAdmissionControl;
 import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(JobApplicationController.class)
+@Import(JobOfferVersionStamps.class)
 public class JobApplicationControllerUnitTest {
 
 	@Autowired
@@ -35,8 +55,11 @@ public class JobApplicationControllerUnitTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
-	@MockBean
+	@MockitoBean
 	private JobApplicationService service;
+
+	@MockitoBean
+	private ApplyAdmissionControl applyAdmissionControl;
 	
 	private static final String API_PATH = "/api/applications/";
 
@@ -88,6 +111,88 @@ public class JobApplicationControllerUnitTest {
 		.andExpect(MockMvcResultMatchers.status().isBadRequest());
 	}
 
+	@Test
+	public void givenApplicationBatch_whenApplyBatch_thenReturnResults() throws Exception {
+
+		BDDMockito.given(service.createAll(Mockito.anyList())).willReturn(Arrays.asList(
+				JobApplicationBatchResultEnum.CREATED, JobApplicationBatchResultEnum.UNKNOWN_OFFER));
+
+		mvc.perform(MockMvcRequestBuilders.post(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"applications\": ["
+						+ "{\"jobOffer\": \"offer\", \"candidateEmail\": \"a@email.com\"}, "
+						+ "{\"jobOffer\": \"other\", \"candidateEmail\": \"b@email.com\"}]}"))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("a@email.com")))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].result",
+				Matchers.equalTo(JobApplicationBatchResultEnum.CREATED.name())))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[1].jobOffer", Matchers.equalTo("other")))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[1].result",
+				Matchers.equalTo(JobApplicationBatchResultEnum.UNKNOWN_OFFER.name())));
+	}
+
+	@Test
+	public void givenEmptyApplicationBatch_whenApplyBatch_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.post(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"applications\": []}"))
+		.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void givenCandidateEmails_whenUpdateCandidatesStatus_thenReturnResults() throws Exception {
+
+		Map<String, JobApplicationTransitionResultEnum> results = new LinkedHashMap<>();
+		results.put("a@email.com", JobApplicationTransitionResultEnum.UPDATED);
+		results.put("b@email.com", JobApplicationTransitionResultEnum.NOT_FOUND);
+
+		BDDMockito.given(service.updateAll(JobApplicationStatusEnum.INVITED, "offer",
+				Arrays.asList("a@email.com", "b@email.com"), null)).willReturn(results);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"jobOffer\": \"offer\", \"status\": \"INVITED\", "
+						+ "\"candidateEmails\": [\"a@email.com\", \"b@email.com\"]}"))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("a@email.com")))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].result",
+				Matchers.equalTo(JobApplicationTransitionResultEnum.UPDATED.name())))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[1].result",
+				Matchers.equalTo(JobApplicationTransitionResultEnum.NOT_FOUND.name())));
+	}
+
+	@Test
+	public void givenMissingStatus_whenUpdateCandidatesStatus_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH + "batch")
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"jobOffer\": \"offer\", \"candidateEmails\": [\"a@email.com\"]}"))
+		.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void givenConcurrentTransition_whenUpdateCandidateStatus_thenReturnConflict() throws Exception {
+
+		final String email = "email@email.com";
+
+		BDDMockito.willThrow(new ObjectOptimisticLockingFailureException(JobApplication.class, 1))
+				.given(service).update(JobApplicationStatusEnum.INVITED, "offer", email, null);
+
+		mvc.perform(MockMvcRequestBuilders.put(API_PATH)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(String.format("{\"jobOffer\": \"offer\", \"candidateEmail\": \"%s\", \"status\": \"%s\"}",
+						email, JobApplicationStatusEnum.INVITED)))
+		.andExpect(MockMvcResultMatchers.status().isConflict());
+	}
+
 	@Test
 	public void givenApplication_whenFindJobApplicationByJobOfferAndCandidateEmail_thenReturnOk() throws Exception {
 
@@ -121,34 +226,76 @@ public class JobApplicationControllerUnitTest {
 	public void givenApplication_whenFindAllJobApplicationByJobOffer_thenReturnOk() throws Exception {
 
 		final String offerTitle = "offer";
-		JobOffer offer = new JobOffer();
-		offer.setTitle(offerTitle);
-
-		int appListSize = 2;
-		List<JobApplication> jobApplications = new ArrayList<>(appListSize);
-
 		final String email = "email@email.com";
 		final String resume = "my resume";
 
-		JobApplication application = new JobApplication();
-		application.setJobOffer(offer);
-		application.setCandidateEmail(email);
-		application.setResumeText(resume);
-		jobApplications.add(application);
+		List<JobApplicationProjection> jobApplications = Arrays.asList(
+				new JobApplicationProjection(1, offerTitle, email, JobApplicationStatusEnum.APPLIED, resume),
+				new JobApplicationProjection(2, offerTitle, email, JobApplicationStatusEnum.APPLIED, resume));
 
-		application = new JobApplication();
-		application.setJobOffer(offer);
-		application.setCandidateEmail(email);
-		application.setResumeText(resume);
-		jobApplications.add(application);
+		BDDMockito.given(service.findByJobOfferTitle(offerTitle, null, true, 0, PaginationConstants.DEFAULT_PAGE_SIZE))
+				.willReturn(jobApplications);
+
+		mvc.perform(
+				MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(jobApplications.size())))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].jobOffer", Matchers.equalTo(offerTitle)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].resumeText", Matchers.equalTo(resume)))
+		.andExpect(MockMvcResultMatchers.header().doesNotExist(PaginationConstants.NEXT_CURSOR_HEADER));
+	}
+
+	@Test
+	public void givenFullPageFilteredByStatus_whenFindAllJobApplicationByJobOffer_thenReturnNextCursor()
+			throws Exception {
 
-		BDDMockito.given(service.findByJobOfferTitle(offerTitle)).willReturn(jobApplications);
+		final String offerTitle = "offer";
+		final int lastId = 12;
+
+		BDDMockito.given(service.findByJobOfferTitle(offerTitle, JobApplicationStatusEnum.INVITED, true, 5, 1))
+				.willReturn(Collections.singletonList(new JobApplicationProjection(lastId, offerTitle,
+						"email@email.com", JobApplicationStatusEnum.INVITED, null)));
 
 		mvc.perform(
 				MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("status", JobApplicationStatusEnum.INVITED.name())
+				.param("size", "1")
+				.param("cursor", PaginationUtils.encodeCursor(5))
 				.contentType(MediaType.APPLICATION_JSON))
 		.andExpect(MockMvcResultMatchers.status().isOk())
-		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(appListSize)));
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+		.andExpect(MockMvcResultMatchers.header().string(PaginationConstants.NEXT_CURSOR_HEADER,
+				PaginationUtils.encodeCursor(lastId)));
+	}
+
+	@Test
+	public void givenResumeOmitted_whenFindAllJobApplicationByJobOffer_thenDoNotReadResumes() throws Exception {
+
+		final String offerTitle = "offer";
+
+		BDDMockito.given(service.findByJobOfferTitle(offerTitle, null, false, 0, PaginationConstants.DEFAULT_PAGE_SIZE))
+				.willReturn(Collections.singletonList(new JobApplicationProjection(1, offerTitle, "email@email.com",
+						JobApplicationStatusEnum.APPLIED)));
+
+		mvc.perform(
+				MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.param("resume", "false")
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].candidateEmail", Matchers.equalTo("email@email.com")))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].resumeText", Matchers.nullValue()));
+
+		Mockito.verify(service).findByJobOfferTitle(offerTitle, null, false, 0, PaginationConstants.DEFAULT_PAGE_SIZE);
+	}
+
+	@Test
+	public void givenInvalidPageSize_whenFindAllJobApplicationByJobOffer_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + "offer")
+				.param("size", "0")
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isBadRequest());
 	}
 
 	@Test
@@ -158,4 +305,60 @@ public class JobApplicationControllerUnitTest {
 				.contentType(MediaType.APPLICATION_JSON))
 		.andExpect(MockMvcResultMatchers.status().isNoContent());
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void givenApplications_whenExport_thenStreamNdjson() throws Exception {
+
+		JobOffer offer = new JobOffer();
+		offer.setTitle("offer");
+
+		JobApplication first = new JobApplication();
+		first.setJobOffer(offer);
+		first.setCandidateEmail("first@email.com");
+
+		JobApplication second = new JobApplication();
+		second.setJobOffer(offer);
+		second.setCandidateEmail("second@email.com");
+
+		BDDMockito.willAnswer(invocation -> {
+			Consumer<JobApplication> action = invocation.getArgument(1);
+			action.accept(first);
+			action.accept(second);
+			return null;
+		}).given(service).exportByJobOfferTitle(Mockito.eq("offer"), Mockito.any(Consumer.class));
+
+		MvcResult result = mvc.perform(MockMvcRequestBuilders.get(API_PATH + "offer/export"))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().string(
+						objectMapper.writeValueAsString(EntityDTOConverter.convertToDTO(first)) + "\n"
+								+ objectMapper.writeValueAsString(EntityDTOConverter.convertToDTO(second)) + "\n"));
+	}
+
+	@Test
+	public void givenOfferOverRate_whenApply_thenReturnTooManyRequests() throws Exception {
+
+		final String offerTitle = "hot offer";
+		Mockito.doThrow(new TooManyRequestsException("Too many applications for the offer hot offer.", 2))
+				.when(applyAdmissionControl).admit(offerTitle);
+
+		JobApplicationDTO dto = new JobApplicationDTO();
+		dto.setJobOffer(offerTitle);
+		dto.setCandidateEmail("email@email.com");
+
+		mvc.perform(MockMvcRequestBuilders.post(API_PATH)
+				.accept(MediaType.APPLICATION_JSON)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(dto)))
+		.andExpect(MockMvcResultMatchers.status().is(HttpStatus.TOO_MANY_REQUESTS.value()))
+		.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "2"))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.message",
+				Matchers.equalTo("Too many applications for the offer hot offer.")));
+
+		Mockito.verifyNoInteractions(service);
+	}
 }
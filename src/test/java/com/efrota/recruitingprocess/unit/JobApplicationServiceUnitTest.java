@@ -1,27 +1,56 @@
 package com.efrota.recruitingprocess.unit;
 
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.efrota.recruitingprocess.enums.JobApplicationBatchResultEnum;
 import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.JobApplicationTransitionResultEnum;
 import com.efrota.recruitingprocess.exception.NotFoundException;
 import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobApplication;
+import com.efrota.recruitingprocess.model.JobApplicationStatusHistory;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.model.constants.JobApplicationStatusHistoryConstants;
+import com.efrota.recruitingprocess.model.constants.MetricsConstants;
 import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.repository.JobApplicationStatusHistoryRepository;
 import com.efrota.recruitingprocess.repository.JobOfferRepository;
+import com.efrota.recruitingprocess.repository.NotificationRepository;
 import com.efrota.recruitingprocess.service.JobApplicationService;
 import com.efrota.recruitingprocess.service.JobApplicationServiceImpl;
+import com.efrota.recruitingprocess.service.JobOfferCache;
 import com.efrota.recruitingprocess.service.JobOfferService;
 import com.efrota.recruitingprocess.service.JobOfferServiceImpl;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.notification.NotificationService;
+import com.efrota.recruitingprocess.service.notification.NotificationServiceImpl;
+import com.efrota.recruitingprocess.service.search.ResumeIndex;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
 
+import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.DateUtil;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @RunWith(SpringRunner.class)
 public class JobApplicationServiceUnitTest {
@@ -37,16 +66,61 @@ public class JobApplicationServiceUnitTest {
 		public JobOfferService jobOfferService() {
 			return new JobOfferServiceImpl();
 		}
+
+		@Bean
+		public JobOfferCache jobOfferCache() {
+			return new JobOfferCache(100, 60);
+		}
+
+		@Bean
+		public JobOfferVersionStamps jobOfferVersionStamps() {
+			return new JobOfferVersionStamps();
+		}
+
+		@Bean
+		public JobOfferSummaryReadModel jobOfferSummaryReadModel() {
+			return new JobOfferSummaryReadModel();
+		}
+
+		@Bean
+		public NotificationService notificationService() {
+			return new NotificationServiceImpl();
+		}
+
+		@Bean
+		public ResumeIndex resumeIndex() {
+			return new ResumeIndex();
+		}
+
+		@Bean
+		public MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
 	}
 
 	@Autowired
 	private JobApplicationService jobApplicationService;
 	@Autowired
 	private JobOfferService jobOfferService;
-	@MockBean
+	@MockitoBean
 	private JobApplicationRepository jobApplicationRepository;
-	@MockBean
+	@MockitoBean
+	private JobApplicationStatusHistoryRepository jobApplicationStatusHistoryRepository;
+	@MockitoBean
 	private JobOfferRepository jobOfferRepository;
+	@MockitoBean
+	private NotificationRepository notificationRepository;
+	@MockitoBean
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private JobOfferCache jobOfferCache;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void clearCache() {
+		jobOfferCache.invalidateAll();
+	}
 
 	@Test
 	public void givenJobApplication_whenCreate_thenReturnJobApplication() {
@@ -66,7 +140,7 @@ public class JobApplicationServiceUnitTest {
 		application.setCandidateEmail(email);
 		application.setResumeText(resume);
 
-		Mockito.when(jobApplicationService.create(application, offerTitle)).thenReturn(application);
+		Mockito.when(jobApplicationRepository.saveAndFlush(application)).thenReturn(application);
 
 		JobApplication created = jobApplicationService.create(application, offerTitle);
 
@@ -77,6 +151,205 @@ public class JobApplicationServiceUnitTest {
 		Assertions.assertThat(created.getJobOffer().getTitle()).isEqualTo(offerTitle);
 	}
 
+	@Test
+	public void givenDuplicateEmail_whenCreate_thenMapConstraintViolation() {
+		final String offerTitle = "offer title";
+		JobOffer jobOffer = new JobOffer(1, offerTitle, null, 1);
+		Mockito.when(jobOfferRepository.findByTitle(offerTitle)).thenReturn(jobOffer);
+
+		JobApplication application = new JobApplication();
+		application.setCandidateEmail("email@email.com");
+
+		Mockito.when(jobApplicationRepository.saveAndFlush(application)).thenThrow(
+				new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+						"could not execute statement", new SQLException(), "PUBLIC.UK_OFFER_EMAIL_INDEX_3")));
+
+		Assertions.assertThatThrownBy(() -> jobApplicationService.create(application, offerTitle))
+				.isInstanceOf(ServiceValidationException.class)
+				.hasMessage("Email email@email.com already exist for the offer offer title.");
+		Mockito.verify(jobOfferRepository, Mockito.never()).incrementApplicationAmount(Mockito.anyInt(),
+				Mockito.anyLong());
+		Mockito.verifyNoInteractions(jobApplicationStatusHistoryRepository);
+
+		Mockito.reset(jobApplicationRepository);
+		Mockito.when(jobApplicationRepository.saveAndFlush(application)).thenThrow(
+				new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+						"could not execute statement", new SQLException(), "PUBLIC.FK_OFFER")));
+
+		Assertions.assertThatThrownBy(() -> jobApplicationService.create(application, offerTitle))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	public void givenJobApplicationBatch_whenCreateAll_thenReturnResultPerApplication() {
+		final String offerTitle = "offer title";
+		final String unknownOfferTitle = "unknown offer title";
+
+		JobOffer jobOffer = new JobOffer(1, offerTitle, DateUtil.now(), 0);
+
+		Mockito.when(jobOfferRepository.findByTitleIn(Mockito.anyCollection()))
+				.thenReturn(Collections.singletonList(jobOffer));
+		Mockito.when(jobApplicationRepository.findJobOfferIdAndCandidateEmail(Mockito.anyCollection(),
+				Mockito.anyCollection()))
+				.thenReturn(Collections.singletonList(new Object[] { 1, "existing@email.com" }));
+
+		List<JobApplication> applications = Arrays.asList(
+				createBatchApplication(offerTitle, "new@email.com"),
+				createBatchApplication(offerTitle, "existing@email.com"),
+				createBatchApplication(offerTitle, "new@email.com"),
+				createBatchApplication(unknownOfferTitle, "other@email.com"));
+
+		List<JobApplicationBatchResultEnum> results = jobApplicationService.createAll(applications);
+
+		Assertions.assertThat(results).containsExactly(JobApplicationBatchResultEnum.CREATED,
+				JobApplicationBatchResultEnum.DUPLICATE, JobApplicationBatchResultEnum.DUPLICATE,
+				JobApplicationBatchResultEnum.UNKNOWN_OFFER);
+		Assertions.assertThat(applications.get(0).getJobApplicationStatusEnum())
+				.isEqualTo(JobApplicationStatusEnum.APPLIED);
+		Assertions.assertThat(applications.get(0).getJobOffer()).isSameAs(jobOffer);
+
+		Mockito.verify(jobOfferRepository).incrementApplicationAmount(1, 1L);
+		Mockito.verify(jobApplicationRepository).saveAll(Collections.singletonList(applications.get(0)));
+	}
+
+	@Test
+	public void givenConcurrentApply_whenCreateAll_thenRetryAndReportDuplicate() {
+		final String offerTitle = "offer title";
+
+		JobOffer jobOffer = new JobOffer(1, offerTitle, DateUtil.now(), 0);
+
+		Mockito.when(jobOfferRepository.findByTitleIn(Mockito.anyCollection()))
+				.thenReturn(Collections.singletonList(jobOffer));
+		// the concurrent apply is only visible once it made the first flush fail
+		Mockito.when(jobApplicationRepository.findJobOfferIdAndCandidateEmail(Mockito.anyCollection(),
+				Mockito.anyCollection()))
+				.thenReturn(Collections.emptyList(),
+						Collections.singletonList(new Object[] { 1, "concurrent@email.com" }));
+		Mockito.doThrow(new DataIntegrityViolationException("could not execute batch",
+				new ConstraintViolationException("could not execute batch", new SQLException(),
+						"PUBLIC.UK_OFFER_EMAIL_INDEX_3")))
+				.doNothing().when(jobApplicationRepository).flush();
+
+		List<JobApplication> applications = Arrays.asList(
+				createBatchApplication(offerTitle, "new@email.com"),
+				createBatchApplication(offerTitle, "concurrent@email.com"));
+		applications.get(0).setId(7);
+
+		List<JobApplicationBatchResultEnum> results = jobApplicationService.createAll(applications);
+
+		Assertions.assertThat(results).containsExactly(JobApplicationBatchResultEnum.CREATED,
+				JobApplicationBatchResultEnum.DUPLICATE);
+		Assertions.assertThat(applications.get(0).getId()).isZero();
+
+		Mockito.verify(jobApplicationRepository).saveAll(applications);
+		Mockito.verify(jobApplicationRepository).saveAll(Collections.singletonList(applications.get(0)));
+		Mockito.verify(transactionManager).rollback(Mockito.any());
+		Mockito.verify(jobOfferRepository).incrementApplicationAmount(1, 1L);
+	}
+
+	@Test
+	public void givenMissingOfferTitle_whenCreateAll_thenThrowServiceValidationException() {
+		List<JobApplication> applications = Arrays.asList(createBatchApplication("offer title", "new@email.com"),
+				createBatchApplication(null, "other@email.com"));
+
+		Assertions.assertThatThrownBy(() -> jobApplicationService.createAll(applications))
+				.isInstanceOf(ServiceValidationException.class);
+		Mockito.verifyNoInteractions(jobOfferRepository, jobApplicationRepository);
+	}
+
+	private JobApplication createBatchApplication(String offerTitle, String email) {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setTitle(offerTitle);
+
+		JobApplication application = new JobApplication();
+		application.setJobOffer(jobOffer);
+		application.setCandidateEmail(email);
+
+		return application;
+	}
+
+	@Test
+	public void givenCandidateEmails_whenUpdateAll_thenReturnResultPerEmail() {
+		final double appliedToRejected = countTransitions(JobApplicationStatusEnum.APPLIED,
+				JobApplicationStatusEnum.REJECTED);
+		final double invitedToRejected = countTransitions(JobApplicationStatusEnum.INVITED,
+				JobApplicationStatusEnum.REJECTED);
+
+		JobOffer jobOffer = new JobOffer(1, OFFER_TITLE, DateUtil.now(), 3);
+
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE)).thenReturn(jobOffer);
+		Mockito.when(jobApplicationRepository.findCandidateEmailAndStatusForUpdate(Mockito.eq(1),
+				Mockito.anyCollection()))
+				.thenReturn(Arrays.asList(
+						new Object[] { "applied@email.com", JobApplicationStatusEnum.APPLIED, 1 },
+						new Object[] { "invited@email.com", JobApplicationStatusEnum.INVITED, 2 },
+						new Object[] { "hired@email.com", JobApplicationStatusEnum.HIRED, 3 }));
+		Mockito.when(jobApplicationRepository.updateStatus(Mockito.eq(JobApplicationStatusEnum.REJECTED),
+				Mockito.eq(1), Mockito.anyCollection(), Mockito.any(JobApplicationStatusEnum.class))).thenReturn(1);
+
+		Map<String, JobApplicationTransitionResultEnum> results = jobApplicationService.updateAll(
+				JobApplicationStatusEnum.REJECTED, OFFER_TITLE, Arrays.asList("applied@email.com",
+						"invited@email.com", "hired@email.com", "unknown@email.com", "applied@email.com"));
+
+		Assertions.assertThat(results).containsExactly(
+				Assertions.entry("applied@email.com", JobApplicationTransitionResultEnum.UPDATED),
+				Assertions.entry("invited@email.com", JobApplicationTransitionResultEnum.UPDATED),
+				Assertions.entry("hired@email.com", JobApplicationTransitionResultEnum.INVALID_TRANSITION),
+				Assertions.entry("unknown@email.com", JobApplicationTransitionResultEnum.NOT_FOUND));
+
+		Mockito.verify(jobApplicationRepository).updateStatus(JobApplicationStatusEnum.REJECTED, 1,
+				Collections.singleton("applied@email.com"), JobApplicationStatusEnum.APPLIED);
+		Mockito.verify(jobApplicationRepository).updateStatus(JobApplicationStatusEnum.REJECTED, 1,
+				Collections.singleton("invited@email.com"), JobApplicationStatusEnum.INVITED);
+		Mockito.verify(notificationRepository)
+				.saveAll(Mockito.<List<Notification>>argThat(notifications -> notifications.size() == 2));
+
+		Assertions.assertThat(countTransitions(JobApplicationStatusEnum.APPLIED, JobApplicationStatusEnum.REJECTED))
+				.isEqualTo(appliedToRejected + 1);
+		Assertions.assertThat(countTransitions(JobApplicationStatusEnum.INVITED, JobApplicationStatusEnum.REJECTED))
+				.isEqualTo(invitedToRejected + 1);
+	}
+
+	private double countTransitions(JobApplicationStatusEnum from, JobApplicationStatusEnum to) {
+		return meterRegistry.counter(MetricsConstants.TRANSITION_COUNTER, MetricsConstants.TAG_FROM, from.name(),
+				MetricsConstants.TAG_TO, to.name()).count();
+	}
+
+	@Test
+	public void givenJobApplications_whenCountByStatus_thenReturnEveryStatus() {
+		JobOffer jobOffer = new JobOffer(1, OFFER_TITLE, DateUtil.now(), 3);
+
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE)).thenReturn(jobOffer);
+		Mockito.when(jobApplicationRepository.countByJobOfferIdAndStatus(Mockito.anyCollection()))
+				.thenReturn(Arrays.asList(new Object[] { 1, JobApplicationStatusEnum.APPLIED, 2L },
+						new Object[] { 1, JobApplicationStatusEnum.HIRED, 1L }));
+
+		Map<JobApplicationStatusEnum, Long> counts = jobApplicationService.countByStatus(OFFER_TITLE);
+
+		Assertions.assertThat(counts).containsExactly(
+				Assertions.entry(JobApplicationStatusEnum.APPLIED, 2L),
+				Assertions.entry(JobApplicationStatusEnum.INVITED, 0L),
+				Assertions.entry(JobApplicationStatusEnum.REJECTED, 0L),
+				Assertions.entry(JobApplicationStatusEnum.HIRED, 1L));
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void givenNonExistingOffer_whenCountByStatus_thenThrowNotFoundException() {
+		jobApplicationService.countByStatus("some offer");
+	}
+
+	@Test(expected = ServiceValidationException.class)
+	public void givenStatusApplied_whenUpdateAll_thenThrowServiceValidationException() {
+		jobApplicationService.updateAll(JobApplicationStatusEnum.APPLIED, OFFER_TITLE,
+				Collections.singletonList(APPLICATION_EMAIL));
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void givenNonExistingOffer_whenUpdateAll_thenThrowNotFoundException() {
+		jobApplicationService.updateAll(JobApplicationStatusEnum.INVITED, "some offer",
+				Collections.singletonList(APPLICATION_EMAIL));
+	}
+
 	@Test(expected = NotFoundException.class)
 	public void givenNonExistingOffer_whenUpdate_thenThrowNotFoundException() {
 		final String offer = "some offer";
@@ -105,6 +378,34 @@ public class JobApplicationServiceUnitTest {
 		return application;
 	}
 
+	@Test
+	public void givenActor_whenUpdate_thenRecordTransitionInHistory() {
+
+		JobApplication application = createApplication(JobApplicationStatusEnum.APPLIED);
+		Mockito.when(jobApplicationRepository.findByJobOfferTitleAndCandidateEmail(OFFER_TITLE, APPLICATION_EMAIL))
+				.thenReturn(application);
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, OFFER_TITLE, APPLICATION_EMAIL,
+				"recruiter@company.com");
+
+		ArgumentCaptor<JobApplicationStatusHistory> history = ArgumentCaptor
+				.forClass(JobApplicationStatusHistory.class);
+		Mockito.verify(jobApplicationStatusHistoryRepository).save(history.capture());
+
+		Assertions.assertThat(history.getValue().getJobApplication()).isSameAs(application);
+		Assertions.assertThat(history.getValue().getFromStatus()).isEqualTo(JobApplicationStatusEnum.APPLIED);
+		Assertions.assertThat(history.getValue().getToStatus()).isEqualTo(JobApplicationStatusEnum.INVITED);
+		Assertions.assertThat(history.getValue().getActor()).isEqualTo("recruiter@company.com");
+		Assertions.assertThat(history.getValue().getChangedAt()).isNotNull();
+	}
+
+	@Test(expected = ServiceValidationException.class)
+	public void givenTooLongActor_whenUpdate_thenThrowServiceValidationException() {
+
+		jobApplicationService.update(JobApplicationStatusEnum.INVITED, OFFER_TITLE, APPLICATION_EMAIL,
+				StringUtils.repeat('a', JobApplicationStatusHistoryConstants.ACTOR_LENGTH + 1));
+	}
+
 	@Test(expected = ServiceValidationException.class)
 	public void givenInvalidStatusChangeAppliedToHired_whenUpdate_thenThrowServiceValidationException() {
 
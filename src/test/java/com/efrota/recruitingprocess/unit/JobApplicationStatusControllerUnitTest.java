@@ -0,0 +1,108 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.assertj.core.util.DateUtil;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.efrota.recruitingprocess.controller.JobApplicationStatusController;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
+
+@RunWith(SpringRunner.class)
+@WebMvcTest(JobApplicationStatusController.class)
+public class JobApplicationStatusControllerUnitTest {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private JobApplicationService service;
+
+	private static final String API_PATH = "/api/statuses/";
+
+	@Test
+	public void givenOffer_whenCountJobApplicationByJobOffer_thenReturnOk() throws Exception {
+
+		final String offerTitle = "offer";
+
+		BDDMockito.given(service.countByStatus(offerTitle)).willReturn(createCounts(3, 1));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$.jobOffer", Matchers.equalTo(offerTitle)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.APPLIED", Matchers.equalTo(3)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.INVITED", Matchers.equalTo(1)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$.statuses.HIRED", Matchers.equalTo(0)));
+	}
+
+	@Test
+	public void givenNonExistingOffer_whenCountJobApplicationByJobOffer_thenNotFound() throws Exception {
+
+		BDDMockito.given(service.countByStatus("something")).willThrow(new NotFoundException("not found"));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + "something")
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	@Test
+	public void givenFullPage_whenCountAllJobApplications_thenReturnNextCursor() throws Exception {
+
+		final int lastId = 7;
+		Map<JobOffer, Map<JobApplicationStatusEnum, Long>> counts = new LinkedHashMap<>();
+		counts.put(new JobOffer(lastId, "offer", DateUtil.now(), 2), createCounts(2, 0));
+
+		BDDMockito.given(service.countByStatus(0, 1)).willReturn(counts);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("size", "1")
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+		.andExpect(MockMvcResultMatchers.jsonPath("$[0].statuses.APPLIED", Matchers.equalTo(2)))
+		.andExpect(MockMvcResultMatchers.header().string(PaginationConstants.NEXT_CURSOR_HEADER,
+				PaginationUtils.encodeCursor(lastId)));
+	}
+
+	@Test
+	public void givenNoOffers_whenCountAllJobApplications_thenReturnEmpty() throws Exception {
+
+		BDDMockito.given(service.countByStatus(0, PaginationConstants.DEFAULT_PAGE_SIZE))
+				.willReturn(Collections.emptyMap());
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.contentType(MediaType.APPLICATION_JSON))
+		.andExpect(MockMvcResultMatchers.status().isOk())
+		.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(0)))
+		.andExpect(MockMvcResultMatchers.header().doesNotExist(PaginationConstants.NEXT_CURSOR_HEADER));
+	}
+
+	private Map<JobApplicationStatusEnum, Long> createCounts(long applied, long invited) {
+		Map<JobApplicationStatusEnum, Long> counts = new EnumMap<>(JobApplicationStatusEnum.class);
+		counts.put(JobApplicationStatusEnum.APPLIED, applied);
+		counts.put(JobApplicationStatusEnum.INVITED, invited);
+		counts.put(JobApplicationStatusEnum.REJECTED, 0L);
+		counts.put(JobApplicationStatusEnum.HIRED, 0L);
+		return counts;
+	}
+}
@@ -1,31 +1,44 @@
 package com.efrota.recruitingprocess.unit;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.BDDMockito;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.efrota.recruitingprocess.controller.JobOfferController;
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.model.constants.PaginationConstants;
 import com.efrota.recruitingprocess.model.dto.JobOfferDTO;
 import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
 import com.efrota.recruitingprocess.utils.EntityDTOConverter;
+import com.efrota.recruitingprocess.utils.PaginationUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RunWith(SpringRunner.class)
 @WebMvcTest(JobOfferController.class)
+@Import(JobOfferVersionStamps.class)
 public class JobOfferControllerUnitTest {
 
 	@Autowired
@@ -34,9 +47,12 @@ public class JobOfferControllerUnitTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
-	@MockBean
+	@MockitoBean
 	private JobOfferService service;
 
+	@Autowired
+	private JobOfferVersionStamps jobOfferVersionStamps;
+
 	private static final String API_PATH = "/api/offers/";
 
 	@Test
@@ -78,14 +94,20 @@ public class JobOfferControllerUnitTest {
 	public void givenOffer_whenFindSingleJobOffer_thenReturnOk() throws Exception {
 
 		final String offerTitle = "offer";
-		JobOffer offer = new JobOffer();
-		offer.setTitle(offerTitle);
+		Map<JobApplicationStatusEnum, Long> counts = new EnumMap<>(JobApplicationStatusEnum.class);
+		counts.put(JobApplicationStatusEnum.APPLIED, 2L);
+		counts.put(JobApplicationStatusEnum.HIRED, 1L);
 
-		BDDMockito.given(service.findByTitle(offerTitle)).willReturn(offer);
+		BDDMockito.given(service.findSummaryByTitle(offerTitle))
+				.willReturn(new JobOfferSummary(1, offerTitle, null, counts, new Date()));
 
 		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle).contentType(MediaType.APPLICATION_JSON))
 				.andExpect(MockMvcResultMatchers.status().isOk())
-				.andExpect(MockMvcResultMatchers.jsonPath("$.jobTitle", Matchers.equalTo(offerTitle)));
+				.andExpect(MockMvcResultMatchers.jsonPath("$.jobTitle", Matchers.equalTo(offerTitle)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.numberApplication", Matchers.equalTo(3)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.applicationsPerStatus.APPLIED", Matchers.equalTo(2)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.applicationsPerStatus.INVITED", Matchers.equalTo(0)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.lastActivity").exists());
 	}
 
 	@Test
@@ -99,21 +121,52 @@ public class JobOfferControllerUnitTest {
 	public void givenOffer_whenFindAllJobOffers_thenReturnOk() throws Exception {
 
 		int offerListSize = 2;
-		List<JobOffer> jobOfferDTOs = new ArrayList<>(offerListSize);
+		List<JobOfferSummary> summaries = new ArrayList<>(offerListSize);
+		summaries.add(new JobOfferSummary(1, "offer test", null, Collections.emptyMap(), null));
+		summaries.add(new JobOfferSummary(2, "offer test 2", null, Collections.emptyMap(), null));
 
-		JobOffer offer = new JobOffer();
-		offer.setTitle("offer test");
-		jobOfferDTOs.add(offer);
+		BDDMockito.given(service.findAllSummaries(0, PaginationConstants.DEFAULT_PAGE_SIZE)).willReturn(summaries);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH).contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(offerListSize)))
+				.andExpect(MockMvcResultMatchers.header().doesNotExist(PaginationConstants.NEXT_CURSOR_HEADER));
+	}
 
-		offer = new JobOffer();
-		offer.setTitle("offer test 2");
-		jobOfferDTOs.add(offer);
+	@Test
+	public void givenFullPage_whenFindAllJobOffers_thenReturnNextCursor() throws Exception {
 
-		BDDMockito.given(service.findAll()).willReturn(jobOfferDTOs);
+		final int lastId = 7;
+		JobOfferSummary summary = new JobOfferSummary(lastId, "offer test", null, Collections.emptyMap(), null);
 
-		mvc.perform(MockMvcRequestBuilders.get(API_PATH).contentType(MediaType.APPLICATION_JSON))
+		BDDMockito.given(service.findAllSummaries(3, 1)).willReturn(Collections.singletonList(summary));
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("size", "1")
+				.param("cursor", PaginationUtils.encodeCursor(3))
+				.contentType(MediaType.APPLICATION_JSON))
 				.andExpect(MockMvcResultMatchers.status().isOk())
-				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(offerListSize)));
+				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(1)))
+				.andExpect(MockMvcResultMatchers.header().string(PaginationConstants.NEXT_CURSOR_HEADER,
+						PaginationUtils.encodeCursor(lastId)));
+	}
+
+	@Test
+	public void givenInvalidPageSize_whenFindAllJobOffers_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("size", String.valueOf(PaginationConstants.MAX_PAGE_SIZE + 1))
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void givenInvalidCursor_whenFindAllJobOffers_thenReturnBadRequest() throws Exception {
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.param("cursor", "not a cursor")
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
 	}
 
 	@Test
@@ -124,4 +177,47 @@ public class JobOfferControllerUnitTest {
 				.andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(0)));
 	}
 
+	@Test
+	public void givenMatchingETag_whenFindSingleJobOffer_thenReturnNotModifiedWithoutReading() throws Exception {
+
+		final String offerTitle = "offer etag";
+		BDDMockito.given(service.findSummaryByTitle(offerTitle))
+				.willReturn(new JobOfferSummary(1, offerTitle, null, Collections.emptyMap(), null));
+
+		String etag = mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.content().string(""));
+
+		Mockito.verify(service, Mockito.times(1)).findSummaryByTitle(offerTitle);
+
+		jobOfferVersionStamps.increment(offerTitle);
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH + offerTitle)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+	}
+
+	@Test
+	public void givenMatchingETag_whenFindAllJobOffers_thenReturnNotModifiedWithoutReading() throws Exception {
+
+		BDDMockito.given(service.findAllSummaries(0, PaginationConstants.DEFAULT_PAGE_SIZE))
+				.willReturn(Collections.emptyList());
+
+		mvc.perform(MockMvcRequestBuilders.get(API_PATH)
+				.header(HttpHeaders.IF_NONE_MATCH, jobOfferVersionStamps.etagAll())
+				.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.status().isNotModified());
+
+		Mockito.verify(service, Mockito.never()).findAllSummaries(Mockito.anyInt(), Mockito.anyInt());
+	}
 }
@@ -1,22 +1,35 @@
 package com.efrota.recruitingprocess.unit;
 
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Date;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.util.DateUtil;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit4.SpringRunner;
 
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.exception.ServiceValidationException;
 import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.repository.JobApplicationRepository;
+import com.efrota.recruitingprocess.repository.JobApplicationStatusHistoryRepository;
 import com.efrota.recruitingprocess.repository.JobOfferRepository;
+import com.efrota.recruitingprocess.service.JobOfferCache;
 import com.efrota.recruitingprocess.service.JobOfferService;
 import com.efrota.recruitingprocess.service.JobOfferServiceImpl;
+import com.efrota.recruitingprocess.service.JobOfferVersionStamps;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
 
 @RunWith(SpringRunner.class)
 public class JobOfferServiceUnitTest {
@@ -27,17 +40,43 @@ public class JobOfferServiceUnitTest {
 		public JobOfferService jobOfferService() {
 			return new JobOfferServiceImpl();
 		}
+
+		@Bean
+		public JobOfferCache jobOfferCache() {
+			return new JobOfferCache(100, 60);
+		}
+
+		@Bean
+		public JobOfferVersionStamps jobOfferVersionStamps() {
+			return new JobOfferVersionStamps();
+		}
+
+		@Bean
+		public JobOfferSummaryReadModel jobOfferSummaryReadModel() {
+			return new JobOfferSummaryReadModel();
+		}
 	}
 
-	@MockBean
+	@MockitoBean
 	private JobOfferRepository jobOfferRepository;
+	@MockitoBean
+	private JobApplicationRepository jobApplicationRepository;
+	@MockitoBean
+	private JobApplicationStatusHistoryRepository jobApplicationStatusHistoryRepository;
 
 	@Autowired
 	private JobOfferService jobOfferService;
+	@Autowired
+	private JobOfferCache jobOfferCache;
 
 	private static final String OFFER_TITLE = "offer title";
 	private static final Date START_DATE = DateUtil.now();
 
+	@Before
+	public void clearCache() {
+		jobOfferCache.invalidateAll();
+	}
+
 	@Test
 	public void givenOffer_whenCreate_thenReturnOffer() {
 		JobOffer offer = new JobOffer();
@@ -60,4 +99,97 @@ public class JobOfferServiceUnitTest {
 		Assertions.assertThat(created).isNull();
 	}
 
+	@Test
+	public void givenConcurrentCreateSameTitle_whenCreate_thenMapConstraintViolation() {
+		JobOffer offer = new JobOffer();
+		offer.setTitle(OFFER_TITLE);
+
+		Mockito.when(jobOfferRepository.saveAndFlush(offer)).thenThrow(
+				new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+						"could not execute statement", new SQLException(), "PUBLIC.UK_OFFER_TITLE_INDEX_4")));
+
+		Assertions.assertThatThrownBy(() -> jobOfferService.create(offer))
+				.isInstanceOf(ServiceValidationException.class)
+				.hasMessage("Offer offer title already exist.");
+
+		Mockito.reset(jobOfferRepository);
+		Mockito.when(jobOfferRepository.saveAndFlush(offer)).thenThrow(
+				new DataIntegrityViolationException("could not execute statement", new ConstraintViolationException(
+						"could not execute statement", new SQLException(), "PUBLIC.CK_START_DATE")));
+
+		Assertions.assertThatThrownBy(() -> jobOfferService.create(offer))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	public void givenCachedOffer_whenFindByTitle_thenSkipRepository() {
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE))
+				.thenReturn(new JobOffer(1, OFFER_TITLE, START_DATE, 2));
+		final long hitCount = jobOfferCache.stats().hitCount();
+
+		JobOffer first = jobOfferService.findByTitle(OFFER_TITLE);
+		JobOffer second = jobOfferService.findByTitle(OFFER_TITLE);
+
+		Assertions.assertThat(second).isSameAs(first);
+		Assertions.assertThat(second.getApplicationAmount()).isEqualTo(2);
+		Mockito.verify(jobOfferRepository, Mockito.times(1)).findByTitle(OFFER_TITLE);
+		Assertions.assertThat(jobOfferCache.stats().hitCount()).isEqualTo(hitCount + 1);
+	}
+
+	@Test
+	public void givenCachedOffer_whenIncrementApplicationAmount_thenReloadOffer() {
+		JobOffer offer = new JobOffer(1, OFFER_TITLE, START_DATE, 2);
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE)).thenReturn(offer,
+				new JobOffer(1, OFFER_TITLE, START_DATE, 5));
+
+		jobOfferService.findByTitle(OFFER_TITLE);
+		jobOfferService.incrementApplicationAmount(offer, 3);
+
+		Assertions.assertThat(jobOfferService.findByTitle(OFFER_TITLE).getApplicationAmount()).isEqualTo(5);
+		Mockito.verify(jobOfferRepository).incrementApplicationAmount(1, 3);
+		Mockito.verify(jobOfferRepository, Mockito.times(2)).findByTitle(OFFER_TITLE);
+	}
+
+	@Test
+	public void givenInvalidationDuringLoad_whenFindByTitle_thenDoNotCacheLoadedOffer() {
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE)).thenAnswer(invocation -> {
+			jobOfferCache.invalidate(OFFER_TITLE);
+			return new JobOffer(1, OFFER_TITLE, START_DATE, 2);
+		});
+
+		Assertions.assertThat(jobOfferService.findByTitle(OFFER_TITLE).getApplicationAmount()).isEqualTo(2);
+		Assertions.assertThat(jobOfferCache.size()).isZero();
+	}
+
+	@Test
+	public void givenMissingOffer_whenFindByTitle_thenDoNotCache() {
+		Assertions.assertThat(jobOfferService.findByTitle(OFFER_TITLE)).isNull();
+
+		Mockito.when(jobOfferRepository.findByTitle(OFFER_TITLE))
+				.thenReturn(new JobOffer(1, OFFER_TITLE, START_DATE, 0));
+
+		Assertions.assertThat(jobOfferService.findByTitle(OFFER_TITLE)).isNotNull();
+	}
+
+	@Test
+	public void givenOfferMissingFromReadModel_whenFindSummaryByTitle_thenLoadItOnce() {
+		final String title = "summarized offer";
+		final Date lastActivity = new Date();
+		Mockito.when(jobOfferRepository.findByTitle(title)).thenReturn(new JobOffer(7, title, START_DATE, 3));
+		Mockito.when(jobApplicationRepository.countByJobOfferIdAndStatus(Collections.singleton(7)))
+				.thenReturn(Collections.singletonList(new Object[] { 7, JobApplicationStatusEnum.INVITED, 3L }));
+		Mockito.when(jobApplicationStatusHistoryRepository.findLastChangedAtByJobOfferId(Collections.singleton(7)))
+				.thenReturn(Collections.singletonList(new Object[] { 7, lastActivity }));
+
+		JobOfferSummary first = jobOfferService.findSummaryByTitle(title);
+		JobOfferSummary second = jobOfferService.findSummaryByTitle(title);
+
+		Assertions.assertThat(second).isSameAs(first);
+		Assertions.assertThat(second.getApplicationAmount()).isEqualTo(3);
+		Assertions.assertThat(second.getApplicationsPerStatus()).containsEntry(JobApplicationStatusEnum.INVITED, 3L);
+		Assertions.assertThat(second.getLastActivity()).isEqualTo(lastActivity);
+		Mockito.verify(jobApplicationRepository, Mockito.times(1)).countByJobOfferIdAndStatus(Mockito.anyCollection());
+		Assertions.assertThat(jobOfferService.findSummaryByTitle("missing offer")).isNull();
+	}
+
 }
@@ -0,0 +1,163 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummary;
+import com.efrota.recruitingprocess.service.summary.JobOfferSummaryReadModel;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+public class JobOfferSummaryReadModelUnitTest {
+
+	private JobOfferSummaryReadModel readModel;
+
+	@Before
+	public void createOffers() {
+		readModel = new JobOfferSummaryReadModel();
+		readModel.offerCreated(new JobOffer(1, "offer 1", null, 0));
+		readModel.offerCreated(new JobOffer(2, "offer 2", null, 0));
+		readModel.offerCreated(new JobOffer(3, "offer 3", null, 0));
+		readModel.offerCreated(new JobOffer());
+		readModel.offerCreated(null);
+	}
+
+	@Test
+	public void givenTransitions_whenFindByTitle_thenReturnCountsAndLastActivity() {
+		Date applied = new Date(1000);
+		Date invited = new Date(2000);
+
+		readModel.changeBegins(2);
+		readModel.applicationsMoved(2, null, JobApplicationStatusEnum.APPLIED, 3, applied);
+		readModel.changeBegins(2);
+		readModel.applicationsMoved(2, JobApplicationStatusEnum.APPLIED, JobApplicationStatusEnum.INVITED, 2,
+				invited);
+		readModel.changeBegins(2);
+		// a late commit does not move the last activity back
+		readModel.applicationsMoved(2, JobApplicationStatusEnum.INVITED, JobApplicationStatusEnum.HIRED, 1,
+				applied);
+
+		JobOfferSummary summary = readModel.findByTitle("offer 2");
+
+		Assertions.assertThat(summary.getApplicationAmount()).isEqualTo(3);
+		Assertions.assertThat(summary.getApplicationsPerStatus())
+				.containsEntry(JobApplicationStatusEnum.APPLIED, 1L)
+				.containsEntry(JobApplicationStatusEnum.INVITED, 1L)
+				.containsEntry(JobApplicationStatusEnum.HIRED, 1L)
+				.containsEntry(JobApplicationStatusEnum.REJECTED, 0L);
+		Assertions.assertThat(summary.getLastActivity()).isEqualTo(invited);
+		Assertions.assertThat(readModel.findByTitle("offer 1").getLastActivity()).isNull();
+	}
+
+	@Test
+	public void givenUnknownOffer_whenApplicationsMoved_thenIgnore() {
+		readModel.changeBegins(9);
+		readModel.applicationsMoved(9, null, JobApplicationStatusEnum.APPLIED, 1, new Date());
+
+		Assertions.assertThat(readModel.size()).isEqualTo(3);
+		Assertions.assertThat(readModel.findByTitle("offer 9")).isNull();
+		Assertions.assertThat(readModel.findByTitle(null)).isNull();
+	}
+
+	@Test
+	public void givenCursor_whenFindAll_thenReturnPageAfterIt() {
+		Assertions.assertThat(readModel.findAll(0, 2)).extracting(JobOfferSummary::getId).containsExactly(1, 2);
+		Assertions.assertThat(readModel.findAll(2, 2)).extracting(JobOfferSummary::getId).containsExactly(3);
+		Assertions.assertThat(readModel.findAll(3, 2)).isEmpty();
+	}
+
+	@Test
+	public void givenRebuild_whenReplaceAll_thenReturnChangedAndDropMissing() {
+		List<String> changed = readModel.replaceAll(Arrays.asList(
+				new JobOfferSummary(1, "offer 1", null, Collections.emptyMap(), null),
+				new JobOfferSummary(3, "offer 3", null,
+						Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 4L), new Date()),
+				new JobOfferSummary(4, "offer 4", null, Collections.emptyMap(), null)), readModel.beginSnapshot());
+
+		Assertions.assertThat(changed).containsExactly("offer 3", "offer 4");
+		Assertions.assertThat(readModel.findAll(0, 10)).extracting(JobOfferSummary::getId).containsExactly(1, 3, 4);
+		Assertions.assertThat(readModel.findByTitle("offer 2")).isNull();
+		Assertions.assertThat(readModel.findByTitle("offer 3").getApplicationAmount()).isEqualTo(4);
+	}
+
+	@Test
+	public void givenChangesDuringRebuild_whenReplaceAll_thenKeepThem() {
+		final long snapshot = readModel.beginSnapshot();
+
+		readModel.offerCreated(new JobOffer(5, "offer 5", null, 0));
+		readModel.changeBegins(1);
+		readModel.applicationsMoved(1, null, JobApplicationStatusEnum.APPLIED, 2, new Date());
+
+		List<String> changed = readModel.replaceAll(Arrays.asList(
+				new JobOfferSummary(1, "offer 1", null, Collections.emptyMap(), null),
+				new JobOfferSummary(3, "offer 3", null,
+						Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 4L), new Date())), snapshot);
+
+		Assertions.assertThat(changed).containsExactly("offer 3");
+		Assertions.assertThat(readModel.findAll(0, 10)).extracting(JobOfferSummary::getId).containsExactly(1, 3, 5);
+		Assertions.assertThat(readModel.findByTitle("offer 1").getApplicationAmount()).isEqualTo(2);
+		Assertions.assertThat(readModel.findByTitle("offer 5")).isNotNull();
+		Assertions.assertThat(readModel.findByTitle("offer 2")).isNull();
+	}
+
+	@Test
+	public void givenCommitReadByRebuild_whenAppliedAfterReplaceAll_thenCountItOnce() {
+		// begun before the commit, read by the snapshot, applied after the rebuild
+		readModel.changeBegins(1);
+		final long snapshot = readModel.beginSnapshot();
+
+		List<String> changed = readModel.replaceAll(Arrays.asList(
+				new JobOfferSummary(1, "offer 1", null, Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 2L),
+						new Date()),
+				new JobOfferSummary(2, "offer 2", null, Collections.emptyMap(), null),
+				new JobOfferSummary(3, "offer 3", null, Collections.emptyMap(), null)), snapshot);
+		readModel.applicationsMoved(1, null, JobApplicationStatusEnum.APPLIED, 2, new Date());
+
+		Assertions.assertThat(changed).isEmpty();
+		Assertions.assertThat(readModel.findByTitle("offer 1").getApplicationAmount()).isEqualTo(2);
+
+		// applied after the snapshot began, so still not replaced by it
+		readModel.replaceAll(Collections.singletonList(
+				new JobOfferSummary(1, "offer 1", null, Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 2L),
+						new Date())), snapshot);
+
+		Assertions.assertThat(readModel.findByTitle("offer 1").getApplicationAmount()).isEqualTo(2);
+	}
+
+	@Test
+	public void givenRolledBackChange_whenReplaceAll_thenReplaceFromNextSnapshot() {
+		readModel.changeBegins(1);
+		readModel.changeAborted(1);
+
+		readModel.replaceAll(Collections.singletonList(
+				new JobOfferSummary(1, "offer 1", null, Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 1L),
+						null)), readModel.beginSnapshot());
+
+		Assertions.assertThat(readModel.findByTitle("offer 1").getApplicationAmount()).isEqualTo(1);
+	}
+
+	@Test
+	public void givenChangeInProgress_whenPutIfAbsent_thenReturnWithoutStoring() {
+		readModel.changeBegins(9);
+		final long snapshot = readModel.beginSnapshot();
+		JobOfferSummary loaded = new JobOfferSummary(9, "offer 9", null,
+				Collections.singletonMap(JobApplicationStatusEnum.APPLIED, 1L), new Date());
+
+		Assertions.assertThat(readModel.putIfAbsent(loaded, snapshot)).isSameAs(loaded);
+		Assertions.assertThat(readModel.findByTitle("offer 9")).isNull();
+
+		readModel.applicationsMoved(9, null, JobApplicationStatusEnum.APPLIED, 1, new Date());
+
+		Assertions.assertThat(readModel.putIfAbsent(loaded, readModel.beginSnapshot())).isSameAs(loaded);
+		Assertions.assertThat(readModel.findByTitle("offer 9")).isSameAs(loaded);
+	}
+}
@@ -0,0 +1,82 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.service.notification.NotificationDispatcher;
+import com.efrota.recruitingprocess.service.notification.NotificationSender;
+import com.efrota.recruitingprocess.service.notification.NotificationService;
+
+@RunWith(SpringRunner.class)
+public class NotificationDispatcherUnitTest {
+
+	@TestConfiguration
+	static class NotificationDispatcherTestContextConfig {
+		@Bean
+		public NotificationDispatcher notificationDispatcher() {
+			return new NotificationDispatcher();
+		}
+	}
+
+	@Autowired
+	private NotificationDispatcher notificationDispatcher;
+	@MockitoBean
+	private NotificationService notificationService;
+	@MockitoBean
+	private NotificationSender notificationSender;
+
+	@Test
+	public void givenClaimedNotifications_whenDispatch_thenMarkSentAndRetryFailed() throws Exception {
+		Notification delivered = createNotification(1, "delivered@email.com");
+		Notification undelivered = createNotification(2, "undelivered@email.com");
+		IOException failure = new IOException("gateway down");
+
+		Mockito.when(notificationService.claim()).thenReturn(Arrays.asList(delivered, undelivered),
+				Collections.emptyList());
+		Mockito.doThrow(failure).when(notificationSender).send(undelivered);
+
+		Assertions.assertThat(notificationDispatcher.dispatch()).isEqualTo(1);
+
+		Mockito.verify(notificationSender).send(delivered);
+		Mockito.verify(notificationService).markSent(Collections.singletonList(1));
+		Mockito.verify(notificationService).markFailed(undelivered, failure);
+	}
+
+	@Test
+	public void givenConcurrentClaim_whenDispatch_thenSkip() throws Exception {
+		Mockito.when(notificationService.claim())
+				.thenThrow(new ObjectOptimisticLockingFailureException(Notification.class, 1));
+
+		Assertions.assertThat(notificationDispatcher.dispatch()).isEqualTo(0);
+
+		Mockito.verifyNoInteractions(notificationSender);
+	}
+
+	@Test
+	public void givenOldSentNotifications_whenPurge_thenReturnPurgedAmount() {
+		Mockito.when(notificationService.purgeSent()).thenReturn(3);
+
+		Assertions.assertThat(notificationDispatcher.purge()).isEqualTo(3);
+	}
+
+	private Notification createNotification(int id, String email) {
+		Notification notification = new Notification(email, "offer", JobApplicationStatusEnum.INVITED, new Date());
+		notification.setId(id);
+		return notification;
+	}
+}
@@ -0,0 +1,96 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.efrota.recruitingprocess.enums.JobApplicationStatusEnum;
+import com.efrota.recruitingprocess.enums.NotificationStatusEnum;
+import com.efrota.recruitingprocess.model.Notification;
+import com.efrota.recruitingprocess.repository.NotificationRepository;
+import com.efrota.recruitingprocess.service.notification.NotificationService;
+import com.efrota.recruitingprocess.service.notification.NotificationServiceImpl;
+
+@RunWith(SpringRunner.class)
+public class NotificationServiceUnitTest {
+
+	@TestConfiguration
+	static class NotificationServiceImplTestContextConfig {
+		@Bean
+		public NotificationService notificationService() {
+			return new NotificationServiceImpl();
+		}
+	}
+
+	@Autowired
+	private NotificationService notificationService;
+	@MockitoBean
+	private NotificationRepository notificationRepository;
+
+	@Test
+	public void givenReadyNotifications_whenClaim_thenCountAttemptAndHideForLease() {
+		Date now = new Date();
+		Notification notification = new Notification("email@email.com", "offer", JobApplicationStatusEnum.HIRED, now);
+
+		Mockito.when(notificationRepository.findReady(Mockito.eq(NotificationStatusEnum.PENDING), Mockito.any(),
+				Mockito.any(Pageable.class))).thenReturn(Arrays.asList(notification));
+
+		Assertions.assertThat(notificationService.claim()).containsExactly(notification);
+		Assertions.assertThat(notification.getAttempts()).isEqualTo(1);
+		Assertions.assertThat(notification.getNextAttemptAt()).isAfter(now);
+	}
+
+	@Test
+	public void givenFailedNotification_whenMarkFailed_thenRetryWithBackoff() {
+		Notification notification = createNotification(3);
+
+		long before = System.currentTimeMillis();
+		notificationService.markFailed(notification, new IllegalStateException("gateway down"));
+
+		// third attempt: initial backoff doubled twice
+		Mockito.verify(notificationRepository).markFailed(Mockito.eq(1), Mockito.eq(NotificationStatusEnum.PENDING),
+				Mockito.argThat(next -> next.getTime() >= before + 4000), Mockito.eq("gateway down"));
+	}
+
+	@Test
+	public void givenExhaustedNotification_whenMarkFailed_thenGiveUp() {
+		Notification notification = createNotification(10);
+
+		notificationService.markFailed(notification, new IllegalStateException("gateway down"));
+
+		Mockito.verify(notificationRepository).markFailed(Mockito.eq(1), Mockito.eq(NotificationStatusEnum.FAILED),
+				Mockito.any(), Mockito.eq("gateway down"));
+	}
+
+	@Test
+	public void givenSentNotifications_whenPurgeSent_thenDeleteOlderThanRetention() {
+		Mockito.when(notificationRepository.deleteSentBefore(Mockito.any())).thenReturn(2);
+
+		long before = System.currentTimeMillis();
+
+		Assertions.assertThat(notificationService.purgeSent()).isEqualTo(2);
+
+		// default retention of 7 days
+		Mockito.verify(notificationRepository).deleteSentBefore(Mockito.argThat(
+				sentBefore -> sentBefore.getTime() >= before - 604800000L
+						&& sentBefore.getTime() <= System.currentTimeMillis() - 604800000L));
+	}
+
+	private Notification createNotification(int attempts) {
+		Notification notification = new Notification("email@email.com", "offer", JobApplicationStatusEnum.INVITED,
+				new Date());
+		notification.setId(1);
+		notification.setAttempts(attempts);
+		return notification;
+	}
+}
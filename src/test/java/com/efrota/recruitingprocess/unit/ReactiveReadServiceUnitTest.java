@@ -0,0 +1,114 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.efrota.recruitingprocess.exception.NotFoundException;
+import com.efrota.recruitingprocess.model.JobOffer;
+import com.efrota.recruitingprocess.service.JobApplicationService;
+import com.efrota.recruitingprocess.service.JobOfferService;
+import com.efrota.recruitingprocess.service.reactive.ReactiveReadService;
+import com.efrota.recruitingprocess.service.reactive.ReactiveReadServiceImpl;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import reactor.core.publisher.BaseSubscriber;
+
+@RunWith(SpringRunner.class)
+@TestPropertySource(properties = { "reactive.page-size=2", "reactive.jdbc-threads=2" })
+public class ReactiveReadServiceUnitTest {
+
+	@TestConfiguration
+	static class ReactiveReadServiceImplTestContextConfig {
+		@Bean
+		public ReactiveReadService reactiveReadService() {
+			return new ReactiveReadServiceImpl();
+		}
+	}
+
+	@Autowired
+	private ReactiveReadService reactiveReadService;
+	@MockitoBean
+	private JobOfferService jobOfferService;
+	@MockitoBean
+	private JobApplicationService jobApplicationService;
+
+	@Test
+	public void givenOffers_whenFindAllJobOffers_thenReadPagesOnDemand() {
+		Mockito.when(jobOfferService.findAll(0, 2)).thenReturn(Arrays.asList(offer(1), offer(2)));
+		Mockito.when(jobOfferService.findAll(2, 2)).thenReturn(Arrays.asList(offer(3), offer(4)));
+		Mockito.when(jobOfferService.findAll(4, 2)).thenReturn(Collections.singletonList(offer(5)));
+
+		List<JobOffer> firstOffers = reactiveReadService.findAllJobOffers().take(2).collectList().block();
+
+		Assertions.assertThat(firstOffers).extracting(JobOffer::getId).containsExactly(1, 2);
+		Mockito.verify(jobOfferService, Mockito.never()).findAll(4, 2);
+
+		List<JobOffer> offers = reactiveReadService.findAllJobOffers().collectList().block();
+
+		Assertions.assertThat(offers).extracting(JobOffer::getId).containsExactly(1, 2, 3, 4, 5);
+		Mockito.verify(jobOfferService).findAll(4, 2);
+	}
+
+	@Test
+	public void givenLimitedDemand_whenFindAllJobOffers_thenReadOnlyOnePageAhead() throws Exception {
+		for (int afterId = 0; afterId < 200; afterId += 2) {
+			Mockito.when(jobOfferService.findAll(afterId, 2)).thenReturn(Arrays.asList(offer(afterId + 1),
+					offer(afterId + 2)));
+		}
+
+		List<JobOffer> received = new CopyOnWriteArrayList<>();
+		BaseSubscriber<JobOffer> subscriber = new BaseSubscriber<JobOffer>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(JobOffer value) {
+				received.add(value);
+			}
+		};
+		reactiveReadService.findAllJobOffers().subscribe(subscriber);
+
+		Mockito.verify(jobOfferService, Mockito.timeout(1000)).findAll(0, 2);
+		Mockito.verify(jobOfferService, Mockito.after(200).atMost(2)).findAll(Mockito.anyInt(), Mockito.eq(2));
+		Assertions.assertThat(received).hasSize(1);
+
+		subscriber.request(2);
+
+		Mockito.verify(jobOfferService, Mockito.timeout(1000)).findAll(2, 2);
+		Mockito.verify(jobOfferService, Mockito.after(200).atMost(3)).findAll(Mockito.anyInt(), Mockito.eq(2));
+		Assertions.assertThat(received).extracting(JobOffer::getId).containsExactly(1, 2, 3);
+
+		subscriber.dispose();
+	}
+
+	@Test
+	public void givenOffer_whenFindJobOfferByTitle_thenReturnOffer() {
+		Mockito.when(jobOfferService.findByTitle("offer")).thenReturn(offer(1));
+
+		Assertions.assertThat(reactiveReadService.findJobOfferByTitle("offer").block().getId()).isEqualTo(1);
+	}
+
+	@Test(expected = NotFoundException.class)
+	public void givenNonExistingOffer_whenFindJobOfferByTitle_thenSignalNotFoundException() {
+		reactiveReadService.findJobOfferByTitle("unknown").block();
+	}
+
+	private static JobOffer offer(int id) {
+		return new JobOffer(id, "offer " + id, null, 0);
+	}
+}
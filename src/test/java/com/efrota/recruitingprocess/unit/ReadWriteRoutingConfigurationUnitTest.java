@@ -0,0 +1,50 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.efrota.recruitingprocess.config.ReadWriteRoutingConfiguration;
+import com.efrota.recruitingprocess.config.ReadWriteRoutingDataSource;
+import com.efrota.recruitingprocess.config.ReplicaLagGuard;
+import com.efrota.recruitingprocess.model.constants.DataSourceConstants;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@RunWith(SpringRunner.class)
+public class ReadWriteRoutingConfigurationUnitTest {
+
+	private static final String URL = "jdbc:h2:mem:routingconfiguration";
+
+	@Test
+	public void givenRoutingDataSource_whenClosePools_thenClosePrimaryAndReplica() throws Exception {
+		ReadWriteRoutingConfiguration configuration = new ReadWriteRoutingConfiguration();
+		DataSourceProperties properties = new DataSourceProperties();
+		properties.setUrl(URL);
+		properties.afterPropertiesSet();
+
+		DataSource dataSource = configuration.dataSource(properties,
+				new MockEnvironment().withProperty(DataSourceConstants.REPLICA_URL, URL), new SimpleMeterRegistry(),
+				new ReplicaLagGuard(1000));
+		try (Connection connection = dataSource.getConnection()) {
+			connection.isValid(1);
+		}
+
+		Map<Object, DataSource> pools = ((ReadWriteRoutingDataSource) ((LazyConnectionDataSourceProxy) dataSource)
+				.getTargetDataSource()).getResolvedDataSources();
+		configuration.closePools();
+
+		Assertions.assertThat(pools).hasSize(2);
+		Assertions.assertThat(pools.values()).allMatch(pool -> ((HikariDataSource) pool).isClosed());
+	}
+}
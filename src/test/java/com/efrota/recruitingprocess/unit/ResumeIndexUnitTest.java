@@ -0,0 +1,80 @@
+package com.efrota.recruitingprocess.unit;
+
+import java.util.List;
+
+import com.efrota.recruitingprocess.service.search.ResumeIndex;
+import com.efrota.recruitingprocess.service.search.ResumeSearchHit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.junit4.SpringRunner;
+
+@RunWith(SpringRunner.class)
+public class ResumeIndexUnitTest {
+
+	private ResumeIndex resumeIndex;
+
+	@Before
+	public void indexResumes() {
+		resumeIndex = new ResumeIndex();
+		resumeIndex.index(1, 10, "Senior Java developer, Spring Boot and Hibernate.");
+		resumeIndex.index(2, 10, "Java, Java, Java: ten years of Java.");
+		resumeIndex.index(3, 20, "Spring gardener, boot maker.");
+		resumeIndex.index(4, 20, "Python and Spring Boot microservices.");
+		resumeIndex.index(5, 20, null);
+	}
+
+	@Test
+	public void givenResumes_whenIndex_thenSkipEmptyAndRepeated() {
+		resumeIndex.index(1, 10, "Cobol.");
+
+		Assertions.assertThat(resumeIndex.size()).isEqualTo(4);
+		Assertions.assertThat(resumeIndex.search("cobol", null, null, 10)).isEmpty();
+	}
+
+	@Test
+	public void givenKeywords_whenSearch_thenReturnAnyMatchByRelevance() {
+		List<ResumeSearchHit> hits = resumeIndex.search("JAVA python", null, null, 10);
+
+		// the rarer term weights more, then the more frequent one
+		Assertions.assertThat(hits).extracting(ResumeSearchHit::getJobApplicationId).containsExactly(4, 2, 1);
+		Assertions.assertThat(hits.get(1).getScore()).isGreaterThan(hits.get(2).getScore());
+	}
+
+	@Test
+	public void givenPhrase_whenSearch_thenReturnOnlyConsecutiveTerms() {
+		List<ResumeSearchHit> hits = resumeIndex.search(null, "spring boot", null, 10);
+
+		Assertions.assertThat(hits).extracting(ResumeSearchHit::getJobApplicationId).containsOnly(1, 4);
+	}
+
+	@Test
+	public void givenPhraseAndKeywords_whenSearch_thenKeywordsRaiseRelevance() {
+		List<ResumeSearchHit> hits = resumeIndex.search("python", "spring boot", null, 10);
+
+		Assertions.assertThat(hits).extracting(ResumeSearchHit::getJobApplicationId).containsExactly(4, 1);
+	}
+
+	@Test
+	public void givenOfferFilter_whenSearch_thenReturnOnlyApplicationsOfTheOffer() {
+		List<ResumeSearchHit> hits = resumeIndex.search("spring", null, 20, 10);
+
+		Assertions.assertThat(hits).extracting(ResumeSearchHit::getJobApplicationId).containsOnly(3, 4);
+	}
+
+	@Test
+	public void givenSize_whenSearch_thenReturnTopHits() {
+		List<ResumeSearchHit> hits = resumeIndex.search("java spring", null, null, 2);
+
+		Assertions.assertThat(hits).hasSize(2);
+		Assertions.assertThat(hits.get(0).getJobApplicationId()).isEqualTo(2);
+	}
+
+	@Test
+	public void givenUnknownTerms_whenSearch_thenReturnEmpty() {
+		Assertions.assertThat(resumeIndex.search("rust", null, null, 10)).isEmpty();
+		Assertions.assertThat(resumeIndex.search(null, "boot spring", null, 10)).isEmpty();
+	}
+}
@@ -0,0 +1,43 @@
+package com.efrota.recruitingprocess.unit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.efrota.recruitingprocess.model.constants.ExecutionConstants;
+import com.efrota.recruitingprocess.utils.VirtualThreadUtils;
+
+@RunWith(SpringRunner.class)
+public class VirtualThreadUtilsUnitTest {
+
+	@Test
+	public void givenJava21Build_whenNewVirtualThreadFactory_thenCreateNamedVirtualThreads() throws Exception {
+		Assume.assumeTrue(VirtualThreadUtils.isSupported());
+
+		Thread thread = VirtualThreadUtils.newThreadFactory(ExecutionConstants.VIRTUAL, "virtual-")
+				.newThread(() -> {
+				});
+
+		Assertions.assertThat(thread.getName()).isEqualTo("virtual-1");
+		Assertions.assertThat((Boolean) Thread.class.getMethod("isVirtual").invoke(thread)).isTrue();
+	}
+
+	@Test
+	public void givenPlatformMode_whenNewThreadFactory_thenCreateNamedPlatformThreads() {
+		Thread thread = VirtualThreadUtils.newThreadFactory("platform", "platform-").newThread(() -> {
+		});
+
+		Assertions.assertThat(thread.getName()).isEqualTo("platform-1");
+		Assertions.assertThat(thread.isDaemon()).isFalse();
+	}
+
+	@Test
+	public void givenJava17Build_whenNewVirtualThreadFactory_thenThrowIllegalState() {
+		Assume.assumeFalse(VirtualThreadUtils.isSupported());
+
+		Assertions.assertThatThrownBy(() -> VirtualThreadUtils.newVirtualThreadFactory("virtual-"))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("Java 21");
+	}
+}